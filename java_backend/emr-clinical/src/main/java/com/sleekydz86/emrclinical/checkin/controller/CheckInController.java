@@ -0,0 +1,47 @@
+package com.sleekydz86.emrclinical.checkin.controller;
+
+import com.sleekydz86.core.audit.annotation.AuditLog;
+import com.sleekydz86.core.common.annotation.AuthRole;
+import com.sleekydz86.emrclinical.checkin.dto.CheckInCancelRequest;
+import com.sleekydz86.emrclinical.checkin.dto.CheckInUserChangeRequest;
+import com.sleekydz86.emrclinical.checkin.service.CheckInService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/checkin")
+@RequiredArgsConstructor
+public class CheckInController {
+
+    private final CheckInService checkInService;
+
+    @PostMapping("/{checkInId}/complete")
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    @AuditLog(action = AuditLog.ActionType.UPDATE)
+    public ResponseEntity<Void> completeCheckIn(@PathVariable Long checkInId) {
+        checkInService.completeCheckIn(checkInId);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{checkInId}/cancel")
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    @AuditLog(action = AuditLog.ActionType.UPDATE)
+    public ResponseEntity<Void> cancelCheckIn(
+            @PathVariable Long checkInId,
+            @Valid @RequestBody(required = false) CheckInCancelRequest request) {
+        checkInService.cancelCheckIn(checkInId, request != null ? request.getCancelReason() : null);
+        return ResponseEntity.ok().build();
+    }
+
+    @PutMapping("/{checkInId}/doctor")
+    @AuthRole({"STAFF", "ADMIN"})
+    @AuditLog(action = AuditLog.ActionType.UPDATE)
+    public ResponseEntity<Void> changeCheckInDoctor(
+            @PathVariable Long checkInId,
+            @Valid @RequestBody CheckInUserChangeRequest request) {
+        checkInService.changeCheckInUser(checkInId, request.getUserId());
+        return ResponseEntity.ok().build();
+    }
+}
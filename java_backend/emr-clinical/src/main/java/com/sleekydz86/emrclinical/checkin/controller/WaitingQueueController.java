@@ -0,0 +1,87 @@
+package com.sleekydz86.emrclinical.checkin.controller;
+
+import com.sleekydz86.core.common.annotation.AuthRole;
+import com.sleekydz86.core.common.exception.custom.NotFoundException;
+import com.sleekydz86.core.tenant.TenantContext;
+import com.sleekydz86.emrclinical.checkin.dto.WaitingEntryResponse;
+import com.sleekydz86.emrclinical.checkin.dto.WaitingQueueResponse;
+import com.sleekydz86.emrclinical.checkin.queue.WaitingQueue;
+import com.sleekydz86.emrclinical.checkin.queue.WaitingQueueKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+@RestController
+@RequestMapping("/api/checkin/queue")
+@RequiredArgsConstructor
+public class WaitingQueueController {
+
+    // 프록시가 유휴 연결을 끊지 않도록 보내는 주석 이벤트 간격
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+
+    private final WaitingQueue waitingQueue;
+
+    @GetMapping("/doctor/{doctorId}")
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    public ResponseEntity<WaitingQueueResponse> getDoctorQueue(@PathVariable Long doctorId) {
+        return ResponseEntity.ok(waitingQueue.snapshot(WaitingQueueKey.doctor(doctorId), visibleTenant()));
+    }
+
+    @GetMapping("/department/{departmentId}")
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    public ResponseEntity<WaitingQueueResponse> getDepartmentQueue(@PathVariable Long departmentId) {
+        return ResponseEntity.ok(waitingQueue.snapshot(WaitingQueueKey.department(departmentId), visibleTenant()));
+    }
+
+    @GetMapping("/{checkInId}/position")
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    public ResponseEntity<WaitingEntryResponse> getPosition(@PathVariable Long checkInId) {
+        return waitingQueue.position(checkInId, visibleTenant())
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new NotFoundException("대기 중인 접수가 아닙니다. ID: " + checkInId));
+    }
+
+    @GetMapping(value = "/doctor/{doctorId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    public Flux<ServerSentEvent<WaitingQueueResponse>> streamDoctorQueue(@PathVariable Long doctorId) {
+        return stream(WaitingQueueKey.doctor(doctorId));
+    }
+
+    @GetMapping(value = "/department/{departmentId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    public Flux<ServerSentEvent<WaitingQueueResponse>> streamDepartmentQueue(@PathVariable Long departmentId) {
+        return stream(WaitingQueueKey.department(departmentId));
+    }
+
+    private Flux<ServerSentEvent<WaitingQueueResponse>> stream(WaitingQueueKey key) {
+        Flux<ServerSentEvent<WaitingQueueResponse>> updates = waitingQueue.watch(key, visibleTenant())
+                .map(queue -> ServerSentEvent.builder(queue).event("queue").build());
+        Flux<ServerSentEvent<WaitingQueueResponse>> heartbeat = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<WaitingQueueResponse>builder().comment("heartbeat").build());
+        return Flux.merge(updates, heartbeat);
+    }
+
+    // 스트림은 다른 스레드에서 전송되므로 요청 스레드의 기관 정보를 미리 꺼내 둠
+    private Predicate<String> visibleTenant() {
+        if (!TenantContext.shouldFilterByTenant()) {
+            return tenantId -> true;
+        }
+        Set<String> tenants = new HashSet<>();
+        List<String> tenantIds = TenantContext.getTenantIds();
+        if (tenantIds != null) {
+            tenants.addAll(tenantIds);
+        }
+        if (TenantContext.getTenantId() != null) {
+            tenants.add(TenantContext.getTenantId());
+        }
+        return tenants::contains;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sleekydz86.emrclinical.checkin.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CheckInCancelRequest {
+
+    @Size(max = 500, message = "취소 사유는 최대 500자까지 가능합니다.")
+    private String cancelReason;
+}
@@ -0,0 +1,13 @@
+package com.sleekydz86.emrclinical.checkin.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CheckInUserChangeRequest {
+
+    @NotNull(message = "담당 의사 ID는 필수입니다.")
+    private Long userId;
+}
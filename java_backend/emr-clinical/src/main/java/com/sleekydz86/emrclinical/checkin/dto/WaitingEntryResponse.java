@@ -0,0 +1,16 @@
+package com.sleekydz86.emrclinical.checkin.dto;
+
+import java.time.LocalDateTime;
+
+public record WaitingEntryResponse(
+        Long checkInId,
+        Long patientNo,
+        String patientName,
+        Long doctorId,
+        String doctorName,
+        Long departmentId,
+        LocalDateTime checkInDate,
+        int position,
+        long estimatedWaitMinutes
+) {
+}
@@ -0,0 +1,14 @@
+package com.sleekydz86.emrclinical.checkin.dto;
+
+import com.sleekydz86.emrclinical.checkin.queue.WaitingQueueKey;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record WaitingQueueResponse(
+        WaitingQueueKey.Type queueType,
+        Long queueId,
+        int size,
+        List<WaitingEntryResponse> entries,
+        LocalDateTime updatedAt
+) {
+}
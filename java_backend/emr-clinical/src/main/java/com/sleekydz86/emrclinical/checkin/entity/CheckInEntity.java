@@ -13,7 +13,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity(name = "CheckIn")
-@Table(name = "check_in")
+@Table(name = "check_in", indexes = {
+        @Index(name = "idx_check_in_status_date", columnList = "checkIn_status, checkIn_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CheckInEntity extends BaseEntity {
@@ -61,6 +63,10 @@ public class CheckInEntity extends BaseEntity {
         this.checkInComment = checkInComment;
     }
 
+    public void changeUser(UserEntity userEntity) {
+        this.userEntity = userEntity;
+    }
+
     public void complete() {
         this.checkInStatus = CheckInStatus.COMPLETED;
     }
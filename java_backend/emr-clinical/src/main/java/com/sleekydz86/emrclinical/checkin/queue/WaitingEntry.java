@@ -0,0 +1,31 @@
+package com.sleekydz86.emrclinical.checkin.queue;
+
+import com.sleekydz86.domain.user.entity.UserEntity;
+import com.sleekydz86.emrclinical.checkin.entity.CheckInEntity;
+import java.time.LocalDateTime;
+
+// 대기열에 올라간 접수 한 건 (화면 표시에 필요한 값만 복사해 둠)
+public record WaitingEntry(
+        Long checkInId,
+        Long patientNo,
+        String patientName,
+        Long doctorId,
+        String doctorName,
+        Long departmentId,
+        String tenantId,
+        LocalDateTime checkInDate
+) {
+    public static WaitingEntry from(CheckInEntity checkIn) {
+        UserEntity doctor = checkIn.getUserEntity();
+        Long departmentId = doctor != null && doctor.getDepartment() != null ? doctor.getDepartment().getId() : null;
+        return new WaitingEntry(
+                checkIn.getCheckInId(),
+                checkIn.getPatientEntity().getPatientNoValue(),
+                checkIn.getPatientEntity().getPatientName(),
+                doctor != null ? doctor.getId() : null,
+                doctor != null ? doctor.getName() : null,
+                departmentId,
+                checkIn.getInttCd(),
+                checkIn.getCheckInDate());
+    }
+}
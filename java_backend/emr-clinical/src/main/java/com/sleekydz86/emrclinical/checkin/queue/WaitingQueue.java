@@ -0,0 +1,183 @@
+package com.sleekydz86.emrclinical.checkin.queue;
+
+import com.sleekydz86.emrclinical.checkin.dto.WaitingEntryResponse;
+import com.sleekydz86.emrclinical.checkin.dto.WaitingQueueResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+// 의사별, 진료과별 대기열. 변경된 대기열 키를 구독자에게 알리고 구독자는 최신 상태를 다시 읽음
+@Component
+public class WaitingQueue {
+
+    // 접수 순서 (같은 시각이면 접수 ID 순)
+    private static final Comparator<WaitingEntry> ORDER = Comparator.comparing(WaitingEntry::checkInDate)
+            .thenComparing(WaitingEntry::checkInId);
+
+    // 진료 완료 간격의 이동 평균 반영 비율. 이보다 긴 간격은 휴식 등으로 보고 반영하지 않음
+    private static final double SMOOTHING = 0.2;
+    private static final long MAX_COMPLETION_GAP_MINUTES = 60;
+
+    private final Map<Long, WaitingEntry> entries = new ConcurrentHashMap<>();
+    private final Map<WaitingQueueKey, NavigableSet<WaitingEntry>> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Double> averageMinutes = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> lastCompletedAt = new ConcurrentHashMap<>();
+    private final Sinks.Many<WaitingQueueKey> changes = Sinks.many().multicast().directBestEffort();
+    private final double defaultMinutes;
+
+    public WaitingQueue(@Value("${checkin.queue.average-minutes:10}") double defaultMinutes) {
+        this.defaultMinutes = defaultMinutes;
+    }
+
+    // 쓰기는 직렬화하고(구독자 알림도 한 스레드씩), 조회는 잠금 없이 수행
+    public synchronized void put(WaitingEntry entry) {
+        Set<WaitingQueueKey> changed = new LinkedHashSet<>();
+        WaitingEntry previous = entries.put(entry.checkInId(), entry);
+        if (previous != null) {
+            changed.addAll(unlink(previous));
+        }
+        changed.addAll(link(entry));
+        publish(changed);
+    }
+
+    public synchronized Optional<WaitingEntry> remove(Long checkInId) {
+        WaitingEntry previous = entries.remove(checkInId);
+        if (previous != null) {
+            publish(unlink(previous));
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    // 진료가 끝난 접수를 빼고, 담당 의사의 평균 진료 간격을 갱신
+    public synchronized void complete(Long checkInId, LocalDateTime completedAt) {
+        remove(checkInId).map(WaitingEntry::doctorId).ifPresent(doctorId -> {
+            LocalDateTime previous = lastCompletedAt.put(doctorId, completedAt);
+            if (previous == null) {
+                return;
+            }
+            long gap = Duration.between(previous, completedAt).toMinutes();
+            if (gap > 0 && gap <= MAX_COMPLETION_GAP_MINUTES) {
+                averageMinutes.merge(doctorId, (double) gap,
+                        (average, sample) -> average * (1 - SMOOTHING) + sample * SMOOTHING);
+            }
+        });
+    }
+
+    public synchronized void replaceAll(Collection<WaitingEntry> loaded) {
+        Set<WaitingQueueKey> changed = new LinkedHashSet<>(queues.keySet());
+        entries.clear();
+        queues.clear();
+        for (WaitingEntry entry : loaded) {
+            entries.put(entry.checkInId(), entry);
+            changed.addAll(link(entry));
+        }
+        publish(changed);
+    }
+
+    // 순번과 앞 대기 인원은 조회자가 볼 수 있는 기관의 접수만으로 계산
+    public WaitingQueueResponse snapshot(WaitingQueueKey key, Predicate<String> visibleTenant) {
+        NavigableSet<WaitingEntry> queue = queues.getOrDefault(key, new ConcurrentSkipListSet<>(ORDER));
+        Map<Long, Integer> aheadByDoctor = new HashMap<>();
+        List<WaitingEntryResponse> responses = new ArrayList<>();
+        int position = 0;
+        for (WaitingEntry entry : queue) {
+            if (!visibleTenant.test(entry.tenantId())) {
+                continue;
+            }
+            position++;
+            int ahead = entry.doctorId() != null ? aheadByDoctor.merge(entry.doctorId(), 1, Integer::sum) - 1
+                    : position - 1;
+            responses.add(toResponse(entry, position, ahead));
+        }
+        return new WaitingQueueResponse(key.type(), key.id(), responses.size(), responses, LocalDateTime.now());
+    }
+
+    // 담당 의사 대기열에서의 순번 (의사 미배정이면 진료과 대기열)
+    public Optional<WaitingEntryResponse> position(Long checkInId, Predicate<String> visibleTenant) {
+        WaitingEntry entry = entries.get(checkInId);
+        if (entry == null || !visibleTenant.test(entry.tenantId())) {
+            return Optional.empty();
+        }
+        WaitingQueueKey key = entry.doctorId() != null
+                ? WaitingQueueKey.doctor(entry.doctorId())
+                : WaitingQueueKey.department(entry.departmentId());
+        NavigableSet<WaitingEntry> queue = queues.get(key);
+        int ahead = 0;
+        if (queue != null) {
+            for (WaitingEntry other : queue.headSet(entry, false)) {
+                if (visibleTenant.test(other.tenantId())) {
+                    ahead++;
+                }
+            }
+        }
+        return Optional.of(toResponse(entry, ahead + 1, ahead));
+    }
+
+    // 구독 시점의 상태를 먼저 보내고 이후 변경마다 최신 상태를 보냄. 느린 구독자는 마지막 상태만 받음
+    public Flux<WaitingQueueResponse> watch(WaitingQueueKey key, Predicate<String> visibleTenant) {
+        return Flux.merge(changes.asFlux().filter(key::equals), Mono.just(key))
+                .onBackpressureLatest()
+                .map(changed -> snapshot(key, visibleTenant));
+    }
+
+    private WaitingEntryResponse toResponse(WaitingEntry entry, int position, int ahead) {
+        double minutes = entry.doctorId() != null
+                ? averageMinutes.getOrDefault(entry.doctorId(), defaultMinutes)
+                : defaultMinutes;
+        return new WaitingEntryResponse(entry.checkInId(), entry.patientNo(), entry.patientName(),
+                entry.doctorId(), entry.doctorName(), entry.departmentId(), entry.checkInDate(),
+                position, Math.round(ahead * minutes));
+    }
+
+    private List<WaitingQueueKey> keysOf(WaitingEntry entry) {
+        List<WaitingQueueKey> keys = new ArrayList<>(2);
+        if (entry.doctorId() != null) {
+            keys.add(WaitingQueueKey.doctor(entry.doctorId()));
+        }
+        if (entry.departmentId() != null) {
+            keys.add(WaitingQueueKey.department(entry.departmentId()));
+        }
+        return keys;
+    }
+
+    private List<WaitingQueueKey> link(WaitingEntry entry) {
+        List<WaitingQueueKey> keys = keysOf(entry);
+        for (WaitingQueueKey key : keys) {
+            queues.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(ORDER)).add(entry);
+        }
+        return keys;
+    }
+
+    private List<WaitingQueueKey> unlink(WaitingEntry entry) {
+        List<WaitingQueueKey> keys = keysOf(entry);
+        for (WaitingQueueKey key : keys) {
+            queues.computeIfPresent(key, (k, queue) -> {
+                queue.remove(entry);
+                return queue.isEmpty() ? null : queue;
+            });
+        }
+        return keys;
+    }
+
+    private void publish(Collection<WaitingQueueKey> keys) {
+        keys.forEach(changes::tryEmitNext);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sleekydz86.emrclinical.checkin.queue;
+
+public record WaitingQueueKey(Type type, Long id) {
+
+    public enum Type { DOCTOR, DEPARTMENT }
+
+    public static WaitingQueueKey doctor(Long doctorId) {
+        return new WaitingQueueKey(Type.DOCTOR, doctorId);
+    }
+
+    public static WaitingQueueKey department(Long departmentId) {
+        return new WaitingQueueKey(Type.DEPARTMENT, departmentId);
+    }
+}
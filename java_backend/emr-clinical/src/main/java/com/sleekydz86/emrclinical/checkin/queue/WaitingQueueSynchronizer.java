@@ -0,0 +1,166 @@
+package com.sleekydz86.emrclinical.checkin.queue;
+
+import com.sleekydz86.core.event.domain.CheckInCancelledEvent;
+import com.sleekydz86.core.event.domain.CheckInCompletedEvent;
+import com.sleekydz86.core.event.domain.CheckInRegisteredEvent;
+import com.sleekydz86.core.event.domain.CheckInUpdatedEvent;
+import com.sleekydz86.emrclinical.checkin.repository.CheckInRepository;
+import com.sleekydz86.emrclinical.types.CheckInStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 기동 시 오늘 대기 중인 접수로 대기열을 만들고, 이후에는 접수 이벤트와 Redis 메시지로 노드 간 대기열을 맞춤
+@Component
+@Slf4j
+public class WaitingQueueSynchronizer implements MessageListener {
+
+    private static final String REFRESH_CHANNEL = "checkin:queue:refresh";
+    private static final String COMPLETE_MARK = "!";
+
+    private final WaitingQueue waitingQueue;
+    private final CheckInRepository checkInRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final boolean enabled;
+
+    public WaitingQueueSynchronizer(WaitingQueue waitingQueue,
+                                    CheckInRepository checkInRepository,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${checkin.queue.enabled:true}") boolean enabled) {
+        this.waitingQueue = waitingQueue;
+        this.checkInRepository = checkInRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(REFRESH_CHANNEL));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildQueue() {
+        rebuild();
+    }
+
+    // 날짜가 바뀌면 전날 남은 대기를 비우고, 이벤트 유실로 어긋난 상태도 원본 기준으로 다시 맞춤
+    @Scheduled(cron = "${checkin.queue.rebuild-cron:0 0 0 * * ?}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<WaitingEntry> loaded = readOnlyTransaction.execute(status ->
+                    checkInRepository.findWaiting(CheckInStatus.PENDING, LocalDate.now().atStartOfDay()).stream()
+                            .map(WaitingEntry::from)
+                            .toList());
+            waitingQueue.replaceAll(loaded);
+            log.info("대기열 구성 완료: {}건", loaded.size());
+        } catch (Exception e) {
+            log.error("대기열 구성 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCheckInRegistered(CheckInRegisteredEvent event) {
+        refresh(event.checkInId());
+        broadcast(event.checkInId().toString());
+    }
+
+    // 담당 의사(진료과)가 바뀌면 이전 대기열에서 빼고 새 대기열에 넣음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCheckInUpdated(CheckInUpdatedEvent event) {
+        refresh(event.checkInId());
+        broadcast(event.checkInId().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCheckInCompleted(CheckInCompletedEvent event) {
+        if (enabled) {
+            waitingQueue.complete(event.checkInId(), LocalDateTime.now());
+        }
+        broadcast(COMPLETE_MARK + event.checkInId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCheckInCancelled(CheckInCancelledEvent event) {
+        refresh(event.checkInId());
+        broadcast(event.checkInId().toString());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+        if (parts.length != 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            if (parts[1].startsWith(COMPLETE_MARK)) {
+                waitingQueue.complete(Long.valueOf(parts[1].substring(COMPLETE_MARK.length())), LocalDateTime.now());
+            } else {
+                refresh(Long.valueOf(parts[1]));
+            }
+        } catch (Exception e) {
+            log.error("대기열 동기화 실패: {}", parts[1], e);
+        }
+    }
+
+    // 이벤트에는 진료과 정보가 없으므로 접수를 다시 읽어 대기 중인 경우에만 대기열에 둠
+    private void refresh(Long checkInId) {
+        if (!enabled || checkInId == null) {
+            return;
+        }
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        WaitingEntry entry = readOnlyTransaction.execute(status ->
+                checkInRepository.findWithDetailsByCheckInId(checkInId)
+                        .filter(checkIn -> checkIn.getCheckInStatus() == CheckInStatus.PENDING)
+                        .filter(checkIn -> !checkIn.getCheckInDate().isBefore(today))
+                        .map(WaitingEntry::from)
+                        .orElse(null));
+        if (entry == null) {
+            waitingQueue.remove(checkInId);
+        } else {
+            waitingQueue.put(entry);
+        }
+    }
+
+    private void broadcast(String payload) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(REFRESH_CHANNEL, nodeId + ":" + payload);
+        } catch (Exception e) {
+            log.error("대기열 동기화 메시지 발행 실패: {}", payload, e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,5 +28,15 @@ public interface CheckInRepository extends BaseRepository<CheckInEntity, Long> {
     List<CheckInEntity> findByCheckInStatus(@Param("status") CheckInStatus status);
 
     Optional<CheckInEntity> findByCheckInId(Long checkInId);
+
+    // 대기열 구성용. 환자, 담당 의사, 진료과를 함께 조회
+    @Query("SELECT c FROM CheckIn c JOIN FETCH c.patientEntity LEFT JOIN FETCH c.userEntity u " +
+            "LEFT JOIN FETCH u.department WHERE c.checkInStatus = :status AND c.checkInDate >= :since")
+    List<CheckInEntity> findWaiting(@Param("status") CheckInStatus status,
+                                    @Param("since") LocalDateTime since);
+
+    @Query("SELECT c FROM CheckIn c JOIN FETCH c.patientEntity LEFT JOIN FETCH c.userEntity u " +
+            "LEFT JOIN FETCH u.department WHERE c.checkInId = :checkInId")
+    Optional<CheckInEntity> findWithDetailsByCheckInId(@Param("checkInId") Long checkInId);
 }
 
@@ -1,6 +1,12 @@
 package com.sleekydz86.emrclinical.checkin.service;
 
+import com.sleekydz86.core.common.exception.custom.BusinessException;
 import com.sleekydz86.core.common.exception.custom.NotFoundException;
+import com.sleekydz86.core.event.domain.CheckInCancelledEvent;
+import com.sleekydz86.core.event.domain.CheckInCompletedEvent;
+import com.sleekydz86.core.event.domain.CheckInRegisteredEvent;
+import com.sleekydz86.core.event.domain.CheckInUpdatedEvent;
+import com.sleekydz86.core.event.publisher.EventPublisher;
 import com.sleekydz86.domain.common.service.BaseService;
 import com.sleekydz86.domain.patient.entity.PatientEntity;
 import com.sleekydz86.domain.patient.service.PatientService;
@@ -23,6 +29,7 @@ public class CheckInService implements BaseService<CheckInEntity, Long> {
     private final CheckInRepository checkInRepository;
     private final PatientService patientService;
     private final UserService userService;
+    private final EventPublisher eventPublisher;
 
     public CheckInEntity getById(Long id) {
         return validateExists(checkInRepository, id, "접수를 찾을 수 없습니다. ID: " + id);
@@ -46,7 +53,7 @@ public class CheckInService implements BaseService<CheckInEntity, Long> {
                 .checkInComment("예약으로부터 생성된 접수")
                 .build();
 
-        return checkInRepository.save(checkIn);
+        return publishRegistered(checkInRepository.save(checkIn));
     }
 
     @Transactional
@@ -61,21 +68,65 @@ public class CheckInService implements BaseService<CheckInEntity, Long> {
                 .checkInStatus(CheckInStatus.PENDING)
                 .build();
 
-        return checkInRepository.save(checkIn);
+        return publishRegistered(checkInRepository.save(checkIn));
     }
 
+    // 담당 의사를 바꾸면 대기열도 새 의사(진료과)로 옮겨지도록 이벤트 발행
+    @Transactional
+    public CheckInEntity changeCheckInUser(Long checkInId, Long userId) {
+        CheckInEntity checkIn = getCheckInById(checkInId);
+        if (checkIn.getCheckInStatus() != CheckInStatus.PENDING) {
+            throw new BusinessException("대기 중인 접수만 담당자를 변경할 수 있습니다.");
+        }
+        UserEntity user = userId != null ? userService.getUserById(userId) : null;
+        checkIn.changeUser(user);
+        CheckInEntity saved = checkInRepository.save(checkIn);
+
+        eventPublisher.publish(new CheckInUpdatedEvent(
+                saved.getCheckInId(),
+                saved.getPatientEntity().getPatientNoValue(),
+                user != null ? user.getId() : null));
+        return saved;
+    }
+
+    // 진료를 시작하면 완료 처리되어 대기열에서 빠짐
     @Transactional
     public void completeCheckIn(Long checkInId) {
         CheckInEntity checkIn = getCheckInById(checkInId);
+        if (checkIn.getCheckInStatus() != CheckInStatus.PENDING) {
+            throw new BusinessException("대기 중인 접수만 완료할 수 있습니다.");
+        }
         checkIn.complete();
         checkInRepository.save(checkIn);
+
+        eventPublisher.publish(new CheckInCompletedEvent(
+                checkIn.getCheckInId(),
+                checkIn.getPatientEntity().getPatientNoValue()));
     }
 
     @Transactional
-    public void cancelCheckIn(Long checkInId) {
+    public void cancelCheckIn(Long checkInId, String cancelReason) {
         CheckInEntity checkIn = getCheckInById(checkInId);
+        if (checkIn.getCheckInStatus() != CheckInStatus.PENDING) {
+            throw new BusinessException("대기 중인 접수만 취소할 수 있습니다.");
+        }
         checkIn.cancel();
         checkInRepository.save(checkIn);
+
+        eventPublisher.publish(new CheckInCancelledEvent(
+                checkIn.getCheckInId(),
+                checkIn.getPatientEntity().getPatientNoValue(),
+                cancelReason));
+    }
+
+    private CheckInEntity publishRegistered(CheckInEntity saved) {
+        eventPublisher.publish(new CheckInRegisteredEvent(
+                saved.getCheckInId(),
+                saved.getPatientEntity().getPatientNoValue(),
+                saved.getPatientEntity().getPatientName(),
+                saved.getUserEntity() != null ? saved.getUserEntity().getId() : null,
+                saved.getCheckInDate()));
+        return saved;
     }
 }
 
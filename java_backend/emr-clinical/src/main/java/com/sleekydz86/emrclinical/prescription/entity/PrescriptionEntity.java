@@ -18,6 +18,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity(name = "Prescription")
+@Table(indexes = {
+        @Index(name = "idx_prescription_date", columnList = "prescription_date"),
+        @Index(name = "idx_prescription_doc_date", columnList = "prescription_doc, prescription_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PrescriptionEntity extends BaseEntity {
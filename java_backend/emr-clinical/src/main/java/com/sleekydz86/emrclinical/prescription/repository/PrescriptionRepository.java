@@ -2,6 +2,7 @@ package com.sleekydz86.emrclinical.prescription.repository;
 
 import com.sleekydz86.domain.common.repository.BaseRepository;
 import com.sleekydz86.emrclinical.prescription.entity.PrescriptionEntity;
+import com.sleekydz86.emrclinical.prescription.statistics.PrescriptionStatisticsRow;
 import com.sleekydz86.emrclinical.types.PrescriptionStatus;
 import com.sleekydz86.emrclinical.types.PrescriptionType;
 import org.springframework.data.domain.Page;
@@ -46,5 +47,22 @@ public interface PrescriptionRepository extends BaseRepository<PrescriptionEntit
 
     @Query("SELECT COUNT(p) FROM Prescription p WHERE p.prescriptionDate BETWEEN :start AND :end")
     Long countByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.sleekydz86.emrclinical.prescription.statistics.PrescriptionStatisticsRow(" +
+            "p.inttCd, p.prescriptionStatus, p.prescriptionType, COUNT(p)) FROM Prescription p " +
+            "WHERE p.prescriptionDate >= :start AND p.prescriptionDate < :end " +
+            "GROUP BY p.inttCd, p.prescriptionStatus, p.prescriptionType")
+    List<PrescriptionStatisticsRow> countByStatusAndType(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.sleekydz86.emrclinical.prescription.statistics.PrescriptionStatisticsRow(" +
+            "p.inttCd, p.prescriptionStatus, p.prescriptionType, COUNT(p)) FROM Prescription p " +
+            "WHERE p.prescriptionDoc.id = :doctorId AND p.prescriptionDate >= :start AND p.prescriptionDate < :end " +
+            "GROUP BY p.inttCd, p.prescriptionStatus, p.prescriptionType")
+    List<PrescriptionStatisticsRow> countByDoctorGroupByStatusAndType(@Param("doctorId") Long doctorId,
+                                                                      @Param("start") LocalDateTime start,
+                                                                      @Param("end") LocalDateTime end);
+
+    @Query("SELECT p.prescriptionDate FROM Prescription p WHERE p.prescriptionId = :prescriptionId")
+    Optional<LocalDateTime> findPrescriptionDateById(@Param("prescriptionId") Long prescriptionId);
 }
 
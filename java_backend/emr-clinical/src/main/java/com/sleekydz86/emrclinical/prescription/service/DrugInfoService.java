@@ -5,6 +5,7 @@ import com.sleekydz86.emrclinical.prescription.api.dto.DrugInfoApiResponse;
 import com.sleekydz86.emrclinical.prescription.api.dto.DrugInfoItemResponse;
 import com.sleekydz86.emrclinical.prescription.api.dto.DrugInfoSearchRequest;
 import com.sleekydz86.emrclinical.prescription.api.exception.DrugInfoApiException;
+import com.sleekydz86.core.concurrency.BulkheadRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,6 +24,7 @@ public class DrugInfoService {
 
     private final DrugInfoApiClient apiClient;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final BulkheadRegistry bulkheadRegistry;
 
     @Value("${drug-info.api.cache.enabled:true}")
     private boolean cacheEnabled;
@@ -47,7 +49,9 @@ public class DrugInfoService {
                 }
             }
 
-            DrugInfoApiResponse apiResponse = apiClient.searchDrugInfo(request).block();
+            // 캐시 조회는 한도 밖에서 하고 외부 API 호출만 external-api 한도를 적용
+            DrugInfoApiResponse apiResponse = bulkheadRegistry.execute("external-api",
+                    () -> apiClient.searchDrugInfo(request).block());
 
             if (apiResponse == null || apiResponse.getResponse() == null) {
                 log.warn("Drug Info API 응답이 null입니다.");
@@ -96,7 +100,8 @@ public class DrugInfoService {
             }
         }
 
-        DrugInfoApiResponse apiResponse = apiClient.getDrugInfoByItemSeq(itemSeq).block();
+        DrugInfoApiResponse apiResponse = bulkheadRegistry.execute("external-api",
+                () -> apiClient.getDrugInfoByItemSeq(itemSeq).block());
 
         if (apiResponse == null || apiResponse.getResponse() == null) {
             log.warn("Drug Info API 응답이 null입니다. itemSeq={}", itemSeq);
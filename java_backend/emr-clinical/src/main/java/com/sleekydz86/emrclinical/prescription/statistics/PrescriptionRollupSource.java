@@ -0,0 +1,68 @@
+package com.sleekydz86.emrclinical.prescription.statistics;
+
+import com.sleekydz86.core.event.domain.PrescriptionCancelledEvent;
+import com.sleekydz86.core.event.domain.PrescriptionCreatedEvent;
+import com.sleekydz86.core.event.domain.PrescriptionDispensedEvent;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupSource;
+import com.sleekydz86.emrclinical.prescription.repository.PrescriptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PrescriptionRollupSource implements DailyRollupSource {
+
+    public static final String METRIC = "prescription";
+    public static final String STATUS = "status";
+    public static final String TYPE = "type";
+
+    private final PrescriptionRepository prescriptionRepository;
+    private final DailyRollupService dailyRollupService;
+
+    @Override
+    public String metric() {
+        return METRIC;
+    }
+
+    @Override
+    public List<DailyRollupRecord> aggregate(LocalDate date) {
+        return toRecords(prescriptionRepository.countByStatusAndType(date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+    }
+
+    static List<DailyRollupRecord> toRecords(List<PrescriptionStatisticsRow> rows) {
+        List<DailyRollupRecord> records = new ArrayList<>(rows.size() * 2);
+        for (PrescriptionStatisticsRow row : rows) {
+            records.add(DailyRollupRecord.of(row.tenantId(), STATUS, row.status(), row.count()));
+            records.add(DailyRollupRecord.of(row.tenantId(), TYPE, row.type(), row.count()));
+        }
+        return records;
+    }
+
+    @EventListener
+    public void handlePrescriptionCreated(PrescriptionCreatedEvent event) {
+        markDirty(event.prescriptionId());
+    }
+
+    @EventListener
+    public void handlePrescriptionDispensed(PrescriptionDispensedEvent event) {
+        markDirty(event.prescriptionId());
+    }
+
+    @EventListener
+    public void handlePrescriptionCancelled(PrescriptionCancelledEvent event) {
+        markDirty(event.prescriptionId());
+    }
+
+    private void markDirty(Long prescriptionId) {
+        prescriptionRepository.findPrescriptionDateById(prescriptionId)
+                .map(LocalDateTime::toLocalDate)
+                .ifPresent(date -> dailyRollupService.markDirty(METRIC, date));
+    }
+}
@@ -0,0 +1,12 @@
+package com.sleekydz86.emrclinical.prescription.statistics;
+
+import com.sleekydz86.emrclinical.types.PrescriptionStatus;
+import com.sleekydz86.emrclinical.types.PrescriptionType;
+
+public record PrescriptionStatisticsRow(
+        String tenantId,
+        PrescriptionStatus status,
+        PrescriptionType type,
+        Long count
+) {
+}
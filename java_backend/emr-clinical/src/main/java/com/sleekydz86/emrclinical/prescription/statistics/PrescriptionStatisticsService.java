@@ -1,142 +1,97 @@
 package com.sleekydz86.emrclinical.prescription.statistics;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
 import com.sleekydz86.emrclinical.prescription.repository.PrescriptionRepository;
 import com.sleekydz86.emrclinical.types.PrescriptionStatus;
 import com.sleekydz86.emrclinical.types.PrescriptionType;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
+import static com.sleekydz86.emrclinical.prescription.statistics.PrescriptionRollupSource.*;
+
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PrescriptionStatisticsService {
 
     private final PrescriptionRepository prescriptionRepository;
+    private final DailyRollupService dailyRollupService;
+    // 오늘이 포함되지 않은(마감된) 기간의 의사별 집계 결과만 캐시
+    private final Cache<StatisticsKey, DailyRollupSummary> closedPeriodCache;
+
+    public PrescriptionStatisticsService(PrescriptionRepository prescriptionRepository,
+                                         DailyRollupService dailyRollupService,
+                                         @Value("${statistics.cache.max-size:1000}") long maxSize,
+                                         @Value("${statistics.cache.expire-minutes:60}") long expireMinutes) {
+        this.prescriptionRepository = prescriptionRepository;
+        this.dailyRollupService = dailyRollupService;
+        this.closedPeriodCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
 
     public PrescriptionStatisticsResponse getDailyStatistics(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = date.atTime(23, 59, 59);
-
-        Long totalCount = prescriptionRepository.countByDateRange(start, end);
-        Long prescribedCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.PRESCRIBED)
-                .count();
-        Long dispensedCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.DISPENSED)
-                .count();
-        Long pendingCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.PENDING)
-                .count();
-        Long cancelledCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.CANCELLED)
-                .count();
-
-        Map<PrescriptionType, Long> typeCount = new HashMap<>();
-        for (PrescriptionType type : PrescriptionType.values()) {
-            long count = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                    .filter(p -> p.getPrescriptionType() == type)
-                    .count();
-            typeCount.put(type, count);
-        }
-
-        return PrescriptionStatisticsResponse.builder()
+        return toResponse(dailyRollupService.summarize(METRIC, date, date))
                 .date(date)
-                .totalCount(totalCount)
-                .prescribedCount(prescribedCount)
-                .dispensedCount(dispensedCount)
-                .pendingCount(pendingCount)
-                .cancelledCount(cancelledCount)
-                .typeCount(typeCount)
                 .build();
     }
 
     public PrescriptionStatisticsResponse getPeriodStatistics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
-
-        Long totalCount = prescriptionRepository.countByDateRange(start, end);
-        Long prescribedCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.PRESCRIBED)
-                .count();
-        Long dispensedCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.DISPENSED)
-                .count();
-        Long pendingCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.PENDING)
-                .count();
-        Long cancelledCount = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.CANCELLED)
-                .count();
-
-        Map<PrescriptionType, Long> typeCount = new HashMap<>();
-        for (PrescriptionType type : PrescriptionType.values()) {
-            long count = prescriptionRepository.findByPrescriptionDateBetween(start, end).stream()
-                    .filter(p -> p.getPrescriptionType() == type)
-                    .count();
-            typeCount.put(type, count);
-        }
-
-        return PrescriptionStatisticsResponse.builder()
+        return toResponse(dailyRollupService.summarize(METRIC, startDate, endDate))
                 .startDate(startDate)
                 .endDate(endDate)
-                .totalCount(totalCount)
-                .prescribedCount(prescribedCount)
-                .dispensedCount(dispensedCount)
-                .pendingCount(pendingCount)
-                .cancelledCount(cancelledCount)
-                .typeCount(typeCount)
                 .build();
     }
 
     public PrescriptionStatisticsResponse getDoctorStatistics(Long doctorId, LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
+        return toResponse(aggregateByDoctor(doctorId, startDate, endDate))
+                .doctorId(doctorId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
 
-        Long totalCount = prescriptionRepository.findByPrescriptionDoc_Id(doctorId).stream()
-                .filter(p -> p.getPrescriptionDate().isAfter(start) && p.getPrescriptionDate().isBefore(end))
-                .count();
-        Long prescribedCount = prescriptionRepository.findByPrescriptionDoc_Id(doctorId).stream()
-                .filter(p -> p.getPrescriptionDate().isAfter(start) && p.getPrescriptionDate().isBefore(end))
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.PRESCRIBED)
-                .count();
-        Long dispensedCount = prescriptionRepository.findByPrescriptionDoc_Id(doctorId).stream()
-                .filter(p -> p.getPrescriptionDate().isAfter(start) && p.getPrescriptionDate().isBefore(end))
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.DISPENSED)
-                .count();
-        Long pendingCount = prescriptionRepository.findByPrescriptionDoc_Id(doctorId).stream()
-                .filter(p -> p.getPrescriptionDate().isAfter(start) && p.getPrescriptionDate().isBefore(end))
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.PENDING)
-                .count();
-        Long cancelledCount = prescriptionRepository.findByPrescriptionDoc_Id(doctorId).stream()
-                .filter(p -> p.getPrescriptionDate().isAfter(start) && p.getPrescriptionDate().isBefore(end))
-                .filter(p -> p.getPrescriptionStatus() == PrescriptionStatus.CANCELLED)
-                .count();
+    // 의사별 통계는 일일 집계에 없으므로 (의사, 날짜) 인덱스로 상태 x 유형별 건수를 한 번에 조회
+    private DailyRollupSummary aggregateByDoctor(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        if (!endDate.isBefore(LocalDate.now())) {
+            return query(doctorId, startDate, endDate);
+        }
+        return closedPeriodCache.get(new StatisticsKey(doctorId, startDate, endDate),
+                key -> query(doctorId, startDate, endDate));
+    }
+
+    private DailyRollupSummary query(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        List<PrescriptionStatisticsRow> rows =
+                prescriptionRepository.countByDoctorGroupByStatusAndType(doctorId, start, end);
+        return DailyRollupSummary.of(toRecords(rows));
+    }
 
-        Map<PrescriptionType, Long> typeCount = new HashMap<>();
+    private PrescriptionStatisticsResponse.PrescriptionStatisticsResponseBuilder toResponse(DailyRollupSummary summary) {
+        Map<PrescriptionType, Long> typeCount = new EnumMap<>(PrescriptionType.class);
         for (PrescriptionType type : PrescriptionType.values()) {
-            long count = prescriptionRepository.findByPrescriptionDoc_Id(doctorId).stream()
-                    .filter(p -> p.getPrescriptionDate().isAfter(start) && p.getPrescriptionDate().isBefore(end))
-                    .filter(p -> p.getPrescriptionType() == type)
-                    .count();
-            typeCount.put(type, count);
+            typeCount.put(type, summary.count(TYPE, type.name()));
         }
-
         return PrescriptionStatisticsResponse.builder()
-                .doctorId(doctorId)
-                .startDate(startDate)
-                .endDate(endDate)
-                .totalCount(totalCount)
-                .prescribedCount(prescribedCount)
-                .dispensedCount(dispensedCount)
-                .pendingCount(pendingCount)
-                .cancelledCount(cancelledCount)
-                .typeCount(typeCount)
-                .build();
+                .totalCount(summary.totalCount(STATUS))
+                .prescribedCount(summary.count(STATUS, PrescriptionStatus.PRESCRIBED.name()))
+                .dispensedCount(summary.count(STATUS, PrescriptionStatus.DISPENSED.name()))
+                .pendingCount(summary.count(STATUS, PrescriptionStatus.PENDING.name()))
+                .cancelledCount(summary.count(STATUS, PrescriptionStatus.CANCELLED.name()))
+                .typeCount(typeCount);
     }
-}
 
+    private record StatisticsKey(Long doctorId, LocalDate startDate, LocalDate endDate) {
+    }
+}
@@ -9,6 +9,7 @@ import com.sleekydz86.domain.user.type.RoleType;
 import com.sleekydz86.emrclinical.reservation.dto.*;
 import com.sleekydz86.emrclinical.reservation.entity.ReservationEntity;
 import com.sleekydz86.emrclinical.reservation.service.ReservationService;
+import com.sleekydz86.emrclinical.reservation.service.ReservationSlotService;
 import com.sleekydz86.emrclinical.types.ReservationStatus;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -32,6 +33,7 @@ import java.util.stream.Collectors;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationSlotService reservationSlotService;
     private final ExcelExportService excelExportService;
 
     @PostMapping("/register")
@@ -140,6 +142,35 @@ public class ReservationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/doctor/{doctorId}/worklist")
+    @AuthRole({"DOCTOR", "ADMIN"})
+    public ResponseEntity<ReservationPageResponse> getDoctorWorklist(
+            @PathVariable Long doctorId,
+            @RequestParam(required = false) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getDoctorWorklist(
+                doctorId, date != null ? date : LocalDate.now(), cursor, size));
+    }
+
+    @GetMapping("/slots/doctor/{doctorId}")
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    public ResponseEntity<List<ReservationSlotResponse>> getAvailableSlots(
+            @PathVariable Long doctorId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        return ResponseEntity.ok(reservationSlotService.getAvailableSlots(doctorId, startDate, endDate));
+    }
+
+    @GetMapping("/slots/department/{departmentId}")
+    @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
+    public ResponseEntity<List<ReservationSlotResponse>> getAvailableDepartmentSlots(
+            @PathVariable Long departmentId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        return ResponseEntity.ok(reservationSlotService.getAvailableDepartmentSlots(departmentId, startDate, endDate));
+    }
+
     @PutMapping("/{reservationId}")
     @AuthRole({"STAFF", "DOCTOR", "ADMIN"})
     @AuditLog(action = AuditLog.ActionType.UPDATE)
@@ -0,0 +1,7 @@
+package com.sleekydz86.emrclinical.reservation.dto;
+
+import java.time.LocalDateTime;
+
+// 취소되지 않은 예약의 담당 의사와 예약 일시 (칸 예약 수 초기값 계산용)
+public record ReservationBookedTime(Long doctorId, LocalDateTime reservationDate) {
+}
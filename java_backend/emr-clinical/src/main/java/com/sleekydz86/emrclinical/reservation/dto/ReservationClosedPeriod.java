@@ -0,0 +1,11 @@
+package com.sleekydz86.emrclinical.reservation.dto;
+
+import java.time.LocalDateTime;
+
+// 예약을 받을 수 없는 구간 [start, end)
+public record ReservationClosedPeriod(LocalDateTime start, LocalDateTime end) {
+
+    public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        return start.isBefore(otherEnd) && end.isAfter(otherStart);
+    }
+}
@@ -0,0 +1,16 @@
+package com.sleekydz86.emrclinical.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+
+public record ReservationSlotResponse(
+        Long doctorId,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+        LocalDateTime slotStart,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+        LocalDateTime slotEnd,
+        int capacity,
+        int bookedCount,
+        int remaining
+) {
+}
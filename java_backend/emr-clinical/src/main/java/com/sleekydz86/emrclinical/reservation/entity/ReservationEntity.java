@@ -13,6 +13,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity(name = "Reservation")
+@Table(indexes = {
+        @Index(name = "idx_reservation_date", columnList = "reservation_datetime"),
+        @Index(name = "idx_reservation_doctor_date", columnList = "user_id, reservation_datetime"),
+        @Index(name = "idx_reservation_patient_date", columnList = "patient_no, reservation_datetime")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReservationEntity extends BaseEntity {
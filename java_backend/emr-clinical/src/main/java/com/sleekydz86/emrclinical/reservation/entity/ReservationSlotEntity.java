@@ -0,0 +1,59 @@
+package com.sleekydz86.emrclinical.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// 의사별 진료 시간 칸. 예약은 이 행의 예약 수를 조건부로 올리는 방식이라 같은 칸끼리만 경합함
+@Entity(name = "ReservationSlot")
+@Table(name = "reservation_slot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_slot", columnNames = {"doctor_id", "slot_start"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "slot_id", nullable = false)
+    private Long slotId;
+
+    @Column(name = "doctor_id", nullable = false)
+    private Long doctorId;
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;
+
+    @Column(name = "slot_end", nullable = false)
+    private LocalDateTime slotEnd;
+
+    // 기본 정원 + 허용 초과 예약 수
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity;
+
+    @Column(name = "booked_count", nullable = false)
+    private Integer bookedCount;
+
+    @Builder
+    private ReservationSlotEntity(Long doctorId, LocalDateTime slotStart, LocalDateTime slotEnd, Integer capacity,
+                                  Integer bookedCount) {
+        if (doctorId == null || slotStart == null || slotEnd == null) {
+            throw new IllegalArgumentException("예약 시간 칸 정보는 필수입니다.");
+        }
+        if (capacity == null || capacity < 1) {
+            throw new IllegalArgumentException("예약 정원은 1 이상이어야 합니다.");
+        }
+        this.doctorId = doctorId;
+        this.slotStart = slotStart;
+        this.slotEnd = slotEnd;
+        this.capacity = capacity;
+        this.bookedCount = bookedCount != null ? bookedCount : 0;
+    }
+
+    public int getRemaining() {
+        return Math.max(capacity - bookedCount, 0);
+    }
+}
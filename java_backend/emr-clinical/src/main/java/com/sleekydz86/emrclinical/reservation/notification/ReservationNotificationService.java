@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -38,20 +40,8 @@ public class ReservationNotificationService {
                 return;
             }
 
-            String subject = "예약이 등록되었습니다";
-            String message = String.format(
-                    "안녕하세요 %s님,\n\n" +
-                            "예약이 성공적으로 등록되었습니다.\n\n" +
-                            "예약 정보:\n" +
-                            "- 예약 일시: %s\n" +
-                            "- 예약 상태: %s\n\n" +
-                            "예약 일시에 방문해 주시기 바랍니다.\n\n" +
-                            "감사합니다.",
-                    reservation.getPatientEntity().getPatientName(),
-                    reservation.getReservationDate(),
-                    reservation.getReservationStatus());
-
-            notificationService.send(patientEmail, subject, message);
+            Map<String, Object> variables = reservationVariables(reservation);
+            notificationService.sendWithTemplate(patientEmail, "reservation-registered", variables);
             log.info("예약 등록 알림 발송 완료: ReservationId={}, PatientEmail={}", reservation.getReservationId(), patientEmail);
         } catch (Exception e) {
             log.error("예약 등록 알림 발송 실패: ReservationId={}", reservation.getReservationId(), e);
@@ -70,23 +60,9 @@ public class ReservationNotificationService {
                 return;
             }
 
-            String subject = "예약이 변경되었습니다";
-            String message = String.format(
-                    "안녕하세요 %s님,\n\n" +
-                            "예약 정보가 변경되었습니다.\n\n" +
-                            "변경된 예약 정보:\n" +
-                            "- 예약 일시: %s\n" +
-                            "- 예약 상태: %s\n" +
-                            "- 변경 사유: %s\n\n" +
-                            "변경된 예약 일시에 방문해 주시기 바랍니다.\n\n" +
-                            "감사합니다.",
-                    reservation.getPatientEntity().getPatientName(),
-                    reservation.getReservationDate(),
-                    reservation.getReservationStatus(),
-                    reservation.getReservationChangeCause() != null ? reservation.getReservationChangeCause()
-                            : "변경 사유 없음");
-
-            notificationService.send(patientEmail, subject, message);
+            Map<String, Object> variables = reservationVariables(reservation);
+            variables.put("changeCause", reservation.getReservationChangeCause());
+            notificationService.sendWithTemplate(patientEmail, "reservation-updated", variables);
             log.info("예약 변경 알림 발송 완료: ReservationId={}, PatientEmail={}", reservation.getReservationId(), patientEmail);
         } catch (Exception e) {
             log.error("예약 변경 알림 발송 실패: ReservationId={}", reservation.getReservationId(), e);
@@ -105,23 +81,20 @@ public class ReservationNotificationService {
                 return;
             }
 
-            String subject = "예약이 취소되었습니다";
-            String message = String.format(
-                    "안녕하세요 %s님,\n\n" +
-                            "예약이 취소되었습니다.\n\n" +
-                            "취소된 예약 정보:\n" +
-                            "- 예약 일시: %s\n" +
-                            "- 취소 사유: %s\n\n" +
-                            "추가 예약이 필요하시면 다시 예약해 주시기 바랍니다.\n\n" +
-                            "감사합니다.",
-                    reservation.getPatientEntity().getPatientName(),
-                    reservation.getReservationDate(),
-                    cancelReason != null ? cancelReason : "취소 사유 없음");
-
-            notificationService.send(patientEmail, subject, message);
+            Map<String, Object> variables = reservationVariables(reservation);
+            variables.put("cancelReason", cancelReason);
+            notificationService.sendWithTemplate(patientEmail, "reservation-cancelled", variables);
             log.info("예약 취소 알림 발송 완료: ReservationId={}, PatientEmail={}", reservation.getReservationId(), patientEmail);
         } catch (Exception e) {
             log.error("예약 취소 알림 발송 실패: ReservationId={}", reservation.getReservationId(), e);
         }
     }
+
+    private Map<String, Object> reservationVariables(ReservationEntity reservation) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("patientName", reservation.getPatientEntity().getPatientName());
+        variables.put("reservationDate", reservation.getReservationDate());
+        variables.put("reservationStatus", reservation.getReservationStatus());
+        return variables;
+    }
 }
\ No newline at end of file
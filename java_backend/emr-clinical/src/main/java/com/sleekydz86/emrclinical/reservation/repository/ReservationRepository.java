@@ -1,6 +1,7 @@
 package com.sleekydz86.emrclinical.reservation.repository;
 
 import com.sleekydz86.domain.common.repository.BaseRepository;
+import com.sleekydz86.emrclinical.reservation.dto.ReservationBookedTime;
 import com.sleekydz86.emrclinical.reservation.entity.ReservationEntity;
 import com.sleekydz86.emrclinical.types.ReservationStatus;
 import org.springframework.data.domain.Page;
@@ -8,8 +9,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -35,8 +36,36 @@ public interface ReservationRepository extends BaseRepository<ReservationEntity,
     Page<ReservationEntity> findAll(Pageable pageable);
     List<ReservationEntity> findAllByOrderByReservationDateAsc();
 
-    @Query("SELECT r FROM Reservation r WHERE DATE(r.reservationDate) = :date")
-    List<ReservationEntity> findTodayReservations(@Param("date") LocalDate date);
+    // 응답에 환자, 담당자 이름이 필요하므로 함께 조회 (날짜 범위는 [start, end) 로 인덱스 사용)
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.patientEntity LEFT JOIN FETCH r.userEntity " +
+            "WHERE r.reservationDate >= :start AND r.reservationDate < :end " +
+            "ORDER BY r.reservationDate, r.reservationId")
+    List<ReservationEntity> findWithDetailsByDateRange(@Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+
+    // (의사, 예약 일시) 인덱스 순서대로 (afterDate, afterId) 다음부터 조회하는 키셋 페이징
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.patientEntity LEFT JOIN FETCH r.userEntity " +
+            "WHERE r.userEntity.id = :doctorId " +
+            "AND r.reservationDate >= :start AND r.reservationDate < :end " +
+            "AND (r.reservationDate > :afterDate " +
+            "OR (r.reservationDate = :afterDate AND r.reservationId > :afterId)) " +
+            "ORDER BY r.reservationDate, r.reservationId")
+    List<ReservationEntity> findDoctorWorklist(@Param("doctorId") Long doctorId,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end,
+                                               @Param("afterDate") LocalDateTime afterDate,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    // 칸 행이 만들어지기 전에 저장된 예약도 칸 예약 수에 반영하도록 조회
+    @Query("SELECT new com.sleekydz86.emrclinical.reservation.dto.ReservationBookedTime(r.userEntity.id, r.reservationDate) " +
+            "FROM Reservation r WHERE r.userEntity.id IN :doctorIds " +
+            "AND r.reservationDate >= :start AND r.reservationDate < :end " +
+            "AND r.reservationStatus <> :excluded")
+    List<ReservationBookedTime> findBookedTimes(@Param("doctorIds") Collection<Long> doctorIds,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end,
+                                                @Param("excluded") ReservationStatus excluded);
 
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.reservationDate BETWEEN :start AND :end")
     Long countByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
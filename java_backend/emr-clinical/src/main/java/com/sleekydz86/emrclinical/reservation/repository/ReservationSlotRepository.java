@@ -0,0 +1,34 @@
+package com.sleekydz86.emrclinical.reservation.repository;
+
+import com.sleekydz86.domain.common.repository.BaseRepository;
+import com.sleekydz86.emrclinical.reservation.entity.ReservationSlotEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReservationSlotRepository extends BaseRepository<ReservationSlotEntity, Long> {
+
+    Optional<ReservationSlotEntity> findByDoctorIdAndSlotStart(Long doctorId, LocalDateTime slotStart);
+
+    @Query("SELECT s FROM ReservationSlot s WHERE s.doctorId IN :doctorIds " +
+            "AND s.slotStart >= :start AND s.slotStart < :end")
+    List<ReservationSlotEntity> findSlots(@Param("doctorIds") List<Long> doctorIds,
+                                          @Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end);
+
+    // 정원이 남아 있을 때만 1 증가. 0 이 반환되면 마감
+    @Modifying
+    @Query("UPDATE ReservationSlot s SET s.bookedCount = s.bookedCount + 1 " +
+            "WHERE s.doctorId = :doctorId AND s.slotStart = :slotStart AND s.bookedCount < s.capacity")
+    int book(@Param("doctorId") Long doctorId, @Param("slotStart") LocalDateTime slotStart);
+
+    @Modifying
+    @Query("UPDATE ReservationSlot s SET s.bookedCount = s.bookedCount - 1 " +
+            "WHERE s.doctorId = :doctorId AND s.slotStart = :slotStart AND s.bookedCount > 0")
+    int release(@Param("doctorId") Long doctorId, @Param("slotStart") LocalDateTime slotStart);
+}
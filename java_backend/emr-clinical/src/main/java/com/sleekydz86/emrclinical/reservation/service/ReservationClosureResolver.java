@@ -0,0 +1,19 @@
+package com.sleekydz86.emrclinical.reservation.service;
+
+import com.sleekydz86.emrclinical.reservation.dto.ReservationClosedPeriod;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 휴일, 휴진 정보는 지원 모듈에 있으므로 구현도 그쪽에서 제공
+public interface ReservationClosureResolver {
+
+    Set<LocalDate> findClosedDates(LocalDate startDate, LocalDate endDate);
+
+    // 의사 ID별 휴진 구간 (기간과 겹치는 것만)
+    Map<Long, List<ReservationClosedPeriod>> findDoctorRecesses(Collection<Long> doctorIds,
+                                                               LocalDateTime start, LocalDateTime end);
+}
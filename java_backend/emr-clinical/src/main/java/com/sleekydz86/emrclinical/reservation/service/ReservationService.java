@@ -2,10 +2,12 @@ package com.sleekydz86.emrclinical.reservation.service;
 
 import com.sleekydz86.core.common.exception.custom.BusinessException;
 import com.sleekydz86.core.common.exception.custom.DuplicateException;
+import com.sleekydz86.core.common.exception.custom.NotFoundException;
 import com.sleekydz86.core.event.domain.ReservationCreatedEvent;
 import com.sleekydz86.core.event.domain.ReservationUpdatedEvent;
 import com.sleekydz86.core.event.domain.ReservationCancelledEvent;
 import com.sleekydz86.core.event.publisher.EventPublisher;
+import com.sleekydz86.core.tenant.TenantContext;
 import com.sleekydz86.domain.common.service.BaseService;
 import com.sleekydz86.domain.patient.entity.PatientEntity;
 import com.sleekydz86.domain.patient.service.PatientService;
@@ -14,6 +16,8 @@ import com.sleekydz86.domain.user.service.UserService;
 import com.sleekydz86.emrclinical.checkin.entity.CheckInEntity;
 import com.sleekydz86.emrclinical.checkin.service.CheckInService;
 import com.sleekydz86.emrclinical.reservation.dto.ReservationCreateRequest;
+import com.sleekydz86.emrclinical.reservation.dto.ReservationPageResponse;
+import com.sleekydz86.emrclinical.reservation.dto.ReservationResponse;
 import com.sleekydz86.emrclinical.reservation.dto.ReservationUpdateRequest;
 import com.sleekydz86.emrclinical.reservation.entity.ReservationEntity;
 import com.sleekydz86.emrclinical.reservation.notification.ReservationNotificationService;
@@ -22,11 +26,15 @@ import com.sleekydz86.emrclinical.types.ReservationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,12 +43,15 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class ReservationService implements BaseService<ReservationEntity, Long> {
 
+    private static final int MAX_WORKLIST_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
     private final PatientService patientService;
     private final UserService userService;
     private final EventPublisher eventPublisher;
     private final CheckInService checkInService;
     private final ReservationNotificationService reservationNotificationService;
+    private final ReservationSlotService reservationSlotService;
 
     @Value("${clinical.integration.auto-create-checkin-on-reservation-complete:true}")
     private boolean autoCreateCheckInOnReservationComplete;
@@ -50,9 +61,14 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
 
         PatientEntity patient = patientService.getPatientByNo(request.getPatientNo());
 
+        // 담당 의사를 지정하면 그 의사로, 아니면 등록한 사용자로 배정
+        Long assigneeId = request.getUserId() != null ? request.getUserId() : userId;
         UserEntity user = null;
-        if (userId != null) {
-            user = userService.getUserById(userId);
+        if (assigneeId != null) {
+            user = userService.getUserById(assigneeId);
+        }
+        if (request.getUserId() != null) {
+            validateAssignee(user);
         }
 
         if (request.getReservationDate().isBefore(LocalDateTime.now())) {
@@ -64,6 +80,10 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
             throw new DuplicateException("이미 예약된 시간입니다.");
         }
 
+        if (reservationSlotService.isScheduled(user)) {
+            reservationSlotService.book(user.getId(), request.getReservationDate());
+        }
+
         ReservationEntity reservation = ReservationEntity.builder()
                 .patientEntity(patient)
                 .userEntity(user)
@@ -96,17 +116,15 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
     }
 
     public List<ReservationEntity> getReservationsByDate(LocalDate date) {
-        return reservationRepository.findTodayReservations(date);
+        return getReservationsByDateRange(date, date);
     }
 
     public List<ReservationEntity> getReservationsByDateRange(LocalDate start, LocalDate end) {
-        LocalDateTime startDateTime = start.atStartOfDay();
-        LocalDateTime endDateTime = end.atTime(23, 59, 59);
-        return reservationRepository.findByReservationDateBetween(startDateTime, endDateTime);
+        return reservationRepository.findWithDetailsByDateRange(start.atStartOfDay(), end.plusDays(1).atStartOfDay());
     }
 
     public List<ReservationEntity> getTodayReservations() {
-        return reservationRepository.findTodayReservations(LocalDate.now());
+        return getReservationsByDate(LocalDate.now());
     }
 
     public Page<ReservationEntity> getReservationsByStatus(ReservationStatus status, Pageable pageable) {
@@ -117,15 +135,31 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
 
         userService.getUserById(doctorId);
 
-        List<ReservationEntity> allReservations = reservationRepository.findByUserEntity_Id(doctorId);
+        // 날짜가 없으면 의사의 전체 이력을 읽지 않도록 오늘 예약만 조회 (이전 날짜는 worklist 커서로 페이징)
+        LocalDateTime start = (date != null ? date : LocalDate.now()).atStartOfDay();
+        return reservationRepository.findDoctorWorklist(
+                doctorId, start, start.plusDays(1), start, 0L, Pageable.unpaged());
+    }
 
-        if (date != null) {
-            return allReservations.stream()
-                    .filter(r -> r.getReservationDate().toLocalDate().equals(date))
-                    .toList();
-        }
+    // 의사 진료 목록. 화면 갱신마다 호출되므로 (의사, 예약 일시) 인덱스 범위만 읽는 키셋 페이징
+    public ReservationPageResponse getDoctorWorklist(Long doctorId, LocalDate date, String cursor, int size) {
+
+        userService.getUserById(doctorId);
 
-        return allReservations;
+        int pageSize = Math.min(Math.max(size, 1), MAX_WORKLIST_SIZE);
+        LocalDateTime start = date.atStartOfDay();
+        WorklistCursor after = WorklistCursor.decode(cursor);
+
+        List<ReservationEntity> rows = reservationRepository.findDoctorWorklist(
+                doctorId, start, start.plusDays(1),
+                after != null ? after.reservationDate() : start,
+                after != null ? after.reservationId() : 0L,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReservationEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? WorklistCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new ReservationPageResponse(page.stream().map(ReservationResponse::from).toList(), nextCursor);
     }
 
     public Page<ReservationEntity> getAllReservations(Pageable pageable) {
@@ -155,11 +189,25 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
             }
         }
 
+        UserEntity doctor = reservation.getUserEntity();
+        LocalDateTime previousDate = reservation.getReservationDate();
+        // 취소된 예약은 이미 칸을 반납했으므로 다시 반납하거나 옮기지 않음
+        boolean cancelled = reservation.getReservationStatus() == ReservationStatus.CANCELLED;
+        boolean scheduled = !cancelled && reservationSlotService.isScheduled(doctor);
+
         if (request.getReservationYn() != null && "N".equals(request.getReservationYn())) {
+            if (cancelled) {
+                throw new BusinessException("이미 취소된 예약입니다.");
+            }
             reservation.cancel(
                     request.getReservationChangeCause() != null ? request.getReservationChangeCause() : "예약 취소");
+            if (scheduled) {
+                reservationSlotService.release(doctor.getId(), previousDate);
+            }
         } else {
-
+            if (scheduled && request.getNewReservationDate() != null) {
+                reservationSlotService.reschedule(doctor.getId(), previousDate, request.getNewReservationDate());
+            }
             reservation.update(request.getNewReservationDate(), request.getReservationChangeCause());
         }
 
@@ -177,6 +225,16 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
         return saved;
     }
 
+    // 다른 의사를 지정한 경우 예약 칸을 운영하는 같은 기관의 의사인지 확인
+    private void validateAssignee(UserEntity user) {
+        if (TenantContext.shouldFilterByTenant() && !TenantContext.belongsToTenant(user.getInttCd())) {
+            throw new NotFoundException("사용자를 찾을 수 없습니다. ID: " + user.getId());
+        }
+        if (!reservationSlotService.isScheduled(user)) {
+            throw new BusinessException("진료 예약을 받는 의사가 아닙니다.");
+        }
+    }
+
     @Transactional
     public void cancelReservation(Long reservationId, String cancelReason) {
         ReservationEntity reservation = getReservationById(reservationId);
@@ -192,6 +250,10 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
         reservation.cancel(cancelReason != null ? cancelReason : "예약 취소");
         reservationRepository.save(reservation);
 
+        if (reservationSlotService.isScheduled(reservation.getUserEntity())) {
+            reservationSlotService.release(reservation.getUserEntity().getId(), reservation.getReservationDate());
+        }
+
         eventPublisher.publish(new ReservationCancelledEvent(
                 reservation.getReservationId(),
                 reservation.getPatientEntity().getPatientNoValue(),
@@ -259,4 +321,29 @@ public class ReservationService implements BaseService<ReservationEntity, Long>
             }
         }
     }
+
+    // 마지막으로 반환한 예약의 (예약 일시, 예약 ID)
+    private record WorklistCursor(LocalDateTime reservationDate, Long reservationId) {
+
+        static WorklistCursor of(ReservationEntity reservation) {
+            return new WorklistCursor(reservation.getReservationDate(), reservation.getReservationId());
+        }
+
+        static WorklistCursor decode(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(",");
+                return new WorklistCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BusinessException("목록 커서 형식이 올바르지 않습니다.");
+            }
+        }
+
+        String encode() {
+            String raw = reservationDate + "," + reservationId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
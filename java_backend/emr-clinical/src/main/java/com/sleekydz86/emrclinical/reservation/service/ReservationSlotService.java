@@ -0,0 +1,251 @@
+package com.sleekydz86.emrclinical.reservation.service;
+
+import com.sleekydz86.core.common.exception.custom.BusinessException;
+import com.sleekydz86.domain.user.entity.UserEntity;
+import com.sleekydz86.domain.user.service.UserService;
+import com.sleekydz86.domain.user.type.RoleType;
+import com.sleekydz86.emrclinical.reservation.dto.ReservationBookedTime;
+import com.sleekydz86.emrclinical.reservation.dto.ReservationClosedPeriod;
+import com.sleekydz86.emrclinical.reservation.dto.ReservationSlotResponse;
+import com.sleekydz86.emrclinical.reservation.entity.ReservationSlotEntity;
+import com.sleekydz86.emrclinical.reservation.repository.ReservationRepository;
+import com.sleekydz86.emrclinical.reservation.repository.ReservationSlotRepository;
+import com.sleekydz86.emrclinical.types.ReservationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 의사 진료 시간을 일정 간격의 칸으로 나누고 칸마다 정원을 둠.
+// 예약은 칸 행 하나의 조건부 UPDATE 로 처리하므로 서로 다른 칸(의사, 시간)의 예약은 잠금 경합이 없음
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ReservationSlotService {
+
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ReservationRepository reservationRepository;
+    private final UserService userService;
+    private final ObjectProvider<ReservationClosureResolver> closureResolverProvider;
+    private final TransactionTemplate slotTransaction;
+    private final int slotMinutes;
+    private final int capacity;
+    private final int overbooking;
+    private final LocalTime openTime;
+    private final LocalTime closeTime;
+    private final int maxRangeDays;
+
+    public ReservationSlotService(ReservationSlotRepository reservationSlotRepository,
+                                  ReservationRepository reservationRepository,
+                                  UserService userService,
+                                  ObjectProvider<ReservationClosureResolver> closureResolverProvider,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${reservation.slot.minutes:30}") int slotMinutes,
+                                  @Value("${reservation.slot.capacity:1}") int capacity,
+                                  @Value("${reservation.slot.overbooking:0}") int overbooking,
+                                  @Value("${reservation.slot.open-time:09:00}") String openTime,
+                                  @Value("${reservation.slot.close-time:18:00}") String closeTime,
+                                  @Value("${reservation.slot.max-range-days:31}") int maxRangeDays) {
+        this.reservationSlotRepository = reservationSlotRepository;
+        this.reservationRepository = reservationRepository;
+        this.userService = userService;
+        this.closureResolverProvider = closureResolverProvider;
+        this.slotTransaction = new TransactionTemplate(transactionManager);
+        this.slotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.slotMinutes = slotMinutes;
+        this.capacity = capacity;
+        this.overbooking = overbooking;
+        this.openTime = LocalTime.parse(openTime);
+        this.closeTime = LocalTime.parse(closeTime);
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    // 진료 칸을 관리하는 대상(의사)인지 여부
+    public boolean isScheduled(UserEntity user) {
+        return user != null && user.getRole() == RoleType.DOCTOR;
+    }
+
+    // 호출한 트랜잭션 안에서 칸의 예약 수를 올림. 예약 저장이 실패해 롤백되면 함께 되돌아감
+    @Transactional
+    public void book(Long doctorId, LocalDateTime reservationDate) {
+        LocalDateTime slotStart = slotStartOf(reservationDate);
+        LocalDateTime slotEnd = slotStart.plusMinutes(slotMinutes);
+        validateOpen(doctorId, slotStart, slotEnd);
+
+        // 칸 행을 먼저 만들어 둔 뒤 UPDATE (UPDATE 가 잡은 잠금과 칸 생성이 서로 기다리지 않도록)
+        if (reservationSlotRepository.findByDoctorIdAndSlotStart(doctorId, slotStart).isEmpty()) {
+            createSlot(doctorId, slotStart, slotEnd);
+        }
+        if (reservationSlotRepository.book(doctorId, slotStart) == 0) {
+            throw new BusinessException("해당 시간은 예약이 마감되었습니다.");
+        }
+    }
+
+    @Transactional
+    public void release(Long doctorId, LocalDateTime reservationDate) {
+        if (doctorId == null || reservationDate == null) {
+            return;
+        }
+        reservationSlotRepository.release(doctorId, slotStartOf(reservationDate));
+    }
+
+    // 새 칸을 먼저 잡고 기존 칸을 반납 (새 칸이 마감이면 예외로 기존 예약은 그대로 유지)
+    @Transactional
+    public void reschedule(Long doctorId, LocalDateTime previousDate, LocalDateTime newDate) {
+        if (slotStartOf(previousDate).equals(slotStartOf(newDate))) {
+            return;
+        }
+        book(doctorId, newDate);
+        release(doctorId, previousDate);
+    }
+
+    public List<ReservationSlotResponse> getAvailableSlots(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        UserEntity doctor = userService.getUserById(doctorId);
+        if (!isScheduled(doctor)) {
+            throw new BusinessException("진료 예약을 받는 의사가 아닙니다.");
+        }
+        return findAvailableSlots(List.of(doctorId), startDate, endDate);
+    }
+
+    public List<ReservationSlotResponse> getAvailableDepartmentSlots(Long departmentId, LocalDate startDate,
+                                                                     LocalDate endDate) {
+        List<Long> doctorIds = userService.getUsersByDepartment(departmentId).stream()
+                .filter(this::isScheduled)
+                .map(UserEntity::getId)
+                .toList();
+        if (doctorIds.isEmpty()) {
+            return List.of();
+        }
+        return findAvailableSlots(doctorIds, startDate, endDate);
+    }
+
+    // 근무 시간표로 칸을 만들고, 이미 생성된 칸 행(예약 수)은 한 번에 조회해 덮어씀
+    private List<ReservationSlotResponse> findAvailableSlots(List<Long> doctorIds, LocalDate startDate,
+                                                             LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException("조회 종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxRangeDays) {
+            throw new BusinessException("예약 가능 시간은 최대 " + maxRangeDays + "일까지 조회할 수 있습니다.");
+        }
+
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay();
+        ReservationClosureResolver resolver = closureResolverProvider.getIfAvailable();
+        Set<LocalDate> closedDates = resolver != null ? resolver.findClosedDates(startDate, endDate) : Set.of();
+        Map<Long, List<ReservationClosedPeriod>> recesses = resolver != null
+                ? resolver.findDoctorRecesses(doctorIds, rangeStart, rangeEnd) : Map.of();
+
+        Map<SlotKey, ReservationSlotEntity> existing = new HashMap<>();
+        for (ReservationSlotEntity slot : reservationSlotRepository.findSlots(doctorIds, rangeStart, rangeEnd)) {
+            existing.put(new SlotKey(slot.getDoctorId(), slot.getSlotStart()), slot);
+        }
+        // 칸 행이 아직 없는 시간은 기존 예약 수로 계산
+        Map<SlotKey, Integer> unslotted = new HashMap<>();
+        for (ReservationBookedTime booked : reservationRepository.findBookedTimes(
+                doctorIds, rangeStart, rangeEnd, ReservationStatus.CANCELLED)) {
+            SlotKey key = new SlotKey(booked.doctorId(), slotStartOf(booked.reservationDate()));
+            if (!existing.containsKey(key)) {
+                unslotted.merge(key, 1, Integer::sum);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReservationSlotResponse> slots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (closedDates.contains(date)) {
+                continue;
+            }
+            for (Long doctorId : doctorIds) {
+                List<ReservationClosedPeriod> doctorRecesses = recesses.getOrDefault(doctorId, List.of());
+                LocalDateTime close = date.atTime(closeTime);
+                for (LocalDateTime start = date.atTime(openTime); !start.plusMinutes(slotMinutes).isAfter(close);
+                     start = start.plusMinutes(slotMinutes)) {
+                    LocalDateTime end = start.plusMinutes(slotMinutes);
+                    if (!start.isAfter(now) || overlaps(doctorRecesses, start, end)) {
+                        continue;
+                    }
+                    SlotKey key = new SlotKey(doctorId, start);
+                    ReservationSlotEntity slot = existing.get(key);
+                    int slotCapacity = slot != null ? slot.getCapacity() : capacity + overbooking;
+                    int booked = slot != null ? slot.getBookedCount() : unslotted.getOrDefault(key, 0);
+                    if (booked < slotCapacity) {
+                        slots.add(new ReservationSlotResponse(doctorId, start, end, slotCapacity, booked,
+                                slotCapacity - booked));
+                    }
+                }
+            }
+        }
+        return slots;
+    }
+
+    private void validateOpen(Long doctorId, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        LocalDate date = slotStart.toLocalDate();
+        if (slotStart.isBefore(date.atTime(openTime)) || slotEnd.isAfter(date.atTime(closeTime))) {
+            throw new BusinessException("진료 시간(" + openTime + "~" + closeTime + ") 안에서만 예약할 수 있습니다.");
+        }
+        ReservationClosureResolver resolver = closureResolverProvider.getIfAvailable();
+        if (resolver == null) {
+            return;
+        }
+        if (resolver.findClosedDates(date, date).contains(date)) {
+            throw new BusinessException("휴일에는 예약할 수 없습니다.");
+        }
+        List<ReservationClosedPeriod> recesses = resolver.findDoctorRecesses(List.of(doctorId), slotStart, slotEnd)
+                .getOrDefault(doctorId, List.of());
+        if (overlaps(recesses, slotStart, slotEnd)) {
+            throw new BusinessException("담당 의사의 휴진 시간에는 예약할 수 없습니다.");
+        }
+    }
+
+    // 칸 도입 전에 저장된 예약이 있을 수 있으므로 커밋된 기존 예약 수로 예약 수를 시작
+    private void createSlot(Long doctorId, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        try {
+            slotTransaction.executeWithoutResult(status -> reservationSlotRepository.saveAndFlush(
+                    ReservationSlotEntity.builder()
+                            .doctorId(doctorId)
+                            .slotStart(slotStart)
+                            .slotEnd(slotEnd)
+                            .capacity(capacity + overbooking)
+                            .bookedCount(reservationRepository.findBookedTimes(
+                                    List.of(doctorId), slotStart, slotEnd, ReservationStatus.CANCELLED).size())
+                            .build()));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 칸을 다른 요청이 먼저 만든 경우. 만들어진 행으로 그대로 예약 진행
+            log.debug("예약 시간 칸 동시 생성: {} {}", doctorId, slotStart);
+        }
+    }
+
+    private LocalDateTime slotStartOf(LocalDateTime dateTime) {
+        LocalDateTime minute = dateTime.truncatedTo(ChronoUnit.MINUTES);
+        int minuteOfDay = minute.getHour() * 60 + minute.getMinute();
+        return minute.minusMinutes(minuteOfDay % slotMinutes);
+    }
+
+    private boolean overlaps(Collection<ReservationClosedPeriod> periods, LocalDateTime start, LocalDateTime end) {
+        for (ReservationClosedPeriod period : periods) {
+            if (period.overlaps(start, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record SlotKey(Long doctorId, LocalDateTime slotStart) {
+    }
+}
@@ -17,7 +17,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity(name = "Treatments")
-@Table(name = "treatments")
+@Table(name = "treatments", indexes = {
+        @Index(name = "idx_treatments_date", columnList = "treatment_date"),
+        @Index(name = "idx_treatments_doc_date", columnList = "treatment_doc, treatment_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TreatmentEntity extends BaseEntity {
@@ -2,6 +2,7 @@ package com.sleekydz86.emrclinical.treatment.repository;
 
 import com.sleekydz86.domain.common.repository.BaseRepository;
 import com.sleekydz86.emrclinical.treatment.entity.TreatmentEntity;
+import com.sleekydz86.emrclinical.treatment.statistics.TreatmentStatisticsRow;
 import com.sleekydz86.emrclinical.types.TreatmentStatus;
 import com.sleekydz86.emrclinical.types.TreatmentType;
 import org.springframework.data.domain.Page;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TreatmentRepository extends BaseRepository<TreatmentEntity, Long> {
@@ -51,5 +53,22 @@ public interface TreatmentRepository extends BaseRepository<TreatmentEntity, Lon
 
     @Query("SELECT COUNT(t) FROM Treatments t WHERE t.treatmentDoc.id = :doctorId AND t.treatmentDate BETWEEN :start AND :end")
     Long countByDoctorAndDateRange(@Param("doctorId") Long doctorId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.sleekydz86.emrclinical.treatment.statistics.TreatmentStatisticsRow(" +
+            "t.inttCd, t.treatmentStatus, t.treatmentType, COUNT(t)) FROM Treatments t " +
+            "WHERE t.treatmentDate >= :start AND t.treatmentDate < :end " +
+            "GROUP BY t.inttCd, t.treatmentStatus, t.treatmentType")
+    List<TreatmentStatisticsRow> countByStatusAndType(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.sleekydz86.emrclinical.treatment.statistics.TreatmentStatisticsRow(" +
+            "t.inttCd, t.treatmentStatus, t.treatmentType, COUNT(t)) FROM Treatments t " +
+            "WHERE t.treatmentDoc.id = :doctorId AND t.treatmentDate >= :start AND t.treatmentDate < :end " +
+            "GROUP BY t.inttCd, t.treatmentStatus, t.treatmentType")
+    List<TreatmentStatisticsRow> countByDoctorGroupByStatusAndType(@Param("doctorId") Long doctorId,
+                                                                   @Param("start") LocalDateTime start,
+                                                                   @Param("end") LocalDateTime end);
+
+    @Query("SELECT t.treatmentDate FROM Treatments t WHERE t.treatmentId = :treatmentId")
+    Optional<LocalDateTime> findTreatmentDateById(@Param("treatmentId") Long treatmentId);
 }
 
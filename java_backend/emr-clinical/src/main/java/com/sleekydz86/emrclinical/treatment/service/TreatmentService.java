@@ -69,10 +69,7 @@ public class TreatmentService implements BaseService<TreatmentEntity, Long> {
         CheckInEntity checkIn = null;
         if (request.getCheckInId() != null) {
             checkIn = checkInService.getCheckInById(request.getCheckInId());
-
-            if (checkIn.getCheckInStatus() != CheckInStatus.COMPLETED) {
-                throw new BusinessException("완료된 접수만 진료를 생성할 수 있습니다.");
-            }
+            startCheckIn(checkIn);
         }
 
         PatientEntity patient = null;
@@ -116,6 +113,16 @@ public class TreatmentService implements BaseService<TreatmentEntity, Long> {
         return saved;
     }
 
+    // 대기 중인 접수로 진료를 시작하면 접수를 완료 처리해 대기열에서 빼고, 취소된 접수는 거부
+    private void startCheckIn(CheckInEntity checkIn) {
+        if (checkIn.getCheckInStatus() == CheckInStatus.CANCELLED) {
+            throw new BusinessException("취소된 접수로는 진료를 생성할 수 없습니다.");
+        }
+        if (checkIn.getCheckInStatus() == CheckInStatus.PENDING) {
+            checkInService.completeCheckIn(checkIn.getCheckInId());
+        }
+    }
+
     private void createTreatmentTypeEntity(TreatmentEntity treatment, TreatmentType type, CheckInEntity checkIn) {
         switch (type) {
             case OUTPATIENT:
@@ -291,9 +298,7 @@ public class TreatmentService implements BaseService<TreatmentEntity, Long> {
     @Transactional
     public TreatmentEntity createTreatmentFromCheckIn(CheckInEntity checkIn) {
 
-        if (checkIn.getCheckInStatus() != CheckInStatus.COMPLETED) {
-            throw new BusinessException("완료된 접수만 진료를 생성할 수 있습니다.");
-        }
+        startCheckIn(checkIn);
 
         List<TreatmentEntity> existingTreatments = treatmentRepository.findByCheckInEntity_CheckInId(
                 checkIn.getCheckInId());
@@ -0,0 +1,68 @@
+package com.sleekydz86.emrclinical.treatment.statistics;
+
+import com.sleekydz86.core.event.domain.TreatmentCancelledEvent;
+import com.sleekydz86.core.event.domain.TreatmentCompletedEvent;
+import com.sleekydz86.core.event.domain.TreatmentCreatedEvent;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupSource;
+import com.sleekydz86.emrclinical.treatment.repository.TreatmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TreatmentRollupSource implements DailyRollupSource {
+
+    public static final String METRIC = "treatment";
+    public static final String STATUS = "status";
+    public static final String TYPE = "type";
+
+    private final TreatmentRepository treatmentRepository;
+    private final DailyRollupService dailyRollupService;
+
+    @Override
+    public String metric() {
+        return METRIC;
+    }
+
+    @Override
+    public List<DailyRollupRecord> aggregate(LocalDate date) {
+        return toRecords(treatmentRepository.countByStatusAndType(date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+    }
+
+    static List<DailyRollupRecord> toRecords(List<TreatmentStatisticsRow> rows) {
+        List<DailyRollupRecord> records = new ArrayList<>(rows.size() * 2);
+        for (TreatmentStatisticsRow row : rows) {
+            records.add(DailyRollupRecord.of(row.tenantId(), STATUS, row.status(), row.count()));
+            records.add(DailyRollupRecord.of(row.tenantId(), TYPE, row.type(), row.count()));
+        }
+        return records;
+    }
+
+    @EventListener
+    public void handleTreatmentCreated(TreatmentCreatedEvent event) {
+        markDirty(event.treatmentDate());
+    }
+
+    @EventListener
+    public void handleTreatmentCompleted(TreatmentCompletedEvent event) {
+        treatmentRepository.findTreatmentDateById(event.treatmentId()).ifPresent(this::markDirty);
+    }
+
+    @EventListener
+    public void handleTreatmentCancelled(TreatmentCancelledEvent event) {
+        treatmentRepository.findTreatmentDateById(event.treatmentId()).ifPresent(this::markDirty);
+    }
+
+    private void markDirty(LocalDateTime treatmentDate) {
+        if (treatmentDate != null) {
+            dailyRollupService.markDirty(METRIC, treatmentDate.toLocalDate());
+        }
+    }
+}
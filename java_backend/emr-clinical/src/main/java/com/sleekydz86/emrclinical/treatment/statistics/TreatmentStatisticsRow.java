@@ -0,0 +1,12 @@
+package com.sleekydz86.emrclinical.treatment.statistics;
+
+import com.sleekydz86.emrclinical.types.TreatmentStatus;
+import com.sleekydz86.emrclinical.types.TreatmentType;
+
+public record TreatmentStatisticsRow(
+        String tenantId,
+        TreatmentStatus status,
+        TreatmentType type,
+        Long count
+) {
+}
@@ -1,139 +1,97 @@
 package com.sleekydz86.emrclinical.treatment.statistics;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
 import com.sleekydz86.emrclinical.treatment.repository.TreatmentRepository;
 import com.sleekydz86.emrclinical.types.TreatmentStatus;
 import com.sleekydz86.emrclinical.types.TreatmentType;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
+import static com.sleekydz86.emrclinical.treatment.statistics.TreatmentRollupSource.*;
+
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TreatmentStatisticsService {
 
     private final TreatmentRepository treatmentRepository;
+    private final DailyRollupService dailyRollupService;
+    // 오늘이 포함되지 않은(마감된) 기간의 의사별 집계 결과만 캐시
+    private final Cache<StatisticsKey, DailyRollupSummary> closedPeriodCache;
 
-    public TreatmentStatisticsResponse getDailyStatistics(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = date.atTime(23, 59, 59);
-
-        Long totalCount = treatmentRepository.countByDateRange(start, end);
-        Long completedCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.COMPLETED)
-                .count();
-        Long pendingCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.PENDING)
-                .count();
-        Long inProgressCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.IN_PROGRESS)
-                .count();
-        Long cancelledCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.CANCELLED)
-                .count();
-
-        Map<TreatmentType, Long> typeCount = new HashMap<>();
-        for (TreatmentType type : TreatmentType.values()) {
-            long count = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                    .filter(t -> t.getTreatmentType() == type)
-                    .count();
-            typeCount.put(type, count);
-        }
+    public TreatmentStatisticsService(TreatmentRepository treatmentRepository,
+                                      DailyRollupService dailyRollupService,
+                                      @Value("${statistics.cache.max-size:1000}") long maxSize,
+                                      @Value("${statistics.cache.expire-minutes:60}") long expireMinutes) {
+        this.treatmentRepository = treatmentRepository;
+        this.dailyRollupService = dailyRollupService;
+        this.closedPeriodCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
 
-        return TreatmentStatisticsResponse.builder()
+    public TreatmentStatisticsResponse getDailyStatistics(LocalDate date) {
+        return toResponse(dailyRollupService.summarize(METRIC, date, date))
                 .date(date)
-                .totalCount(totalCount)
-                .completedCount(completedCount)
-                .pendingCount(pendingCount)
-                .inProgressCount(inProgressCount)
-                .cancelledCount(cancelledCount)
-                .typeCount(typeCount)
                 .build();
     }
 
     public TreatmentStatisticsResponse getPeriodStatistics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
-
-        Long totalCount = treatmentRepository.countByDateRange(start, end);
-        Long completedCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.COMPLETED)
-                .count();
-        Long pendingCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.PENDING)
-                .count();
-        Long inProgressCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.IN_PROGRESS)
-                .count();
-        Long cancelledCount = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.CANCELLED)
-                .count();
-
-        Map<TreatmentType, Long> typeCount = new HashMap<>();
-        for (TreatmentType type : TreatmentType.values()) {
-            long count = treatmentRepository.findByTreatmentDateBetween(start, end).stream()
-                    .filter(t -> t.getTreatmentType() == type)
-                    .count();
-            typeCount.put(type, count);
-        }
-
-        return TreatmentStatisticsResponse.builder()
+        return toResponse(dailyRollupService.summarize(METRIC, startDate, endDate))
                 .startDate(startDate)
                 .endDate(endDate)
-                .totalCount(totalCount)
-                .completedCount(completedCount)
-                .pendingCount(pendingCount)
-                .inProgressCount(inProgressCount)
-                .cancelledCount(cancelledCount)
-                .typeCount(typeCount)
                 .build();
     }
 
     public TreatmentStatisticsResponse getDoctorStatistics(Long doctorId, LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
+        return toResponse(aggregateByDoctor(doctorId, startDate, endDate))
+                .doctorId(doctorId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
 
-        Long totalCount = treatmentRepository.countByDoctorAndDateRange(doctorId, start, end);
-        Long completedCount = treatmentRepository.findByTreatmentDoc_Id(doctorId).stream()
-                .filter(t -> t.getTreatmentDate().isAfter(start) && t.getTreatmentDate().isBefore(end))
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.COMPLETED)
-                .count();
-        Long pendingCount = treatmentRepository.findByTreatmentDoc_Id(doctorId).stream()
-                .filter(t -> t.getTreatmentDate().isAfter(start) && t.getTreatmentDate().isBefore(end))
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.PENDING)
-                .count();
-        Long inProgressCount = treatmentRepository.findByTreatmentDoc_Id(doctorId).stream()
-                .filter(t -> t.getTreatmentDate().isAfter(start) && t.getTreatmentDate().isBefore(end))
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.IN_PROGRESS)
-                .count();
-        Long cancelledCount = treatmentRepository.findByTreatmentDoc_Id(doctorId).stream()
-                .filter(t -> t.getTreatmentDate().isAfter(start) && t.getTreatmentDate().isBefore(end))
-                .filter(t -> t.getTreatmentStatus() == TreatmentStatus.CANCELLED)
-                .count();
+    // 의사별 통계는 일일 집계에 없으므로 (의사, 날짜) 인덱스로 상태 x 유형별 건수를 한 번에 조회
+    private DailyRollupSummary aggregateByDoctor(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        if (!endDate.isBefore(LocalDate.now())) {
+            return query(doctorId, startDate, endDate);
+        }
+        return closedPeriodCache.get(new StatisticsKey(doctorId, startDate, endDate),
+                key -> query(doctorId, startDate, endDate));
+    }
 
-        Map<TreatmentType, Long> typeCount = new HashMap<>();
+    private DailyRollupSummary query(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        List<TreatmentStatisticsRow> rows =
+                treatmentRepository.countByDoctorGroupByStatusAndType(doctorId, start, end);
+        return DailyRollupSummary.of(toRecords(rows));
+    }
+
+    private TreatmentStatisticsResponse.TreatmentStatisticsResponseBuilder toResponse(DailyRollupSummary summary) {
+        Map<TreatmentType, Long> typeCount = new EnumMap<>(TreatmentType.class);
         for (TreatmentType type : TreatmentType.values()) {
-            long count = treatmentRepository.findByTreatmentDoc_Id(doctorId).stream()
-                    .filter(t -> t.getTreatmentDate().isAfter(start) && t.getTreatmentDate().isBefore(end))
-                    .filter(t -> t.getTreatmentType() == type)
-                    .count();
-            typeCount.put(type, count);
+            typeCount.put(type, summary.count(TYPE, type.name()));
         }
-
         return TreatmentStatisticsResponse.builder()
-                .doctorId(doctorId)
-                .startDate(startDate)
-                .endDate(endDate)
-                .totalCount(totalCount)
-                .completedCount(completedCount)
-                .pendingCount(pendingCount)
-                .inProgressCount(inProgressCount)
-                .cancelledCount(cancelledCount)
-                .typeCount(typeCount)
-                .build();
+                .totalCount(summary.totalCount(STATUS))
+                .completedCount(summary.count(STATUS, TreatmentStatus.COMPLETED.name()))
+                .pendingCount(summary.count(STATUS, TreatmentStatus.PENDING.name()))
+                .inProgressCount(summary.count(STATUS, TreatmentStatus.IN_PROGRESS.name()))
+                .cancelledCount(summary.count(STATUS, TreatmentStatus.CANCELLED.name()))
+                .typeCount(typeCount);
+    }
+
+    private record StatisticsKey(Long doctorId, LocalDate startDate, LocalDate endDate) {
     }
-}
\ No newline at end of file
+}
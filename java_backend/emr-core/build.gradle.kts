@@ -20,6 +20,7 @@ dependencies {
     api("org.springframework.boot:spring-boot-starter-aop:4.0.0-M1")
     api("org.springframework.boot:spring-boot-starter-mail")
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    api("com.github.ben-manes.caffeine:caffeine")
 
     api("io.jsonwebtoken:jjwt-api:0.12.6")
     api("io.jsonwebtoken:jjwt-impl:0.12.6")
@@ -35,6 +36,7 @@ dependencies {
 
     api("com.fasterxml.jackson.core:jackson-databind")
     api("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    api("com.fasterxml.jackson.module:jackson-module-parameter-names")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
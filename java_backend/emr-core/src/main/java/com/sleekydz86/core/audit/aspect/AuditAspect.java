@@ -1,11 +1,11 @@
 package com.sleekydz86.core.audit.aspect;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sleekydz86.core.audit.annotation.AuditLog;
 import com.sleekydz86.core.audit.service.AuditService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.aspectj.lang.annotation.Around;
@@ -13,6 +13,9 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Aspect
 @Component
@@ -21,89 +24,49 @@ public class AuditAspect {
 
     private static final Logger log = LoggerFactory.getLogger(AuditAspect.class);
     private final AuditService auditService;
-    private final ObjectMapper objectMapper;
+
+    // 메서드별 메타데이터 캐시 (매 호출마다 리플렉션으로 탐색하지 않도록)
+    private final Map<Method, AuditMethodMetadata> metadataCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(auditLog)")
     public Object audit(ProceedingJoinPoint joinPoint, AuditLog auditLog) throws Throwable {
-        Object beforeData = null;
-        Object afterData = null;
-        Long userId = null;
         String ipAddress = null;
         String userAgent = null;
 
-        try {
-
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                ipAddress = request.getRemoteAddr();
-                userAgent = request.getHeader("User-Agent");
-            }
-
-            // 실제 구현 시 UserEntity 타입 기능 완성처리필요
-            Object[] args = joinPoint.getArgs();
-            for (Object arg : args) {
-                // UserEntity는 실제 도메인 모듈에서 확인
-                //  Object의 id 필드를 리플렉션으로 추출하기
-                if (arg != null) {
-                    try {
-                        java.lang.reflect.Method getIdMethod = arg.getClass().getMethod("getId");
-                        Object id = getIdMethod.invoke(arg);
-                        if (id instanceof Long) {
-                            userId = (Long) id;
-                            break;
-                        }
-                    } catch (Exception e) {
-                        // 무시 하는 기능만들기
-                    }
-                }
-            }
-
-            if (args.length > 0) {
-                beforeData = args[0];
-            }
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            HttpServletRequest request = attributes.getRequest();
+            ipAddress = request.getRemoteAddr();
+            userAgent = request.getHeader("User-Agent");
+        }
 
-            Object result = joinPoint.proceed();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        AuditMethodMetadata metadata = metadataCache.computeIfAbsent(method,
+                m -> AuditMethodMetadata.of(m, auditLog));
 
-            afterData = result;
+        Object[] args = joinPoint.getArgs();
+        Long userId = metadata.extractUserId(args);
+        Object beforeData = args.length > 0 ? args[0] : null;
 
-            String entityType = joinPoint.getSignature().getDeclaringTypeName();
-            String entityId = extractEntityId(beforeData, afterData);
+        Object result = joinPoint.proceed();
 
-            if (userId != null) {
+        if (userId != null) {
+            try {
                 auditService.logAudit(
                         userId,
-                        auditLog.action().name(),
-                        entityType,
-                        entityId,
+                        metadata.actionType(),
+                        metadata.entityType(),
+                        metadata.extractEntityId(beforeData, result),
                         beforeData,
-                        afterData,
+                        result,
                         ipAddress,
                         userAgent
                 );
+            } catch (Exception e) {
+                log.error("감사 로그 처리 중 오류 발생", e);
             }
-
-            return result;
-        } catch (Exception e) {
-            log.error("감사 로그 처리 중 오류 발생", e);
-            throw e;
         }
-    }
 
-    private String extractEntityId(Object beforeData, Object afterData) {
-        try {
-            if (beforeData != null) {
-                return objectMapper.readTree(objectMapper.writeValueAsString(beforeData))
-                        .get("id").asText();
-            }
-            if (afterData != null) {
-                return objectMapper.readTree(objectMapper.writeValueAsString(afterData))
-                        .get("id").asText();
-            }
-        } catch (Exception e) {
-            log.debug("엔티티 ID 추출 실패", e);
-        }
-        return "unknown";
+        return result;
     }
 }
-
@@ -0,0 +1,78 @@
+package com.sleekydz86.core.audit.aspect;
+
+import com.sleekydz86.core.audit.annotation.AuditLog;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+record AuditMethodMetadata(String actionType, String entityType) {
+
+    // 클래스별 id 접근자 캐시 (getId() 또는 record 의 id())
+    private static final ClassValue<Optional<Method>> ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            return findIdAccessor(type);
+        }
+    };
+
+    static AuditMethodMetadata of(Method method, AuditLog auditLog) {
+        return new AuditMethodMetadata(
+                auditLog.action().name(),
+                method.getDeclaringClass().getName()
+        );
+    }
+
+    // 선언 타입이 Object 나 인터페이스여도 잡히도록 실제 인자의 런타임 타입으로 getId() 를 확인
+    Long extractUserId(Object[] args) {
+        for (Object arg : args) {
+            if (arg == null) {
+                continue;
+            }
+            Optional<Method> accessor = ID_ACCESSORS.get(arg.getClass());
+            if (accessor.isPresent() && "getId".equals(accessor.get().getName())
+                    && readId(arg) instanceof Long id) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    String extractEntityId(Object beforeData, Object afterData) {
+        Object id = beforeData != null ? readId(beforeData) : null;
+        if (id == null && afterData != null) {
+            id = readId(afterData);
+        }
+        return id != null ? id.toString() : "unknown";
+    }
+
+    private static Object readId(Object target) {
+        Optional<Method> accessor = ID_ACCESSORS.get(target.getClass());
+        if (accessor.isEmpty()) {
+            return null;
+        }
+        try {
+            return accessor.get().invoke(target);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Optional<Method> findIdAccessor(Class<?> type) {
+        if (type.isPrimitive() || type.isArray()) {
+            return Optional.empty();
+        }
+        for (String name : new String[]{"getId", "id"}) {
+            try {
+                Method method = type.getMethod(name);
+                if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class) {
+                    continue;
+                }
+                method.trySetAccessible();
+                return Optional.of(method);
+            } catch (NoSuchMethodException e) {
+                // 다음 후보 확인
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -2,13 +2,14 @@ package com.sleekydz86.core.audit.service;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sleekydz86.core.audit.entity.AuditEntity;
-import com.sleekydz86.core.audit.repository.AuditRepository;
+import com.sleekydz86.core.audit.writer.AsyncAuditWriter;
+import com.sleekydz86.core.audit.writer.AuditRecord;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
 
 @Service
@@ -16,33 +17,36 @@ import java.time.LocalDateTime;
 public class AuditService {
 
     private static final Logger log = LoggerFactory.getLogger(AuditService.class);
-    private final AuditRepository auditRepository;
+    private final AsyncAuditWriter auditWriter;
     private final ObjectMapper objectMapper;
 
-    @Transactional
     public void logAudit(Long userId, String actionType, String entityType, String entityId,
                          Object beforeData, Object afterData, String ipAddress, String userAgent) {
-        try {
-            AuditEntity auditEntity = AuditEntity.builder()
-                    .userId(userId)
-                    .actionType(actionType)
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .beforeData(toJson(beforeData))
-                    .afterData(toJson(afterData))
-                    .ipAddress(ipAddress)
-                    .userAgent(userAgent)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            auditRepository.save(auditEntity);
-            log.debug("감사 로그 기록 성공: {} - {} - {}", actionType, entityType, entityId);
-        } catch (Exception e) {
-            log.error("감사 로그 기록 실패: {} - {} - {}", actionType, entityType, entityId, e);
+        // 인자/반환 객체는 이후 호출자가 변경하거나 지연 로딩 세션이 닫힐 수 있으므로 호출 스레드에서 바로 직렬화
+        AuditRecord record = new AuditRecord(userId, actionType, entityType, entityId,
+                toJson(beforeData), toJson(afterData), ipAddress, userAgent, LocalDateTime.now());
 
+        // 호출자 트랜잭션이 롤백되면 감사 로그도 남기지 않도록 커밋 이후에 버퍼로 전달
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(record);
+                }
+            });
+            return;
         }
+        enqueue(record);
     }
 
+    private void enqueue(AuditRecord record) {
+        try {
+            auditWriter.submit(record);
+            log.debug("감사 로그 접수: {} - {} - {}", record.actionType(), record.entityType(), record.entityId());
+        } catch (Exception e) {
+            log.error("감사 로그 접수 실패: {} - {} - {}", record.actionType(), record.entityType(), record.entityId(), e);
+        }
+    }
 
     private String toJson(Object obj) {
         if (obj == null) {
@@ -56,7 +60,6 @@ public class AuditService {
         }
     }
 
-    @Transactional
     public void logSimpleAudit(Long userId, String actionType, String entityType, String entityId,
                                String ipAddress, String userAgent) {
         logAudit(userId, actionType, entityType, entityId, null, null, ipAddress, userAgent);
@@ -0,0 +1,210 @@
+package com.sleekydz86.core.audit.writer;
+
+import com.sleekydz86.core.audit.entity.AuditEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncAuditWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_log "
+            + "(user_id, action_type, entity_type, entity_id, before_data, after_data, ip_address, user_agent, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${audit.writer.buffer-size:10000}")
+    private int bufferSize;
+
+    @Value("${audit.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${audit.writer.flush-interval:500}")
+    private long flushIntervalMillis;
+
+    @Value("${audit.writer.offer-timeout:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${audit.writer.overflow-policy:CALLER_RUNS}")
+    private AuditOverflowPolicy overflowPolicy;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private BlockingQueue<AuditRecord> buffer;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("audit-writer")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시점에 남아 있는 로그는 모두 기록
+        flushRemaining();
+        log.info("감사 로그 writer 종료: 기록 {}건, 유실 {}건", writtenCount.get(), droppedCount.get());
+    }
+
+    public void submit(AuditRecord record) {
+        if (buffer.offer(record)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP -> drop(record);
+            case BLOCK -> {
+                try {
+                    if (!buffer.offer(record, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        drop(record);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(record);
+                }
+            }
+            case CALLER_RUNS -> write(List.of(record));
+        }
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void runLoop() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditRecord first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // stop() 에서 깨운 경우 루프 조건으로 종료
+            } catch (Exception e) {
+                log.error("감사 로그 writer 처리 중 오류 발생", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditRecord> records) {
+        List<AuditEntity> entities = new ArrayList<>(records.size());
+        for (AuditRecord record : records) {
+            try {
+                entities.add(toEntity(record));
+            } catch (IllegalArgumentException e) {
+                droppedCount.incrementAndGet();
+                log.error("감사 로그 검증 실패: {} - {} - {}", record.actionType(), record.entityType(), record.entityId(), e);
+            }
+        }
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, entities, entities.size(), (ps, entity) -> {
+                ps.setLong(1, entity.getUserId());
+                ps.setString(2, entity.getActionType());
+                ps.setString(3, entity.getEntityType());
+                ps.setString(4, entity.getEntityId());
+                ps.setString(5, entity.getBeforeData());
+                ps.setString(6, entity.getAfterData());
+                ps.setString(7, entity.getIpAddress());
+                ps.setString(8, entity.getUserAgent());
+                ps.setTimestamp(9, Timestamp.valueOf(entity.getCreatedAt()));
+            });
+            writtenCount.addAndGet(entities.size());
+            log.debug("감사 로그 일괄 기록 성공: {}건", entities.size());
+        } catch (Exception e) {
+            log.warn("감사 로그 일괄 기록 실패, 건별 재시도: {}건", entities.size(), e);
+            entities.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(AuditEntity entity) {
+        try {
+            jdbcTemplate.update(INSERT_SQL,
+                    entity.getUserId(),
+                    entity.getActionType(),
+                    entity.getEntityType(),
+                    entity.getEntityId(),
+                    entity.getBeforeData(),
+                    entity.getAfterData(),
+                    entity.getIpAddress(),
+                    entity.getUserAgent(),
+                    Timestamp.valueOf(entity.getCreatedAt()));
+            writtenCount.incrementAndGet();
+        } catch (Exception e) {
+            droppedCount.incrementAndGet();
+            log.error("감사 로그 기록 실패: {} - {} - {}", entity.getActionType(), entity.getEntityType(), entity.getEntityId(), e);
+        }
+    }
+
+    private AuditEntity toEntity(AuditRecord record) {
+        return AuditEntity.builder()
+                .userId(record.userId())
+                .actionType(record.actionType())
+                .entityType(record.entityType())
+                .entityId(record.entityId())
+                .beforeData(record.beforeData())
+                .afterData(record.afterData())
+                .ipAddress(record.ipAddress())
+                .userAgent(record.userAgent())
+                .createdAt(record.createdAt())
+                .build();
+    }
+
+    private void drop(AuditRecord record) {
+        long dropped = droppedCount.incrementAndGet();
+        log.warn("감사 로그 버퍼 초과로 유실: {} - {} - {} (누적 {}건)",
+                record.actionType(), record.entityType(), record.entityId(), dropped);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sleekydz86.core.audit.writer;
+
+public enum AuditOverflowPolicy {
+    // 버퍼가 가득 차면 offer-timeout 만큼 기다린 뒤 버린다
+    BLOCK,
+    // 버퍼가 가득 차면 즉시 버린다
+    DROP,
+    // 버퍼가 가득 차면 호출 스레드에서 직접 기록한다 (유실 없음)
+    CALLER_RUNS
+}
@@ -0,0 +1,17 @@
+package com.sleekydz86.core.audit.writer;
+
+import java.time.LocalDateTime;
+
+// 요청 스레드에서 JSON 으로 직렬화해 둔 감사 로그 스냅샷 (writer 스레드는 원본 객체를 참조하지 않음)
+public record AuditRecord(
+        Long userId,
+        String actionType,
+        String entityType,
+        String entityId,
+        String beforeData,
+        String afterData,
+        String ipAddress,
+        String userAgent,
+        LocalDateTime createdAt
+) {
+}
@@ -1,11 +1,14 @@
 package com.sleekydz86.core.common.exception;
 
 import com.sleekydz86.core.common.annotation.AuthUser;
+import com.sleekydz86.core.security.jwt.JwtAuthenticationFilter;
 import com.sleekydz86.core.security.jwt.JwtUtil;
+import com.sleekydz86.core.security.jwt.valueobject.AccessToken;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -26,6 +29,11 @@ public class AuthUserResolver implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object verified = webRequest.getAttribute(JwtAuthenticationFilter.ACCESS_TOKEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (verified instanceof AccessToken accessToken) {
+            return accessToken.getUserId();
+        }
+
         String header = webRequest.getHeader("Authorization");
         String token = jwtUtil.resolveToken(header);
 
@@ -33,9 +41,7 @@ public class AuthUserResolver implements HandlerMethodArgumentResolver {
             throw new com.sleekydz86.core.security.jwt.CustomAuthenticationException("JWT 토큰이 없습니다.");
         }
 
-        Long userId = jwtUtil.getUserIdFromToken(token);
-
-        return userId;
+        return jwtUtil.verifyAccessToken(token).getUserId();
     }
 }
 
@@ -24,6 +24,7 @@ public enum ErrorCode {
 
     // 시스템 관련
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 잠시 후 다시 시도해주세요."),
     RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS.value(), "요청 한도를 초과했습니다.");
 
     private final int status;
@@ -0,0 +1,70 @@
+package com.sleekydz86.core.concurrency;
+
+import com.sleekydz86.core.common.exception.ErrorCode;
+import com.sleekydz86.core.common.exception.custom.BaseException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 가상 스레드는 개수 제한이 없으므로 SMTP, 외부 API 등 실제 자원 단위로 동시 실행 수를 제한
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkheadRegistry {
+
+    private static final int DEFAULT_MAX_CONCURRENT = 50;
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final long DEFAULT_ACQUIRE_TIMEOUT_MS = 30000;
+
+    private final Environment environment;
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    public <T> T execute(String name, Supplier<T> action) {
+        Semaphore semaphore = semaphores.computeIfAbsent(name, this::createSemaphore);
+        long timeout = environment.getProperty("execution.bulkhead." + name + ".acquire-timeout",
+                Long.class, DEFAULT_ACQUIRE_TIMEOUT_MS);
+
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(ErrorCode.SERVICE_BUSY, "작업 대기 중 인터럽트되었습니다: " + name, e);
+        }
+        if (!acquired) {
+            log.warn("동시 실행 한도 초과: {} (대기 {}ms)", name, timeout);
+            throw new BaseException(ErrorCode.SERVICE_BUSY, "요청이 많아 처리할 수 없습니다: " + name);
+        }
+
+        try {
+            return action.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int availablePermits(String name) {
+        Semaphore semaphore = semaphores.get(name);
+        return semaphore != null ? semaphore.availablePermits() : maxConcurrent(name);
+    }
+
+    private Semaphore createSemaphore(String name) {
+        return new Semaphore(maxConcurrent(name), true);
+    }
+
+    private int maxConcurrent(String name) {
+        return environment.getProperty("execution.bulkhead." + name + ".max-concurrent",
+                Integer.class, DEFAULT_MAX_CONCURRENT);
+    }
+
+    public int poolSize() {
+        return environment.getProperty("spring.datasource.hikari.maximum-pool-size",
+                Integer.class, DEFAULT_POOL_SIZE);
+    }
+}
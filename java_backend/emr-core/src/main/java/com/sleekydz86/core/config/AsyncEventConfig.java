@@ -1,7 +1,11 @@
 package com.sleekydz86.core.config;
 
+import com.sleekydz86.core.concurrency.BulkheadRegistry;
+import com.sleekydz86.core.tenant.TenantContextTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
@@ -10,13 +14,30 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncEventConfig {
 
+    // spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 @Scheduled 도 가상 스레드에서 실행된다
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    // 가상 스레드 모드에서 동시에 실행되는 이벤트 작업 수 상한 (기본값은 DB 커넥션 풀 크기)
+    @Value("${async.event.virtual.concurrency-limit:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int virtualConcurrencyLimit;
+
     @Bean(name = "eventTaskExecutor")
-    public Executor eventTaskExecutor() {
+    public Executor eventTaskExecutor(BulkheadRegistry bulkheadRegistry) {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(Math.min(virtualConcurrencyLimit, bulkheadRegistry.poolSize()));
+            executor.setTaskDecorator(new TenantContextTaskDecorator());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("event-");
+        executor.setTaskDecorator(new TenantContextTaskDecorator());
         executor.initialize();
         return executor;
     }
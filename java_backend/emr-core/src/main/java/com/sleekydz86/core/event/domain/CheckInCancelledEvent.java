@@ -22,4 +22,9 @@ public record CheckInCancelledEvent(
     public String getEventType() {
         return "CheckInCancelled";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "CheckIn:" + checkInId;
+    }
 }
\ No newline at end of file
@@ -21,4 +21,9 @@ public record CheckInCompletedEvent(
     public String getEventType() {
         return "CheckInCompleted";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "CheckIn:" + checkInId;
+    }
 }
\ No newline at end of file
@@ -24,4 +24,9 @@ public record CheckInRegisteredEvent(
     public String getEventType() {
         return "CheckInRegistered";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "CheckIn:" + checkInId;
+    }
 }
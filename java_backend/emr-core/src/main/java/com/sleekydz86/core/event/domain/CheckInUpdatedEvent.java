@@ -0,0 +1,30 @@
+package com.sleekydz86.core.event.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CheckInUpdatedEvent(
+        Long checkInId,
+        Long patientNo,
+        Long userId
+) implements DomainEvent {
+    @Override
+    public UUID getEventId() {
+        return UUID.randomUUID();
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return LocalDateTime.now();
+    }
+
+    @Override
+    public String getEventType() {
+        return "CheckInUpdated";
+    }
+
+    @Override
+    public String getAggregateKey() {
+        return "CheckIn:" + checkInId;
+    }
+}
\ No newline at end of file
@@ -18,5 +18,10 @@ public interface DomainEvent {
     default boolean isCritical() {
         return false;
     }
+
+    // 같은 키를 가진 이벤트는 아웃박스에서 발생 순서대로 전달된다
+    default String getAggregateKey() {
+        return null;
+    }
 }
 
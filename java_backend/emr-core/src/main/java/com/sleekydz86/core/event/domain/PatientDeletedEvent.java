@@ -0,0 +1,36 @@
+package com.sleekydz86.core.event.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class PatientDeletedEvent implements DomainEvent {
+    private final UUID eventId;
+    private final LocalDateTime occurredAt;
+    private final Long patientNo;
+
+    public PatientDeletedEvent(Long patientNo) {
+        this.eventId = UUID.randomUUID();
+        this.occurredAt = LocalDateTime.now();
+        this.patientNo = patientNo;
+    }
+
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return "PatientDeleted";
+    }
+
+    public Long getPatientNo() {
+        return patientNo;
+    }
+}
+
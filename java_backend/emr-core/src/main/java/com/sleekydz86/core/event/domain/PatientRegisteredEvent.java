@@ -8,14 +8,13 @@ public class PatientRegisteredEvent implements DomainEvent {
     private final LocalDateTime occurredAt;
     private final Long patientNo;
     private final String patientName;
-    private final String patientRrn;
 
-    public PatientRegisteredEvent(Long patientNo, String patientName, String patientRrn) {
+    // 주민등록번호는 아웃박스에 남지 않도록 이벤트에 싣지 않음 (필요하면 patientNo 로 조회)
+    public PatientRegisteredEvent(Long patientNo, String patientName) {
         this.eventId = UUID.randomUUID();
         this.occurredAt = LocalDateTime.now();
         this.patientNo = patientNo;
         this.patientName = patientName;
-        this.patientRrn = patientRrn;
     }
 
     @Override
@@ -37,10 +36,6 @@ public class PatientRegisteredEvent implements DomainEvent {
         return patientNo;
     }
 
-    public String getPatientRrn() {
-        return patientRrn;
-    }
-
     public String getPatientName() {
         return patientName;
     }
@@ -22,5 +22,9 @@ public record PrescriptionCancelledEvent(
     public String getEventType() {
         return "PrescriptionCancelled";
     }
-}
 
+    @Override
+    public String getAggregateKey() {
+        return "Prescription:" + prescriptionId;
+    }
+}
@@ -23,4 +23,9 @@ public record PrescriptionCreatedEvent(
     public String getEventType() {
         return "PrescriptionCreated";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Prescription:" + prescriptionId;
+    }
 }
@@ -21,4 +21,9 @@ public record PrescriptionDispensedEvent(
     public String getEventType() {
         return "PrescriptionDispensed";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Prescription:" + prescriptionId;
+    }
 }
\ No newline at end of file
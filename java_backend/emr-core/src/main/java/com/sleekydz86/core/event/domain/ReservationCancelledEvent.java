@@ -22,4 +22,9 @@ public record ReservationCancelledEvent(
     public String getEventType() {
         return "ReservationCancelled";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Reservation:" + reservationId;
+    }
 }
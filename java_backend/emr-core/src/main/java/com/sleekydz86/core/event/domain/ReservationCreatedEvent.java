@@ -23,4 +23,9 @@ public record ReservationCreatedEvent(
     public String getEventType() {
         return "ReservationCreated";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Reservation:" + reservationId;
+    }
 }
\ No newline at end of file
@@ -22,4 +22,9 @@ public record ReservationUpdatedEvent(
     public String getEventType() {
         return "ReservationUpdated";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Reservation:" + reservationId;
+    }
 }
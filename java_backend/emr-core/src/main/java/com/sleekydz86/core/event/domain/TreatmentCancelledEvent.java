@@ -22,4 +22,9 @@ public record TreatmentCancelledEvent(
     public String getEventType() {
         return "TreatmentCancelled";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Treatment:" + treatmentId;
+    }
 }
\ No newline at end of file
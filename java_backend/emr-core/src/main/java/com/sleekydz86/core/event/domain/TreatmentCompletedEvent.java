@@ -22,4 +22,9 @@ public record TreatmentCompletedEvent(
     public String getEventType() {
         return "TreatmentCompleted";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Treatment:" + treatmentId;
+    }
 }
\ No newline at end of file
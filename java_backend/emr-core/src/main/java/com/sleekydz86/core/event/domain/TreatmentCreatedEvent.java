@@ -24,4 +24,9 @@ public record TreatmentCreatedEvent(
     public String getEventType() {
         return "TreatmentCreated";
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "Treatment:" + treatmentId;
+    }
 }
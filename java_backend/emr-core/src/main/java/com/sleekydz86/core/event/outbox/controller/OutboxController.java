@@ -0,0 +1,33 @@
+package com.sleekydz86.core.event.outbox.controller;
+
+import com.sleekydz86.core.common.annotation.AuthRole;
+import com.sleekydz86.core.event.outbox.dto.OutboxBacklogResponse;
+import com.sleekydz86.core.event.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    @GetMapping("/backlog")
+    @AuthRole(roles = {"ADMIN"})
+    public ResponseEntity<OutboxBacklogResponse> getBacklog() {
+        return ResponseEntity.ok(outboxService.getBacklog());
+    }
+
+    @PostMapping("/{outboxEventId}/retry")
+    @AuthRole(roles = {"ADMIN"})
+    public ResponseEntity<Void> retry(@PathVariable Long outboxEventId) {
+        outboxService.retryFailed(outboxEventId);
+        return ResponseEntity.noContent().build();
+    }
+}
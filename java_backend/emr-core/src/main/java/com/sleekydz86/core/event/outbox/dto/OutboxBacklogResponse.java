@@ -0,0 +1,12 @@
+package com.sleekydz86.core.event.outbox.dto;
+
+import java.time.LocalDateTime;
+
+public record OutboxBacklogResponse(
+        long pending,
+        long processing,
+        long failed,
+        LocalDateTime oldestPendingCreatedAt,
+        long oldestPendingAgeSeconds
+) {
+}
@@ -0,0 +1,137 @@
+package com.sleekydz86.core.event.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "event_outbox", indexes = {
+        @Index(name = "idx_event_outbox_status_next", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_event_outbox_aggregate", columnList = "aggregateKey, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, length = 255)
+    private String payloadType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(length = 150)
+    private String aggregateKey;
+
+    // 발행한 요청의 기관 코드. 릴레이가 전달할 때 TenantContext 로 복원
+    @Column(length = 10)
+    private String tenantId;
+
+    // 전달에 성공한 리스너 ID (줄바꿈 구분). 재시도 시 이 리스너들은 다시 호출하지 않음
+    @Column(columnDefinition = "TEXT")
+    private String deliveredListeners;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @Builder
+    private OutboxEventEntity(String eventId, String eventType, String payloadType, String payload,
+                              String aggregateKey, String tenantId, LocalDateTime createdAt) {
+        validate(eventId, eventType, payloadType, payload);
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.aggregateKey = aggregateKey;
+        this.tenantId = tenantId;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    private void validate(String eventId, String eventType, String payloadType, String payload) {
+        if (eventId == null || eventId.isBlank()) {
+            throw new IllegalArgumentException("이벤트 ID는 필수입니다.");
+        }
+        if (eventType == null || eventType.isBlank()) {
+            throw new IllegalArgumentException("이벤트 타입은 필수입니다.");
+        }
+        if (payloadType == null || payloadType.isBlank()) {
+            throw new IllegalArgumentException("이벤트 클래스는 필수입니다.");
+        }
+        if (payload == null) {
+            throw new IllegalArgumentException("이벤트 내용은 필수입니다.");
+        }
+    }
+
+    // 처리 중 노드가 죽으면 lease 만료 후 다른 릴레이가 다시 가져간다
+    public void markProcessing(LocalDateTime leaseUntil) {
+        this.status = OutboxStatus.PROCESSING;
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public Set<String> getDeliveredListenerIds() {
+        if (deliveredListeners == null || deliveredListeners.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(Arrays.asList(deliveredListeners.split("\n")));
+    }
+
+    public void recordDelivered(Set<String> listenerIds) {
+        this.deliveredListeners = listenerIds == null || listenerIds.isEmpty() ? null : String.join("\n", listenerIds);
+    }
+
+    public void markPublished(LocalDateTime publishedAt) {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = publishedAt;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        } else {
+            this.status = OutboxStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    public void retry(LocalDateTime now) {
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+    }
+}
@@ -0,0 +1,8 @@
+package com.sleekydz86.core.event.outbox.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSING,
+    PUBLISHED,
+    FAILED
+}
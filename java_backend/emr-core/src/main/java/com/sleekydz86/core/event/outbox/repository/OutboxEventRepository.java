@@ -0,0 +1,41 @@
+package com.sleekydz86.core.event.outbox.repository;
+
+import com.sleekydz86.core.event.outbox.entity.OutboxEventEntity;
+import com.sleekydz86.core.event.outbox.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    // lock.timeout = -2 는 Hibernate 에서 FOR UPDATE SKIP LOCKED 로 변환된다.
+    // 같은 aggregate 의 앞선 이벤트가 남아 있으면 뒤 이벤트는 가져오지 않아 aggregate 단위 순서를 보장
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEventEntity o " +
+            "WHERE o.status IN :statuses AND o.nextAttemptAt <= :now " +
+            "AND (o.aggregateKey IS NULL OR NOT EXISTS (" +
+            "    SELECT p.id FROM OutboxEventEntity p " +
+            "    WHERE p.aggregateKey = o.aggregateKey AND p.status IN :statuses AND p.id < o.id)) " +
+            "ORDER BY o.id")
+    List<OutboxEventEntity> findDispatchable(@Param("statuses") List<OutboxStatus> statuses,
+                                             @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEventEntity o WHERE o.status IN :statuses")
+    LocalDateTime findOldestCreatedAt(@Param("statuses") List<OutboxStatus> statuses);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity o WHERE o.status = :status AND o.publishedAt < :before")
+    int deletePublishedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,49 @@
+package com.sleekydz86.core.event.outbox.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.stereotype.Component;
+import java.util.Set;
+
+// 컨텍스트 기본 멀티캐스터를 대체. 아웃박스 이벤트는 리스너마다 따로 전달해 재시도 시 이미 처리한 리스너를 건너뛴다
+@Component(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+@Slf4j
+public class OutboxEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    // delivered 에 없는 리스너에만 전달하고 성공한 리스너 ID 를 추가. 실패한 리스너가 있으면 첫 예외를 던짐
+    public void multicastPending(Object event, Set<String> delivered) {
+        PayloadApplicationEvent<Object> applicationEvent = new PayloadApplicationEvent<>(this, event);
+        RuntimeException failure = null;
+        for (ApplicationListener<?> listener : getApplicationListeners(applicationEvent, applicationEvent.getResolvableType())) {
+            String listenerId = listenerId(listener);
+            if (delivered.contains(listenerId)) {
+                continue;
+            }
+            try {
+                invokeListener(listener, applicationEvent);
+                delivered.add(listenerId);
+            } catch (RuntimeException e) {
+                log.warn("이벤트 리스너 전달 실패: {}", listenerId);
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private String listenerId(ApplicationListener<?> listener) {
+        if (listener instanceof SmartApplicationListener smartListener && !smartListener.getListenerId().isEmpty()) {
+            return smartListener.getListenerId();
+        }
+        return listener.getClass().getName();
+    }
+}
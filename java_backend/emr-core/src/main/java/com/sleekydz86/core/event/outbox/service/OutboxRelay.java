@@ -0,0 +1,144 @@
+package com.sleekydz86.core.event.outbox.service;
+
+import com.sleekydz86.core.event.domain.DomainEvent;
+import com.sleekydz86.core.event.outbox.dto.OutboxBacklogResponse;
+import com.sleekydz86.core.event.outbox.entity.OutboxEventEntity;
+import com.sleekydz86.core.event.outbox.entity.OutboxStatus;
+import com.sleekydz86.core.event.outbox.repository.OutboxEventRepository;
+import com.sleekydz86.core.tenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final int MAX_ROUNDS_PER_POLL = 10;
+    private static final long MAX_BACKOFF_MS = 10 * 60 * 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final OutboxEventMulticaster eventMulticaster;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${event.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${event.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${event.outbox.retry-backoff:1000}")
+    private long retryBackoffMillis;
+
+    @Value("${event.outbox.lease:60000}")
+    private long leaseMillis;
+
+    @Value("${event.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${event.outbox.backlog-warn-threshold:1000}")
+    private long backlogWarnThreshold;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxService outboxService,
+                       OutboxEventMulticaster eventMulticaster,
+                       TransactionTemplate transactionTemplate) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxService = outboxService;
+        this.eventMulticaster = eventMulticaster;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${event.outbox.poll-interval:1000}")
+    public void relay() {
+        for (int round = 0; round < MAX_ROUNDS_PER_POLL; round++) {
+            List<OutboxEventEntity> claimed = transactionTemplate.execute(status -> claimBatch());
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+
+            Map<Long, String> failures = new HashMap<>();
+            Map<Long, Set<String>> deliveries = new HashMap<>();
+            for (OutboxEventEntity outboxEvent : claimed) {
+                // 리스너가 저장하는 엔티티에 기관 코드가 채워지도록 발행 당시의 테넌트를 복원
+                Set<String> delivered = outboxEvent.getDeliveredListenerIds();
+                TenantContext.setTenantId(outboxEvent.getTenantId());
+                try {
+                    DomainEvent event = outboxService.deserialize(outboxEvent);
+                    eventMulticaster.multicastPending(event, delivered);
+                } catch (Exception e) {
+                    log.error("아웃박스 이벤트 전달 실패: {} [ID: {}, 시도: {}]",
+                            outboxEvent.getEventType(), outboxEvent.getEventId(), outboxEvent.getAttempts(), e);
+                    failures.put(outboxEvent.getId(), e.getClass().getSimpleName() + ": " + e.getMessage());
+                } finally {
+                    TenantContext.clear();
+                    deliveries.put(outboxEvent.getId(), delivered);
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> complete(claimed, failures, deliveries));
+
+            if (claimed.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event.outbox.backlog-check-interval:60000}")
+    public void reportBacklog() {
+        OutboxBacklogResponse backlog = outboxService.getBacklog();
+        if (backlog.pending() + backlog.processing() >= backlogWarnThreshold || backlog.failed() > 0) {
+            log.warn("아웃박스 적체: 대기={}, 처리중={}, 실패={}, 최장 대기={}초",
+                    backlog.pending(), backlog.processing(), backlog.failed(), backlog.oldestPendingAgeSeconds());
+        } else {
+            log.debug("아웃박스 상태: 대기={}, 처리중={}, 실패={}",
+                    backlog.pending(), backlog.processing(), backlog.failed());
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(
+                OutboxStatus.PUBLISHED, LocalDateTime.now().minusDays(retentionDays)));
+        log.info("발행 완료된 아웃박스 이벤트 정리: {}건", deleted);
+    }
+
+    private List<OutboxEventEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> batch = outboxEventRepository.findDispatchable(
+                OutboxService.ACTIVE_STATUSES, now, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plusNanos(leaseMillis * 1_000_000);
+        batch.forEach(event -> event.markProcessing(leaseUntil));
+        return batch;
+    }
+
+    private void complete(List<OutboxEventEntity> claimed, Map<Long, String> failures,
+                          Map<Long, Set<String>> deliveries) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> managed = outboxEventRepository.findAllById(
+                claimed.stream().map(OutboxEventEntity::getId).toList());
+        for (OutboxEventEntity outboxEvent : managed) {
+            String error = failures.get(outboxEvent.getId());
+            outboxEvent.recordDelivered(deliveries.get(outboxEvent.getId()));
+            if (error == null) {
+                outboxEvent.markPublished(now);
+            } else {
+                outboxEvent.markFailed(error, now.plusNanos(backoffMillis(outboxEvent.getAttempts()) * 1_000_000), maxAttempts);
+            }
+        }
+    }
+
+    private long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(retryBackoffMillis << exponent, MAX_BACKOFF_MS);
+    }
+}
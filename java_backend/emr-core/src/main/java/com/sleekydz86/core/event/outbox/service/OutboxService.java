@@ -0,0 +1,104 @@
+package com.sleekydz86.core.event.outbox.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.sleekydz86.core.event.domain.DomainEvent;
+import com.sleekydz86.core.event.outbox.dto.OutboxBacklogResponse;
+import com.sleekydz86.core.event.outbox.entity.OutboxEventEntity;
+import com.sleekydz86.core.event.outbox.entity.OutboxStatus;
+import com.sleekydz86.core.event.outbox.repository.OutboxEventRepository;
+import com.sleekydz86.core.security.encryption.EncryptionService;
+import com.sleekydz86.core.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    static final List<OutboxStatus> ACTIVE_STATUSES = List.of(OutboxStatus.PENDING, OutboxStatus.PROCESSING);
+
+    // 레코드/불변 이벤트를 생성자로 복원하기 위해 별도 매퍼 사용
+    private static final ObjectMapper EVENT_MAPPER = JsonMapper.builder()
+            .addModule(new ParameterNamesModule())
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EncryptionService encryptionService;
+    private final Map<String, Class<?>> payloadTypes = new ConcurrentHashMap<>();
+
+    // 호출한 서비스의 트랜잭션에 함께 커밋된다.
+    // 레코드 이벤트는 getEventId() 가 호출마다 새 값을 주므로 발행 시점에 한 번 읽은 ID 를 받아 저장
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event, UUID eventId) {
+        try {
+            OutboxEventEntity outboxEvent = OutboxEventEntity.builder()
+                    .eventId(eventId.toString())
+                    .eventType(event.getEventType())
+                    .payloadType(event.getClass().getName())
+                    .payload(protect(EVENT_MAPPER.writeValueAsString(event)))
+                    .aggregateKey(event.getAggregateKey())
+                    .tenantId(TenantContext.getTenantId())
+                    .createdAt(event.getOccurredAt())
+                    .build();
+            outboxEventRepository.save(outboxEvent);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패: " + event.getEventType(), e);
+        }
+    }
+
+    public DomainEvent deserialize(OutboxEventEntity outboxEvent) throws Exception {
+        Class<?> type = payloadTypes.computeIfAbsent(outboxEvent.getPayloadType(), name -> {
+            try {
+                return Class.forName(name);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("이벤트 클래스를 찾을 수 없습니다: " + name, e);
+            }
+        });
+        return (DomainEvent) EVENT_MAPPER.readValue(unprotect(outboxEvent.getPayload()), type);
+    }
+
+    // 이벤트에 환자 이름 등 개인정보가 들어가므로 보관 기간 동안 평문으로 남지 않도록 페이로드 전체를 암호화
+    private String protect(String json) {
+        return encryptionService.isConfigured() ? encryptionService.encrypt(json) : json;
+    }
+
+    // JSON 으로 시작하면 암호화 도입 전이나 키 미설정 상태에서 저장된 평문 페이로드
+    private String unprotect(String payload) {
+        return payload.startsWith("{") ? payload : encryptionService.decrypt(payload);
+    }
+
+    @Transactional(readOnly = true)
+    public OutboxBacklogResponse getBacklog() {
+        long pending = outboxEventRepository.countByStatus(OutboxStatus.PENDING);
+        long processing = outboxEventRepository.countByStatus(OutboxStatus.PROCESSING);
+        long failed = outboxEventRepository.countByStatus(OutboxStatus.FAILED);
+        LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt(ACTIVE_STATUSES);
+        long ageSeconds = oldest == null ? 0L : Math.max(0L, Duration.between(oldest, LocalDateTime.now()).getSeconds());
+        return new OutboxBacklogResponse(pending, processing, failed, oldest, ageSeconds);
+    }
+
+    @Transactional
+    public void retryFailed(Long outboxEventId) {
+        outboxEventRepository.findById(outboxEventId)
+                .filter(event -> event.getStatus() == OutboxStatus.FAILED)
+                .ifPresent(event -> event.retry(LocalDateTime.now()));
+    }
+}
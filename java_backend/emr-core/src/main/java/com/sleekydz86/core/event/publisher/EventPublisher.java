@@ -1,11 +1,15 @@
 package com.sleekydz86.core.event.publisher;
 
 import com.sleekydz86.core.event.domain.DomainEvent;
+import com.sleekydz86.core.event.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -13,14 +17,32 @@ import org.springframework.stereotype.Service;
 public class EventPublisher {
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxService outboxService;
+
+    @Value("${event.outbox.enabled:true}")
+    private boolean outboxEnabled;
 
     public void publish(DomainEvent event) {
         validateEvent(event);
+        UUID eventId = event.getEventId();
+        if (shouldUseOutbox()) {
+            try {
+                // 트랜잭션 안에서는 아웃박스에 저장하고 커밋 이후 OutboxRelay가 전달
+                outboxService.append(event, eventId);
+                log.debug("이벤트 아웃박스 저장 성공: {} [ID: {}]", event.getEventType(), eventId);
+                return;
+            } catch (Exception e) {
+                log.error("이벤트 아웃박스 저장 실패: {} [ID: {}]", event.getEventType(), eventId, e);
+                if (event.isCritical()) {
+                    throw new EventPublishException("중요 이벤트 아웃박스 저장 실패: " + event.getEventType(), e);
+                }
+            }
+        }
         try {
             applicationEventPublisher.publishEvent(event);
-            log.debug("이벤트 발행 성공: {} [ID: {}]", event.getEventType(), event.getEventId());
+            log.debug("이벤트 발행 성공: {} [ID: {}]", event.getEventType(), eventId);
         } catch (Exception e) {
-            log.error("이벤트 발행 실패: {} [ID: {}]", event.getEventType(), event.getEventId(), e);
+            log.error("이벤트 발행 실패: {} [ID: {}]", event.getEventType(), eventId, e);
             if (event.isCritical()) {
                 throw new EventPublishException("중요 이벤트 발행 실패: " + event.getEventType(), e);
             }
@@ -33,6 +55,12 @@ public class EventPublisher {
     }
 
 
+    private boolean shouldUseOutbox() {
+        return outboxEnabled
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
     private void validateEvent(DomainEvent event) {
         if (event == null) {
             throw new IllegalArgumentException("이벤트는 null일 수 없습니다.");
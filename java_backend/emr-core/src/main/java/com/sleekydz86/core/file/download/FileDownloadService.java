@@ -1,43 +1,143 @@
 package com.sleekydz86.core.file.download;
 
 import com.sleekydz86.core.file.storage.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class FileDownloadService {
 
+    // Tomcat NIO 커넥터의 sendfile 지원 여부/요청 속성
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
     private final FileStorageService fileStorageService;
 
+    public void downloadFile(String filePath, String originalFilename, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        downloadFile(filePath, originalFilename, null, request, response);
+    }
 
-    public void downloadFile(String filePath, String originalFilename, HttpServletResponse response) throws IOException {
+    // 파일 전체를 힙에 올리지 않고 FileChannel 로 전송 (Range, ETag/Last-Modified 조건부 요청 지원)
+    public void downloadFile(String filePath, String originalFilename, String contentType,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
         if (!fileStorageService.exists(filePath)) {
             throw new IllegalArgumentException("파일을 찾을 수 없습니다: " + filePath);
         }
 
-        byte[] fileBytes = fileStorageService.readFile(filePath);
-        String contentType = getContentType(originalFilename);
+        Path path = fileStorageService.getPath(filePath);
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long fileSize = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        // 내용 주소로 저장된 파일은 digest 자체가 강한 ETag
+        String digest = fileStorageService.getContentDigest(filePath);
+        String etag = digest != null
+                ? "\"" + digest + "\""
+                : "\"" + Long.toHexString(fileSize) + "-" + Long.toHexString(lastModified) + "\"";
+
+        // If-None-Match / If-Modified-Since 등을 확인하고 304/412 응답 시 본문 없이 종료
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
 
         String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
                 .replaceAll("\\+", "%20");
 
-        response.setContentType(contentType);
-        response.setContentLength(fileBytes.length);
+        response.setContentType(contentType != null ? contentType : getContentType(originalFilename));
         response.setHeader("Content-Disposition", "attachment; filename=\"" + encodedFilename + "\"");
-        response.setHeader("Content-Transfer-Encoding", "binary");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        long start = 0;
+        long end = fileSize - 1;
+
+        HttpRange range = resolveRange(request, etag, lastModified);
+        if (range != null) {
+            if (fileSize == 0 || range.getRangeStart(fileSize) >= fileSize) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+                return;
+            }
+            start = range.getRangeStart(fileSize);
+            end = range.getRangeEnd(fileSize);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize);
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length <= 0) {
+            return;
+        }
 
-        try (OutputStream outputStream = response.getOutputStream()) {
-            outputStream.write(fileBytes);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            // 커넥터가 커널 sendfile 로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             OutputStream outputStream = response.getOutputStream()) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
             outputStream.flush();
         }
     }
 
+    private HttpRange resolveRange(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        // If-Range 가 현재 파일과 다르면 Range 를 무시하고 전체 전송
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            if (ifRangeDate == -1 || lastModified / 1000 > ifRangeDate / 1000) {
+                return null;
+            }
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            // 다중 범위(multipart/byteranges)는 지원하지 않고 전체 전송
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private String getContentType(String filename) {
         if (filename == null) {
             return "application/octet-stream";
@@ -54,4 +154,3 @@ public class FileDownloadService {
         };
     }
 }
-
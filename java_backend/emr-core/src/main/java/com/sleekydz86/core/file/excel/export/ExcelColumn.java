@@ -0,0 +1,14 @@
+package com.sleekydz86.core.file.excel.export;
+
+import java.util.function.Function;
+
+public record ExcelColumn<T>(String header, Function<? super T, ?> extractor) {
+
+    public static <T> ExcelColumn<T> of(String header, Function<? super T, ?> extractor) {
+        return new ExcelColumn<>(header, extractor);
+    }
+
+    Object valueOf(T row) {
+        return extractor.apply(row);
+    }
+}
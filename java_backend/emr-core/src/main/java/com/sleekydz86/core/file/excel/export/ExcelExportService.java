@@ -3,67 +3,103 @@ package com.sleekydz86.core.file.excel.export;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ExcelExportService {
 
+    // 메모리에 유지하는 행 수 (초과분은 압축된 임시 파일로 flush)
+    private static final int ROW_ACCESS_WINDOW = 100;
+    // 컬럼 너비 추정에 사용하는 샘플 행 수
+    private static final int WIDTH_SAMPLE_ROWS = 200;
+    private static final int MAX_COLUMN_CHARS = 80;
+
     public void exportToExcel(List<String> headers, List<Map<String, Object>> data, String filename, HttpServletResponse response) throws IOException {
-        // 대용량 데이터 처리를 위한 SXSSFWorkbook 사용
-        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        List<ExcelColumn<Map<String, Object>>> columns = headers.stream()
+                .map(header -> ExcelColumn.<Map<String, Object>>of(header, row -> row.get(header)))
+                .toList();
+        exportStream(columns, data.stream(), filename, response);
+    }
+
+    public <T> void exportStream(List<ExcelColumn<T>> columns, Stream<T> rows, String filename, HttpServletResponse response) throws IOException {
+        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + encodedFilename + "\"");
+
+        try (OutputStream outputStream = response.getOutputStream()) {
+            writeExcel(columns, rows, outputStream);
+            outputStream.flush();
+        }
+    }
+
+    public <T> void writeExcel(List<ExcelColumn<T>> columns, Stream<T> rows, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, ROW_ACCESS_WINDOW, true);
 
-        try {
-            Sheet sheet = workbook.createSheet("Sheet1");
+        try (rows) {
+            SXSSFSheet sheet = workbook.createSheet("Sheet1");
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
 
+            int[] widths = new int[columns.size()];
             Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < headers.size(); i++) {
+            for (int i = 0; i < columns.size(); i++) {
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers.get(i));
+                cell.setCellValue(columns.get(i).header());
                 cell.setCellStyle(headerStyle);
+                widths[i] = displayWidth(columns.get(i).header());
             }
 
             int rowNum = 1;
-            for (Map<String, Object> rowData : data) {
-                Row row = sheet.createRow(rowNum++);
-                int colNum = 0;
-                for (String header : headers) {
-                    Cell cell = row.createCell(colNum++);
-                    Object value = rowData.get(header);
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T rowData = iterator.next();
+                Row row = sheet.createRow(rowNum);
+                for (int i = 0; i < columns.size(); i++) {
+                    Cell cell = row.createCell(i);
+                    Object value = columns.get(i).valueOf(rowData);
                     setCellValue(cell, value);
                     cell.setCellStyle(dataStyle);
+                    if (rowNum <= WIDTH_SAMPLE_ROWS && value != null) {
+                        widths[i] = Math.max(widths[i], displayWidth(value.toString()));
+                    }
                 }
+                rowNum++;
             }
 
-            for (int i = 0; i < headers.size(); i++) {
-                sheet.autoSizeColumn(i);
+            // autoSizeColumn 은 윈도우에 남은 행만 측정하므로 샘플 기반 추정치로 너비 설정
+            for (int i = 0; i < widths.length; i++) {
+                sheet.setColumnWidth(i, (Math.min(widths[i], MAX_COLUMN_CHARS) + 2) * 256);
             }
 
-            String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
-
-            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-            response.setHeader("Content-Disposition", "attachment; filename=\"" + encodedFilename + "\"");
-
-            try (OutputStream outputStream = response.getOutputStream()) {
-                workbook.write(outputStream);
-                outputStream.flush();
-            }
+            workbook.write(outputStream);
         } finally {
             workbook.dispose();
+            workbook.close();
         }
     }
 
+    private int displayWidth(String text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            // 한글 등 전각 문자는 두 칸으로 계산
+            width += text.charAt(i) > 0x2E80 ? 2 : 1;
+        }
+        return width;
+    }
+
     private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
@@ -101,4 +137,3 @@ public class ExcelExportService {
         }
     }
 }
-
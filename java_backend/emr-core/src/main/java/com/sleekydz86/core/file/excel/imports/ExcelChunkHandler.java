@@ -0,0 +1,11 @@
+package com.sleekydz86.core.file.excel.imports;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface ExcelChunkHandler {
+
+    // 청크 단위로 검증/저장하고, 거부한 행의 오류 목록을 반환 (없으면 빈 목록)
+    // 예외를 던지면 청크 전체가 실패로 기록된다
+    List<ExcelRowError> handle(List<ExcelRow> chunk);
+}
@@ -0,0 +1,7 @@
+package com.sleekydz86.core.file.excel.imports;
+
+@FunctionalInterface
+public interface ExcelImportProgressListener {
+
+    void onProgress(int processedRows, int failedRows);
+}
@@ -0,0 +1,14 @@
+package com.sleekydz86.core.file.excel.imports;
+
+import java.util.List;
+
+public record ExcelImportResult(int totalRows, int successRows, List<ExcelRowError> errors) {
+
+    public int failedRows() {
+        return totalRows - successRows;
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
@@ -1,18 +1,44 @@
 package com.sleekydz86.core.file.excel.imports;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 public class ExcelImportService {
 
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+
     public List<Map<String, Object>> parseExcel(MultipartFile file) throws IOException {
         validateExcelFile(file);
 
@@ -56,13 +82,160 @@ public class ExcelImportService {
         return result;
     }
 
+    public ExcelImportResult importExcel(MultipartFile file, ExcelChunkHandler handler) throws IOException {
+        return importExcel(file, DEFAULT_CHUNK_SIZE, handler, null);
+    }
+
+    // 대용량 업로드용: SAX 방식으로 한 행씩 읽어 chunkSize 단위로 handler 에 전달 (시트 전체를 메모리에 올리지 않음)
+    public ExcelImportResult importExcel(MultipartFile file, int chunkSize, ExcelChunkHandler handler,
+                                         ExcelImportProgressListener progressListener) throws IOException {
+        validateExcelFile(file);
+        if (!file.getOriginalFilename().toLowerCase(Locale.ROOT).endsWith(".xlsx")) {
+            throw new IllegalArgumentException("대용량 import 는 .xlsx 파일만 지원합니다.");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("청크 크기는 1 이상이어야 합니다.");
+        }
+
+        // OPCPackage 를 InputStream 으로 열면 zip 전체를 메모리에 올리므로 임시 파일로 옮겨서 연다
+        Path tempFile = Files.createTempFile("excel-import-", ".xlsx");
+        try {
+            file.transferTo(tempFile);
+            try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+                ChunkedRowCollector collector = new ChunkedRowCollector(chunkSize, handler, progressListener);
+                parseFirstSheet(pkg, collector);
+                collector.finish();
+                return collector.toResult();
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다.", e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void parseFirstSheet(OPCPackage pkg, ChunkedRowCollector collector)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+        StylesTable styles = reader.getStylesTable();
+
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            return;
+        }
+
+        try (InputStream sheet = sheets.next()) {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, collector, new DataFormatter(), false));
+            xmlReader.parse(new InputSource(sheet));
+        }
+    }
+
+    private static class ChunkedRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final int chunkSize;
+        private final ExcelChunkHandler handler;
+        private final ExcelImportProgressListener progressListener;
+
+        private final List<String> headers = new ArrayList<>();
+        private final List<ExcelRow> chunk;
+        private final List<ExcelRowError> errors = new ArrayList<>();
+        // 한 행에 오류가 여러 건 보고될 수 있으므로 실패 행 수는 행 번호 기준으로 센다
+        private final Set<Integer> failedRowNums = new HashSet<>();
+        private Map<String, String> currentRow;
+        private boolean currentRowHasData;
+        private int totalRows;
+
+        ChunkedRowCollector(int chunkSize, ExcelChunkHandler handler, ExcelImportProgressListener progressListener) {
+            this.chunkSize = chunkSize;
+            this.handler = handler;
+            this.progressListener = progressListener;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = rowNum == 0 ? null : new LinkedHashMap<>();
+            currentRowHasData = false;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            String value = formattedValue != null ? formattedValue.trim() : null;
+
+            if (currentRow == null) {
+                while (headers.size() < column) {
+                    headers.add("");
+                }
+                headers.add(value != null ? value : "");
+                return;
+            }
+
+            if (column < headers.size() && value != null && !value.isEmpty()) {
+                currentRow.put(headers.get(column), value);
+                currentRowHasData = true;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (currentRow == null || !currentRowHasData) {
+                return;
+            }
+            // 엑셀 화면 기준 행 번호(1부터)로 보고
+            chunk.add(new ExcelRow(rowNum + 1, currentRow));
+            totalRows++;
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void finish() {
+            if (!chunk.isEmpty()) {
+                flush();
+            }
+        }
+
+        ExcelImportResult toResult() {
+            return new ExcelImportResult(totalRows, totalRows - failedRowNums.size(), List.copyOf(errors));
+        }
+
+        private void flush() {
+            try {
+                List<ExcelRowError> chunkErrors = handler.handle(List.copyOf(chunk));
+                if (chunkErrors != null) {
+                    chunkErrors.forEach(this::addError);
+                }
+            } catch (RuntimeException e) {
+                log.warn("엑셀 import 청크 처리 실패: {}행 ~ {}행", chunk.get(0).rowNum(), chunk.get(chunk.size() - 1).rowNum(), e);
+                for (ExcelRow row : chunk) {
+                    addError(new ExcelRowError(row.rowNum(), e.getMessage()));
+                }
+            } finally {
+                chunk.clear();
+            }
+
+            if (progressListener != null) {
+                progressListener.onProgress(totalRows, failedRowNums.size());
+            }
+        }
+
+        private void addError(ExcelRowError error) {
+            errors.add(error);
+            failedRowNums.add(error.rowNum());
+        }
+    }
+
     private void validateExcelFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("엑셀 파일이 비어있습니다.");
         }
 
         String filename = file.getOriginalFilename();
-        if (filename == null || (!filename.endsWith(".xlsx") && !filename.endsWith(".xls"))) {
+        String lowerFilename = filename != null ? filename.toLowerCase(Locale.ROOT) : null;
+        if (lowerFilename == null || (!lowerFilename.endsWith(".xlsx") && !lowerFilename.endsWith(".xls"))) {
             throw new IllegalArgumentException("엑셀 파일 형식이 아닙니다. (.xlsx, .xls만 지원)");
         }
     }
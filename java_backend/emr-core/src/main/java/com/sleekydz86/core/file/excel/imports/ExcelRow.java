@@ -0,0 +1,16 @@
+package com.sleekydz86.core.file.excel.imports;
+
+import java.util.Map;
+
+// 스트리밍 import 에서 전달되는 한 행 (값은 엑셀 표시 형식 그대로의 문자열)
+public record ExcelRow(int rowNum, Map<String, String> values) {
+
+    public String get(String header) {
+        return values.get(header);
+    }
+
+    public boolean isBlank(String header) {
+        String value = values.get(header);
+        return value == null || value.isBlank();
+    }
+}
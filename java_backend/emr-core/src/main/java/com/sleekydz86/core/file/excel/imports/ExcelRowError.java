@@ -0,0 +1,4 @@
+package com.sleekydz86.core.file.excel.imports;
+
+public record ExcelRowError(int rowNum, String message) {
+}
@@ -0,0 +1,56 @@
+package com.sleekydz86.core.file.storage;
+
+import com.sleekydz86.core.file.storage.entity.StoredBlobEntity;
+import com.sleekydz86.core.file.storage.repository.StoredBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class BlobReferenceService {
+
+    private final StoredBlobRepository storedBlobRepository;
+
+    // 참조 0 인 행을 별도 트랜잭션으로 먼저 만들어 두고, 증가는 호출자 트랜잭션에서 수행
+    // (호출자가 롤백되면 참조 수도 함께 롤백되고, 남은 0 참조 blob 은 정리 작업이 회수)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureRegistered(String digest, long size) {
+        if (storedBlobRepository.existsById(digest)) {
+            return;
+        }
+        try {
+            storedBlobRepository.saveAndFlush(StoredBlobEntity.unreferenced(digest, size));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 내용을 먼저 등록한 경우
+        }
+    }
+
+    @Transactional
+    public boolean increment(String digest) {
+        return storedBlobRepository.incrementRefCount(digest, LocalDateTime.now()) > 0;
+    }
+
+    @Transactional
+    public void decrement(String digest) {
+        storedBlobRepository.decrementRefCount(digest, LocalDateTime.now());
+    }
+
+    // 행 삭제와 파일 삭제를 한 트랜잭션에서 처리해 동시에 같은 내용을 올리는 요청과 경합하지 않도록 함
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean deleteIfOrphan(String digest, BlobDeleter deleter) throws Exception {
+        if (storedBlobRepository.deleteIfOrphan(digest) == 0) {
+            return false;
+        }
+        deleter.delete(digest);
+        return true;
+    }
+
+    @FunctionalInterface
+    public interface BlobDeleter {
+        void delete(String digest) throws Exception;
+    }
+}
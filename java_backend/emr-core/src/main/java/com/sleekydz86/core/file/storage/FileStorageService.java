@@ -1,42 +1,75 @@
 package com.sleekydz86.core.file.storage;
 
+import com.sleekydz86.core.file.storage.engine.StagedBlob;
+import com.sleekydz86.core.file.storage.engine.StorageEngine;
+import com.sleekydz86.core.file.storage.repository.StoredBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
 
 @Service
+@RequiredArgsConstructor
+@Slf4j
 public class FileStorageService {
 
-    @Value("${file.storage.path:./storage}")
-    private String storagePath;
+    // 내용 주소 저장소의 키 (SHA-256 hex). 그 외 값은 이전 방식으로 저장된 파일 경로로 취급
+    private static final Pattern BLOB_KEY_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+    private static final int REGISTER_RETRY = 3;
+    private static final int ORPHAN_BATCH_SIZE = 500;
+
+    private final StorageEngine storageEngine;
+    private final BlobReferenceService blobReferenceService;
+    private final StoredBlobRepository storedBlobRepository;
 
     @Value("${file.storage.max-size:10485760}")
     private long maxFileSize;
 
+    // 참조가 0 이 된 뒤 이 시간이 지나야 실제 파일을 삭제
+    @Value("${file.storage.orphan-grace:3600000}")
+    private long orphanGraceMillis;
+
+    @Value("${file.storage.staging-ttl:86400000}")
+    private long stagingTtlMillis;
+
     public String saveFile(MultipartFile file) throws IOException {
         validateFile(file);
 
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String savedFilename = UUID.randomUUID().toString() + extension;
-
-        Path storageDir = Paths.get(storagePath);
-        if (!Files.exists(storageDir)) {
-            Files.createDirectories(storageDir);
+        StagedBlob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = storageEngine.stage(in);
         }
 
-        Path filePath = storageDir.resolve(savedFilename);
-        Files.copy(file.getInputStream(), filePath);
+        try {
+            // 참조 증가 후에 파일을 반영해야 정리 작업이 방금 올린 blob 을 지우지 않는다
+            registerReference(blob);
+            storageEngine.commit(blob);
+        } catch (IOException | RuntimeException e) {
+            storageEngine.discard(blob);
+            throw e;
+        }
 
-        return filePath.toString();
+        log.debug("파일 저장: {} ({} bytes)", blob.digest(), blob.size());
+        return blob.digest();
     }
 
     public void deleteFile(String filePath) throws IOException {
+        if (isBlobKey(filePath)) {
+            blobReferenceService.decrement(filePath);
+            return;
+        }
+
         Path path = Paths.get(filePath);
         if (Files.exists(path)) {
             Files.delete(path);
@@ -44,11 +77,74 @@ public class FileStorageService {
     }
 
     public boolean exists(String filePath) {
+        if (isBlobKey(filePath)) {
+            return storageEngine.exists(filePath);
+        }
         return Files.exists(Paths.get(filePath));
     }
 
+    public Path getPath(String filePath) {
+        if (isBlobKey(filePath)) {
+            return storageEngine.resolveLocalPath(filePath);
+        }
+        return Paths.get(filePath);
+    }
+
+    // 내용 주소로 저장된 파일이면 digest, 아니면 null
+    public String getContentDigest(String filePath) {
+        return isBlobKey(filePath) ? filePath : null;
+    }
+
+    public InputStream openFile(String filePath) throws IOException {
+        if (isBlobKey(filePath)) {
+            return storageEngine.open(filePath);
+        }
+        return Files.newInputStream(Paths.get(filePath));
+    }
+
     public byte[] readFile(String filePath) throws IOException {
-        return Files.readAllBytes(Paths.get(filePath));
+        try (InputStream in = openFile(filePath)) {
+            return in.readAllBytes();
+        }
+    }
+
+    public void cleanupUnreferencedFiles() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(orphanGraceMillis));
+        List<String> orphans = storedBlobRepository.findOrphanDigests(before, PageRequest.of(0, ORPHAN_BATCH_SIZE));
+
+        int deleted = 0;
+        for (String digest : orphans) {
+            try {
+                if (blobReferenceService.deleteIfOrphan(digest, storageEngine::delete)) {
+                    deleted++;
+                }
+            } catch (Exception e) {
+                log.warn("미참조 파일 삭제 실패: {}", digest, e);
+            }
+        }
+
+        int staged = 0;
+        try {
+            staged = storageEngine.purgeStaleStaging(stagingTtlMillis);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 정리 실패", e);
+        }
+        log.info("파일 정리 완료: 미참조 파일 {}건, 임시 파일 {}건 삭제", deleted, staged);
+    }
+
+    private void registerReference(StagedBlob blob) {
+        for (int attempt = 0; attempt < REGISTER_RETRY; attempt++) {
+            blobReferenceService.ensureRegistered(blob.digest(), blob.size());
+            if (blobReferenceService.increment(blob.digest())) {
+                return;
+            }
+            // 등록 직후 정리 작업이 행을 지운 경우 다시 등록
+        }
+        throw new IllegalStateException("파일 참조 등록에 실패했습니다: " + blob.digest());
+    }
+
+    private boolean isBlobKey(String filePath) {
+        return filePath != null && BLOB_KEY_PATTERN.matcher(filePath).matches();
     }
 
     private void validateFile(MultipartFile file) {
@@ -60,12 +156,4 @@ public class FileStorageService {
             throw new IllegalArgumentException("파일 크기가 제한을 초과했습니다. 최대 크기: " + maxFileSize + " bytes");
         }
     }
-
-    private String getFileExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            return "";
-        }
-        return filename.substring(filename.lastIndexOf("."));
-    }
 }
-
@@ -0,0 +1,155 @@
+package com.sleekydz86.core.file.storage.engine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// {root}/blobs/ab/cd/abcd... 형태의 2단계 샤딩 디렉터리에 내용 주소(SHA-256)로 저장
+@Component
+@ConditionalOnProperty(name = "file.storage.engine", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalShardedStorageEngine implements StorageEngine {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Value("${file.storage.path:./storage}")
+    private String storagePath;
+
+    private Path blobRoot;
+    private Path stagingRoot;
+
+    // 이미 만들어진 샤드 디렉터리는 다시 확인하지 않음
+    private final Set<String> createdShards = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path root = Paths.get(storagePath).toAbsolutePath().normalize();
+        blobRoot = Files.createDirectories(root.resolve("blobs"));
+        // 원자적 이동이 가능하도록 임시 영역도 같은 파일시스템에 둔다
+        stagingRoot = Files.createDirectories(root.resolve("staging"));
+    }
+
+    @Override
+    public StagedBlob stage(InputStream content) throws IOException {
+        MessageDigest digest = newDigest();
+        Path tempFile = Files.createTempFile(stagingRoot, "upload-", ".tmp");
+        try (DigestInputStream in = new DigestInputStream(content, digest)) {
+            long size = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return new StagedBlob(HEX.formatHex(digest.digest()), size, tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public void commit(StagedBlob blob) throws IOException {
+        Path target = resolve(blob.digest());
+        if (Files.exists(target)) {
+            discard(blob);
+            return;
+        }
+
+        ensureShard(blob.digest(), target.getParent());
+        try {
+            Files.move(blob.tempFile(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 업로드된 경우
+            discard(blob);
+        } catch (AtomicMoveNotSupportedException e) {
+            throw new IOException("저장소가 원자적 파일 이동을 지원하지 않습니다: " + blobRoot, e);
+        }
+    }
+
+    @Override
+    public void discard(StagedBlob blob) {
+        try {
+            Files.deleteIfExists(blob.tempFile());
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", blob.tempFile(), e);
+        }
+    }
+
+    @Override
+    public boolean exists(String digest) {
+        return Files.exists(resolve(digest));
+    }
+
+    @Override
+    public InputStream open(String digest) throws IOException {
+        return Files.newInputStream(resolve(digest));
+    }
+
+    @Override
+    public Path resolveLocalPath(String digest) {
+        return resolve(digest);
+    }
+
+    @Override
+    public boolean delete(String digest) throws IOException {
+        return Files.deleteIfExists(resolve(digest));
+    }
+
+    @Override
+    public int purgeStaleStaging(long olderThanMillis) throws IOException {
+        long threshold = System.currentTimeMillis() - olderThanMillis;
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingRoot, "upload-*.tmp")) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < threshold && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("임시 업로드 파일 정리 실패: {}", file, e);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private Path resolve(String digest) {
+        return blobRoot.resolve(digest.substring(0, 2))
+                .resolve(digest.substring(2, 4))
+                .resolve(digest);
+    }
+
+    private void ensureShard(String digest, Path shardDir) {
+        String shard = digest.substring(0, 4);
+        if (createdShards.contains(shard)) {
+            return;
+        }
+        try {
+            Files.createDirectories(shardDir);
+            createdShards.add(shard);
+        } catch (IOException e) {
+            throw new UncheckedIOException("샤드 디렉터리 생성 실패: " + shardDir, e);
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.sleekydz86.core.file.storage.engine;
+
+import java.nio.file.Path;
+
+// 내용 해시 계산이 끝나고 아직 저장소에 반영되지 않은 임시 blob
+public record StagedBlob(String digest, long size, Path tempFile) {
+}
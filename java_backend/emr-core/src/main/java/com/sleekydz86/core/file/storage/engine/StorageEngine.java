@@ -0,0 +1,28 @@
+package com.sleekydz86.core.file.storage.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+public interface StorageEngine {
+
+    // 입력 스트림을 임시 영역에 쓰면서 SHA-256 을 함께 계산
+    StagedBlob stage(InputStream content) throws IOException;
+
+    // 같은 digest 의 blob 이 없을 때만 원자적으로 반영하고, 있으면 임시 파일을 버린다
+    void commit(StagedBlob blob) throws IOException;
+
+    void discard(StagedBlob blob);
+
+    boolean exists(String digest);
+
+    InputStream open(String digest) throws IOException;
+
+    // 로컬 파일로 접근 가능한 경우 경로 반환 (zero-copy 다운로드용), 아니면 null
+    Path resolveLocalPath(String digest);
+
+    boolean delete(String digest) throws IOException;
+
+    // 오래된 임시 파일 정리, 삭제 건수 반환
+    int purgeStaleStaging(long olderThanMillis) throws IOException;
+}
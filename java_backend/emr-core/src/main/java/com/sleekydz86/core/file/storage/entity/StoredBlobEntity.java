@@ -0,0 +1,45 @@
+package com.sleekydz86.core.file.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stored_blob", indexes = {
+        @Index(name = "idx_stored_blob_orphan", columnList = "refCount, updatedAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredBlobEntity {
+
+    @Id
+    @Column(length = 64)
+    private String digest;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static StoredBlobEntity unreferenced(String digest, long size) {
+        if (digest == null || digest.length() != 64) {
+            throw new IllegalArgumentException("blob digest 형식이 올바르지 않습니다.");
+        }
+        StoredBlobEntity entity = new StoredBlobEntity();
+        entity.digest = digest;
+        entity.size = size;
+        entity.refCount = 0;
+        entity.createdAt = LocalDateTime.now();
+        entity.updatedAt = entity.createdAt;
+        return entity;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sleekydz86.core.file.storage.repository;
+
+import com.sleekydz86.core.file.storage.entity.StoredBlobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StoredBlobRepository extends JpaRepository<StoredBlobEntity, String> {
+
+    @Modifying
+    @Query("UPDATE StoredBlobEntity b SET b.refCount = b.refCount + 1, b.updatedAt = :now WHERE b.digest = :digest")
+    int incrementRefCount(@Param("digest") String digest, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StoredBlobEntity b SET b.refCount = b.refCount - 1, b.updatedAt = :now " +
+            "WHERE b.digest = :digest AND b.refCount > 0")
+    int decrementRefCount(@Param("digest") String digest, @Param("now") LocalDateTime now);
+
+    @Query("SELECT b.digest FROM StoredBlobEntity b WHERE b.refCount = 0 AND b.updatedAt < :before ORDER BY b.updatedAt")
+    List<String> findOrphanDigests(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM StoredBlobEntity b WHERE b.digest = :digest AND b.refCount = 0")
+    int deleteIfOrphan(@Param("digest") String digest);
+}
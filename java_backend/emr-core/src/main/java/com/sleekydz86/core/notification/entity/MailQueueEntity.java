@@ -0,0 +1,101 @@
+package com.sleekydz86.core.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "mail_queue", indexes = {
+        @Index(name = "idx_mail_queue_status_next", columnList = "status, nextAttemptAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailQueueEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(nullable = false, length = 500)
+    private String subject;
+
+    // 본문에 환자 이름, 예약 일시 등이 들어가므로 암호화 키가 설정되어 있으면 암호문으로 저장
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private boolean bodyEncrypted;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailQueueStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Builder
+    private MailQueueEntity(String recipient, String subject, String body, boolean bodyEncrypted,
+                            LocalDateTime createdAt) {
+        validate(recipient, subject, body);
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.bodyEncrypted = bodyEncrypted;
+        this.status = MailQueueStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    private void validate(String recipient, String subject, String body) {
+        if (recipient == null || recipient.isBlank()) {
+            throw new IllegalArgumentException("수신자는 필수입니다.");
+        }
+        if (subject == null) {
+            throw new IllegalArgumentException("메일 제목은 필수입니다.");
+        }
+        if (body == null) {
+            throw new IllegalArgumentException("메일 본문은 필수입니다.");
+        }
+    }
+
+    // 발송 중 노드가 죽으면 lease 만료 후 다른 노드가 다시 가져간다
+    public void markSending(LocalDateTime leaseUntil) {
+        this.status = MailQueueStatus.SENDING;
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = MailQueueStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (attempts >= maxAttempts) {
+            this.status = MailQueueStatus.FAILED;
+        } else {
+            this.status = MailQueueStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.sleekydz86.core.notification.entity;
+
+public enum MailQueueStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,34 @@
+package com.sleekydz86.core.notification.repository;
+
+import com.sleekydz86.core.notification.entity.MailQueueEntity;
+import com.sleekydz86.core.notification.entity.MailQueueStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailQueueRepository extends JpaRepository<MailQueueEntity, Long> {
+
+    // lock.timeout = -2 는 FOR UPDATE SKIP LOCKED, 여러 노드가 같은 메일을 가져가지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailQueueEntity m " +
+            "WHERE m.status IN :statuses AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.nextAttemptAt, m.id")
+    List<MailQueueEntity> findDispatchable(@Param("statuses") List<MailQueueStatus> statuses,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    long countByStatus(MailQueueStatus status);
+
+    @Modifying
+    @Query("DELETE FROM MailQueueEntity m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteSentBefore(@Param("status") MailQueueStatus status, @Param("before") LocalDateTime before);
+}
@@ -1,32 +1,59 @@
 package com.sleekydz86.core.notification.service;
 
+import com.sleekydz86.core.notification.entity.MailQueueEntity;
+import com.sleekydz86.core.notification.repository.MailQueueRepository;
 import com.sleekydz86.core.notification.template.NotificationTemplate;
-import lombok.RequiredArgsConstructor;
+import com.sleekydz86.core.security.encryption.EncryptionService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.Map;
 
+// 메일은 mail_queue 에 저장만 하고 실제 발송은 MailDispatcher 가 트랜잭션 커밋 이후에 처리
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EmailNotificationService implements NotificationService {
 
-    private final JavaMailSender mailSender;
+    private final MailQueueRepository mailQueueRepository;
     private final NotificationTemplateService templateService;
+    private final EncryptionService encryptionService;
+    private final TransactionTemplate joinTransactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public EmailNotificationService(MailQueueRepository mailQueueRepository,
+                                    NotificationTemplateService templateService,
+                                    EncryptionService encryptionService,
+                                    PlatformTransactionManager transactionManager) {
+        this.mailQueueRepository = mailQueueRepository;
+        this.templateService = templateService;
+        this.encryptionService = encryptionService;
+        this.joinTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     @Override
     public void send(String recipient, String subject, String message) {
         try {
-            SimpleMailMessage mailMessage = new SimpleMailMessage();
-            mailMessage.setTo(recipient);
-            mailMessage.setSubject(subject);
-            mailMessage.setText(message);
-            mailSender.send(mailMessage);
-            log.info("이메일 발송 성공: {}", recipient);
+            boolean encrypted = encryptionService.isConfigured();
+            MailQueueEntity mail = MailQueueEntity.builder()
+                    .recipient(recipient)
+                    .subject(subject)
+                    .body(encrypted ? encryptionService.encrypt(message) : message)
+                    .bodyEncrypted(encrypted)
+                    .build();
+
+            // 호출자 트랜잭션에 참여해 롤백되면 메일도 나가지 않도록 하되, 읽기 전용 트랜잭션에서는 flush 되지 않으므로 별도 트랜잭션 사용
+            TransactionTemplate template = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? newTransactionTemplate
+                    : joinTransactionTemplate;
+            template.executeWithoutResult(status -> mailQueueRepository.save(mail));
+            log.info("이메일 발송 요청 등록: {}", recipient);
         } catch (Exception e) {
-            log.error("이메일 발송 실패: {}", recipient, e);
+            log.error("이메일 발송 요청 등록 실패: {}", recipient, e);
             throw new RuntimeException("이메일 발송 실패", e);
         }
     }
@@ -41,11 +68,10 @@ public class EmailNotificationService implements NotificationService {
             String renderedBody = template.render(variables);
 
             send(recipient, renderedSubject, renderedBody);
-            log.info("템플릿 기반 이메일 발송 성공: {} (템플릿: {})", recipient, templateId);
+            log.info("템플릿 기반 이메일 발송 요청 등록: {} (템플릿: {})", recipient, templateId);
         } catch (Exception e) {
             log.error("템플릿 기반 이메일 발송 실패: {} (템플릿: {})", recipient, templateId, e);
             throw new RuntimeException("템플릿 기반 이메일 발송 실패", e);
         }
     }
 }
-
@@ -0,0 +1,221 @@
+package com.sleekydz86.core.notification.service;
+
+import com.sleekydz86.core.notification.entity.MailQueueEntity;
+import com.sleekydz86.core.notification.entity.MailQueueStatus;
+import com.sleekydz86.core.notification.repository.MailQueueRepository;
+import com.sleekydz86.core.security.encryption.EncryptionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class MailDispatcher {
+
+    private static final List<MailQueueStatus> ACTIVE_STATUSES = List.of(MailQueueStatus.PENDING, MailQueueStatus.SENDING);
+    private static final long MAX_BACKOFF_MS = 60 * 60 * 1000;
+
+    private final MailQueueRepository mailQueueRepository;
+    private final JavaMailSender mailSender;
+    private final EncryptionService encryptionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.mail.workers:4}")
+    private int workers;
+
+    // 한 SMTP 연결로 보내는 메일 수
+    @Value("${notification.mail.messages-per-connection:20}")
+    private int messagesPerConnection;
+
+    @Value("${notification.mail.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.mail.retry-backoff:30000}")
+    private long retryBackoffMillis;
+
+    @Value("${notification.mail.lease:300000}")
+    private long leaseMillis;
+
+    @Value("${notification.mail.retention-days:7}")
+    private int retentionDays;
+
+    private ThreadPoolTaskExecutor executor;
+    private final AtomicInteger inFlightChunks = new AtomicInteger();
+
+    public MailDispatcher(MailQueueRepository mailQueueRepository,
+                          JavaMailSender mailSender,
+                          EncryptionService encryptionService,
+                          TransactionTemplate transactionTemplate) {
+        this.mailQueueRepository = mailQueueRepository;
+        this.mailSender = mailSender;
+        this.encryptionService = encryptionService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 스케줄러 스레드는 가져와서 워커에 넘기기만 하고 발송을 기다리지 않는다
+    // 선점 시 lease 가 시작되고 시도 횟수가 오르므로 바로 발송을 시작할 수 있는 유휴 워커 수만큼만 가져온다
+    @Scheduled(fixedDelayString = "${notification.mail.poll-interval:1000}")
+    public void dispatch() {
+        int capacity = workers - inFlightChunks.get();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<MailQueueEntity> claimed = transactionTemplate.execute(status -> claimBatch(capacity * messagesPerConnection));
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < claimed.size(); from += messagesPerConnection) {
+            List<MailQueueEntity> chunk = claimed.subList(from, Math.min(from + messagesPerConnection, claimed.size()));
+            inFlightChunks.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        sendChunk(chunk);
+                    } finally {
+                        inFlightChunks.decrementAndGet();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 풀이 가득 찬 경우 lease 만료 후 다시 발송된다
+                inFlightChunks.decrementAndGet();
+                log.warn("메일 발송 작업 등록 실패: {}건", chunk.size(), e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 40 4 * * ?")
+    public void purgeSent() {
+        Integer deleted = transactionTemplate.execute(status -> mailQueueRepository.deleteSentBefore(
+                MailQueueStatus.SENT, LocalDateTime.now().minusDays(retentionDays)));
+        log.info("발송 완료된 메일 정리: {}건", deleted);
+    }
+
+    public long getPendingCount() {
+        return mailQueueRepository.countByStatus(MailQueueStatus.PENDING);
+    }
+
+    private List<MailQueueEntity> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailQueueEntity> batch = mailQueueRepository.findDispatchable(ACTIVE_STATUSES, now, PageRequest.of(0, limit));
+        LocalDateTime leaseUntil = now.plusNanos(leaseMillis * 1_000_000);
+        batch.forEach(mail -> mail.markSending(leaseUntil));
+        return new ArrayList<>(batch);
+    }
+
+    private void sendChunk(List<MailQueueEntity> chunk) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> messageIds = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(chunk.size());
+
+        for (MailQueueEntity mail : chunk) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, false, StandardCharsets.UTF_8.name());
+                helper.setTo(mail.getRecipient());
+                helper.setSubject(mail.getSubject());
+                helper.setText(mail.isBodyEncrypted() ? encryptionService.decrypt(mail.getBody()) : mail.getBody());
+                messages.add(message);
+                messageIds.put(message, mail.getId());
+            } catch (MessagingException | RuntimeException e) {
+                failures.put(mail.getId(), describe(e));
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                // JavaMailSenderImpl 은 배열로 받은 메일을 하나의 Transport 연결로 발송한다
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failed = e.getFailedMessages();
+                if (failed.isEmpty()) {
+                    messageIds.values().forEach(id -> failures.put(id, describe(e)));
+                } else {
+                    failed.forEach((message, cause) -> {
+                        Long id = messageIds.get(message);
+                        if (id != null) {
+                            failures.put(id, describe(cause));
+                        }
+                    });
+                }
+            } catch (MailException e) {
+                messageIds.values().forEach(id -> failures.put(id, describe(e)));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            log.warn("메일 발송 실패: {}건 / {}건", failures.size(), chunk.size());
+        }
+        log.debug("메일 발송 처리: {}건 (실패 {}건)", chunk.size(), failures.size());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> complete(chunk, failures));
+        } catch (Exception e) {
+            log.error("메일 발송 결과 반영 실패 (lease 만료 후 재발송될 수 있음)", e);
+        }
+    }
+
+    private void complete(List<MailQueueEntity> chunk, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailQueueEntity> managed = mailQueueRepository.findAllById(
+                chunk.stream().map(MailQueueEntity::getId).toList());
+        for (MailQueueEntity mail : managed) {
+            String error = failures.get(mail.getId());
+            if (error == null) {
+                mail.markSent(now);
+            } else {
+                mail.markFailed(error, now.plusNanos(backoffMillis(mail.getAttempts()) * 1_000_000), maxAttempts);
+                if (mail.getStatus() == MailQueueStatus.FAILED) {
+                    log.error("메일 발송 최종 실패: {} [ID: {}, 시도: {}] {}", mail.getRecipient(), mail.getId(), mail.getAttempts(), error);
+                }
+            }
+        }
+    }
+
+    private long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(retryBackoffMillis << exponent, MAX_BACKOFF_MS);
+    }
+
+    private String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
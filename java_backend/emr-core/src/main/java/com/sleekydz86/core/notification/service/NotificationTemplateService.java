@@ -2,16 +2,33 @@ package com.sleekydz86.core.notification.service;
 
 import com.sleekydz86.core.notification.template.NotificationTemplate;
 import com.sleekydz86.core.notification.type.TemplateType;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Slf4j
 public class NotificationTemplateService {
 
-    private final Map<String, NotificationTemplate> templates = new HashMap<>();
+    private static final String TEMPLATE_FILE_SUFFIX = ".txt";
+
+    private final Map<String, NotificationTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<Path, FileTime> loadedFiles = new ConcurrentHashMap<>();
+
+    // 템플릿 파일 디렉터리 ({templateId}.txt, 첫 줄은 제목, 다음 빈 줄 이후는 본문). 비어 있으면 기본 템플릿만 사용
+    @Value("${notification.template.dir:}")
+    private String templateDir;
 
     public NotificationTemplateService() {
 
@@ -47,6 +64,91 @@ public class NotificationTemplateService {
                 "안녕하세요 ${patientName}님,\n\n처방이 완료되었습니다.\n\n처방 일시: ${prescriptionDate}\n처방 의사: ${doctorName}\n\n감사합니다.",
                 TemplateType.EMAIL
         ));
+
+        registerTemplate(new NotificationTemplate(
+                "reservation-registered",
+                "예약이 등록되었습니다",
+                "안녕하세요 ${patientName}님,\n\n예약이 성공적으로 등록되었습니다.\n\n예약 정보:\n- 예약 일시: ${reservationDate}\n- 예약 상태: ${reservationStatus}\n\n예약 일시에 방문해 주시기 바랍니다.\n\n감사합니다.",
+                TemplateType.EMAIL
+        ));
+
+        registerTemplate(new NotificationTemplate(
+                "reservation-updated",
+                "예약이 변경되었습니다",
+                "안녕하세요 ${patientName}님,\n\n예약 정보가 변경되었습니다.\n\n변경된 예약 정보:\n- 예약 일시: ${reservationDate}\n- 예약 상태: ${reservationStatus}\n- 변경 사유: ${changeCause:변경 사유 없음}\n\n변경된 예약 일시에 방문해 주시기 바랍니다.\n\n감사합니다.",
+                TemplateType.EMAIL
+        ));
+
+        registerTemplate(new NotificationTemplate(
+                "reservation-cancelled",
+                "예약이 취소되었습니다",
+                "안녕하세요 ${patientName}님,\n\n예약이 취소되었습니다.\n\n취소된 예약 정보:\n- 예약 일시: ${reservationDate}\n- 취소 사유: ${cancelReason:취소 사유 없음}\n\n추가 예약이 필요하시면 다시 예약해 주시기 바랍니다.\n\n감사합니다.",
+                TemplateType.EMAIL
+        ));
+
+        registerTemplate(new NotificationTemplate(
+                "payment-completed",
+                "결제 완료 안내",
+                "안녕하세요 ${patientName}님,\n\n결제가 완료되었습니다.\n\n결제 정보:\n- 결제 금액: ${paidAmount}원\n- 결제 수단: ${paymentMethod}\n- 결제 일시: ${paymentDate}\n\n감사합니다.",
+                TemplateType.EMAIL
+        ));
+
+        registerTemplate(new NotificationTemplate(
+                "payment-unpaid",
+                "미납 안내",
+                "안녕하세요 ${patientName}님,\n\n미납 금액이 있습니다.\n\n미납 정보:\n- 총 금액: ${totalAmount}원\n- 미납 금액: ${remainAmount}원\n- 결제 일시: ${paymentDate}\n\n빠른 시일 내에 결제 부탁드립니다.\n\n감사합니다.",
+                TemplateType.EMAIL
+        ));
+    }
+
+    @PostConstruct
+    public void loadTemplateFiles() {
+        reloadTemplateFiles();
+    }
+
+    // 변경된 템플릿 파일만 다시 컴파일
+    @Scheduled(fixedDelayString = "${notification.template.reload-interval:30000}")
+    public void reloadTemplateFiles() {
+        if (templateDir == null || templateDir.isBlank()) {
+            return;
+        }
+
+        Path dir = Paths.get(templateDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + TEMPLATE_FILE_SUFFIX)) {
+            for (Path file : files) {
+                FileTime modified = Files.getLastModifiedTime(file);
+                if (modified.equals(loadedFiles.get(file))) {
+                    continue;
+                }
+                try {
+                    registerTemplate(parseTemplateFile(file));
+                    loadedFiles.put(file, modified);
+                    log.info("템플릿 파일을 불러왔습니다: {}", file.getFileName());
+                } catch (Exception e) {
+                    log.error("템플릿 파일 로드 실패: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("템플릿 디렉터리를 읽을 수 없습니다: {}", dir, e);
+        }
+    }
+
+    private NotificationTemplate parseTemplateFile(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        String templateId = fileName.substring(0, fileName.length() - TEMPLATE_FILE_SUFFIX.length());
+        String content = Files.readString(file, StandardCharsets.UTF_8).replace("\r\n", "\n");
+
+        int newline = content.indexOf('\n');
+        String subject = newline < 0 ? content : content.substring(0, newline);
+        String body = newline < 0 ? "" : content.substring(newline + 1);
+        if (body.startsWith("\n")) {
+            body = body.substring(1);
+        }
+        return new NotificationTemplate(templateId, subject.trim(), body, TemplateType.EMAIL);
     }
 
     public void registerTemplate(NotificationTemplate template) {
@@ -0,0 +1,121 @@
+package com.sleekydz86.core.notification.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// ${name} / ${name:기본값} 자리표시자를 한 번만 파싱해 두고 한 번의 순회로 렌더링
+// \${name} 처럼 앞에 역슬래시를 붙이면 자리표시자로 해석하지 않고 그대로 출력
+public final class CompiledTemplate {
+
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private final String source;
+    private final Segment[] segments;
+    private final int literalLength;
+
+    private CompiledTemplate(String source, Segment[] segments, int literalLength) {
+        this.source = source;
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        if (source == null) {
+            return new CompiledTemplate(null, new Segment[0], 0);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\' && source.startsWith("${", i + 1)) {
+                literal.append("${");
+                i += 3;
+                continue;
+            }
+            if (c == '$' && i + 1 < source.length() && source.charAt(i + 1) == '{') {
+                int end = source.indexOf('}', i + 2);
+                if (end < 0) {
+                    throw new IllegalArgumentException("닫히지 않은 템플릿 변수가 있습니다: " + source.substring(i));
+                }
+                if (!literal.isEmpty()) {
+                    segments.add(Segment.literal(literal.toString()));
+                    literalLength += literal.length();
+                    literal.setLength(0);
+                }
+                segments.add(Segment.placeholder(source.substring(i + 2, end)));
+                i = end + 1;
+                continue;
+            }
+            literal.append(c);
+            i++;
+        }
+        if (!literal.isEmpty()) {
+            segments.add(Segment.literal(literal.toString()));
+            literalLength += literal.length();
+        }
+
+        return new CompiledTemplate(source, segments.toArray(new Segment[0]), literalLength);
+    }
+
+    public String render(Map<String, ?> variables) {
+        if (source == null) {
+            return null;
+        }
+
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        builder.ensureCapacity(literalLength + 64);
+        renderTo(builder, variables);
+        String result = builder.toString();
+
+        // 아주 큰 본문을 렌더링한 뒤에는 버퍼를 스레드에 붙잡아 두지 않음
+        if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+            BUILDER.remove();
+        }
+        return result;
+    }
+
+    public void renderTo(StringBuilder builder, Map<String, ?> variables) {
+        for (Segment segment : segments) {
+            if (segment.name == null) {
+                builder.append(segment.text);
+                continue;
+            }
+            Object value = variables != null ? variables.get(segment.name) : null;
+            if (value != null) {
+                builder.append(value);
+            } else if (segment.text != null) {
+                builder.append(segment.text);
+            } else if (variables == null || !variables.containsKey(segment.name)) {
+                // 값이 전달되지 않은 변수는 기존과 같이 자리표시자를 그대로 남김
+                builder.append("${").append(segment.name).append('}');
+            }
+        }
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    // name 이 null 이면 literal, 아니면 자리표시자 (text 는 기본값)
+    private record Segment(String name, String text) {
+
+        static Segment literal(String text) {
+            return new Segment(null, text);
+        }
+
+        static Segment placeholder(String expression) {
+            int colon = expression.indexOf(':');
+            if (colon < 0) {
+                return new Segment(expression.trim(), null);
+            }
+            return new Segment(expression.substring(0, colon).trim(), expression.substring(colon + 1));
+        }
+    }
+}
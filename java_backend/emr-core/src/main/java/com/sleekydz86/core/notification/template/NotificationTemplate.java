@@ -5,42 +5,24 @@ import java.util.Map;
 
 public class NotificationTemplate {
 
-    private String templateId;
-    private String subject;
-    private String body;
-    private TemplateType type;
+    private final String templateId;
+    private final CompiledTemplate subject;
+    private final CompiledTemplate body;
+    private final TemplateType type;
 
     public NotificationTemplate(String templateId, String subject, String body, TemplateType type) {
         this.templateId = templateId;
-        this.subject = subject;
-        this.body = body;
+        this.subject = CompiledTemplate.compile(subject);
+        this.body = CompiledTemplate.compile(body);
         this.type = type;
     }
 
     public String render(Map<String, Object> variables) {
-        String renderedSubject = renderString(subject, variables);
-        String renderedBody = renderString(body, variables);
-
-        return renderedBody;
+        return body.render(variables);
     }
 
     public String renderSubject(Map<String, Object> variables) {
-        return renderString(subject, variables);
-    }
-
-    private String renderString(String template, Map<String, Object> variables) {
-        if (template == null || variables == null) {
-            return template;
-        }
-
-        String result = template;
-        for (Map.Entry<String, Object> entry : variables.entrySet()) {
-            String placeholder = "${" + entry.getKey() + "}";
-            String value = entry.getValue() != null ? entry.getValue().toString() : "";
-            result = result.replace(placeholder, value);
-        }
-
-        return result;
+        return subject.render(variables);
     }
 
     // Getters
@@ -49,11 +31,11 @@ public class NotificationTemplate {
     }
 
     public String getSubject() {
-        return subject;
+        return subject.getSource();
     }
 
     public String getBody() {
-        return body;
+        return body.getSource();
     }
 
     public TemplateType getType() {
@@ -61,4 +43,3 @@ public class NotificationTemplate {
     }
 
 }
-
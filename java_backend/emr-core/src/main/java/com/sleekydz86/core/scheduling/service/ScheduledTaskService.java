@@ -1,17 +1,25 @@
 package com.sleekydz86.core.scheduling.service;
 
+import com.sleekydz86.core.file.storage.FileStorageService;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class ScheduledTaskService {
 
+    private final FileStorageService fileStorageService;
+    private final DailyRollupService dailyRollupService;
+
     @Scheduled(cron = "0 0 0 * * ?")
     public void generateDailyStatistics() {
         log.info("일일 통계 생성 작업 시작");
-        // 통계 생성 로직 구현 예정
+        int aggregated = dailyRollupService.reconcile();
+        log.info("일일 통계 생성 작업 완료: {}건 집계", aggregated);
     }
 
     @Scheduled(cron = "0 0 0 ? * MON")
@@ -29,7 +37,7 @@ public class ScheduledTaskService {
     @Scheduled(cron = "0 0 3 * * ?")
     public void cleanupTempFiles() {
         log.info("임시 파일 정리 작업 시작");
-        // 임시 파일 정리 FileStorageService 활용해서 로직 구현할예정
+        fileStorageService.cleanupUnreferencedFiles();
     }
 }
 
@@ -0,0 +1,103 @@
+package com.sleekydz86.core.security.encryption;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+@Service
+public class BlindIndexService {
+
+    // 블라인드 인덱스 전용 키. 없으면 encryption.secret-key 에서 파생
+    @Value("${encryption.blind-index-key:}")
+    private String blindIndexKeyString;
+
+    @Value("${encryption.secret-key:}")
+    private String secretKeyString;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] DERIVATION_LABEL = "emr-blind-index-v1".getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_POOLED_MACS = 64;
+    private static final HexFormat HEX = HexFormat.of();
+
+    // 값 객체(@Embeddable)는 스프링 빈이 아니므로 정적으로 한 번 보관해 두고 사용
+    private static volatile BlindIndexService current;
+
+    private final ConcurrentLinkedQueue<Mac> macPool = new ConcurrentLinkedQueue<>();
+    private SecretKeySpec indexKey;
+
+    @PostConstruct
+    public void init() {
+        try {
+            if (blindIndexKeyString != null && !blindIndexKeyString.isBlank()) {
+                indexKey = new SecretKeySpec(Base64.getDecoder().decode(blindIndexKeyString), ALGORITHM);
+            } else if (secretKeyString != null && !secretKeyString.isBlank()) {
+                // 암호화 키를 그대로 쓰지 않고 HMAC 으로 용도 분리된 키를 파생
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(new SecretKeySpec(Base64.getDecoder().decode(secretKeyString), ALGORITHM));
+                indexKey = new SecretKeySpec(mac.doFinal(DERIVATION_LABEL), ALGORITHM);
+            } else {
+                log.warn("블라인드 인덱스 키가 설정되지 않았습니다. 암호화 식별자 검색을 사용할 수 없습니다.");
+                return;
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("블라인드 인덱스 키 초기화 실패", e);
+        }
+        current = this;
+    }
+
+    public static BlindIndexService current() {
+        BlindIndexService service = current;
+        if (service == null) {
+            throw new IllegalStateException("BlindIndexService가 초기화되지 않았습니다.");
+        }
+        return service;
+    }
+
+    // purpose 로 식별자 종류를 구분해 서로 다른 컬럼 간 같은 값이 같은 인덱스가 되지 않도록 함
+    public String index(String purpose, String normalizedValue) {
+        if (normalizedValue == null) {
+            return null;
+        }
+        Mac mac = borrowMac();
+        try {
+            mac.update(purpose.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return HEX.formatHex(mac.doFinal(normalizedValue.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            releaseMac(mac);
+        }
+    }
+
+    private Mac borrowMac() {
+        Mac mac = macPool.poll();
+        if (mac != null) {
+            return mac;
+        }
+        if (indexKey == null) {
+            throw new IllegalStateException("블라인드 인덱스 키가 설정되지 않았습니다.");
+        }
+        try {
+            mac = Mac.getInstance(ALGORITHM);
+            mac.init(indexKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("블라인드 인덱스 생성기 초기화 실패", e);
+        }
+    }
+
+    private void releaseMac(Mac mac) {
+        // doFinal 이후 Mac 은 초기 상태로 돌아가므로 그대로 재사용 가능
+        if (macPool.size() < MAX_POOLED_MACS) {
+            macPool.offer(mac);
+        }
+    }
+}
@@ -3,25 +3,26 @@ package com.sleekydz86.core.security.encryption;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
 @Converter
 @Component
 public class EncryptedStringConverter implements AttributeConverter<String, String> {
 
-    private static ApplicationContext applicationContext;
+    // Hibernate 가 직접 생성한 인스턴스에서도 쓸 수 있도록 한 번 주입받아 보관 (변환마다 getBean 하지 않음)
+    private static volatile EncryptionService encryptionService;
 
     @Autowired
-    public void setApplicationContext(ApplicationContext applicationContext) {
-        EncryptedStringConverter.applicationContext = applicationContext;
+    public void setEncryptionService(EncryptionService encryptionService) {
+        EncryptedStringConverter.encryptionService = encryptionService;
     }
 
     private EncryptionService getEncryptionService() {
-        if (applicationContext == null) {
-            throw new IllegalStateException("ApplicationContext가 초기화되지 않았습니다.");
+        EncryptionService service = encryptionService;
+        if (service == null) {
+            throw new IllegalStateException("EncryptionService가 초기화되지 않았습니다.");
         }
-        return applicationContext.getBean(EncryptionService.class);
+        return service;
     }
 
     @Override
@@ -50,4 +51,3 @@ public class EncryptedStringConverter implements AttributeConverter<String, Stri
         }
     }
 }
-
@@ -1,8 +1,10 @@
 package com.sleekydz86.core.security.encryption;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
@@ -10,8 +12,12 @@ import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Slf4j
 @Service
@@ -20,37 +26,89 @@ public class EncryptionService {
     @Value("${encryption.secret-key:}")
     private String secretKeyString;
 
+    // 현재 암호화에 사용하는 키의 ID (암호문 헤더에 기록)
+    @Value("${encryption.key-id:1}")
+    private int activeKeyId;
+
+    // 복호화에만 사용하는 이전 키 목록 (예: 1:base64키,2:base64키)
+    @Value("${encryption.previous-keys:}")
+    private String previousKeysString;
+
+    // 헤더 없는 이전 형식 암호문을 만든 키의 ID. 키 교체 전에 이전 키 ID로 고정해 두어야 한다
+    @Value("${encryption.legacy-key-id:${encryption.key-id:1}}")
+    private int legacyKeyId;
+
     private static final String ALGORITHM = "AES";
     private static final String TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 16;
     private static final int KEY_LENGTH = 256;
 
-    public String encrypt(String plainText) {
-        if (plainText == null || plainText.isEmpty()) {
-            return plainText;
+    // 버전 헤더: [MAGIC][keyId][iv][ciphertext+tag]. 헤더가 없으면 이전 형식([iv][ciphertext+tag])으로 취급
+    private static final byte FORMAT_MAGIC = (byte) 0xE1;
+    private static final int HEADER_LENGTH = 2;
+    private static final int MAX_POOLED_CIPHERS = 64;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final Map<Integer, SecretKey> keys = new HashMap<>();
+    private final ConcurrentLinkedQueue<Cipher> cipherPool = new ConcurrentLinkedQueue<>();
+    private SecretKey activeKey;
+    private SecretKey legacyKey;
+
+    @PostConstruct
+    public void init() {
+        if (secretKeyString == null || secretKeyString.isEmpty()) {
+            log.warn("암호화 키가 설정되지 않았습니다. 암호화 기능을 사용할 수 없습니다.");
+            return;
+        }
+        validateKeyId(activeKeyId);
+
+        activeKey = toSecretKey(secretKeyString);
+        keys.put(activeKeyId, activeKey);
+
+        if (previousKeysString != null && !previousKeysString.isBlank()) {
+            for (String entry : previousKeysString.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2) {
+                    throw new IllegalStateException("encryption.previous-keys 형식이 올바르지 않습니다. (keyId:base64키)");
+                }
+                int keyId = Integer.parseInt(parts[0].trim());
+                validateKeyId(keyId);
+                keys.putIfAbsent(keyId, toSecretKey(parts[1].trim()));
+            }
         }
 
-        try {
-            SecretKey secretKey = getSecretKey();
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        legacyKey = keys.get(legacyKeyId);
+        if (legacyKey == null) {
+            throw new IllegalStateException("encryption.legacy-key-id 에 해당하는 키가 없습니다. encryption.previous-keys 에 등록해주세요: " + legacyKeyId);
+        }
+    }
 
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom random = new SecureRandom();
-            random.nextBytes(iv);
+    // 암호문 헤더에는 키 ID 를 1바이트로 기록하므로 범위를 벗어난 키는 복호화에 쓸 수 없음
+    private void validateKeyId(int keyId) {
+        if (keyId < 0 || keyId > 255) {
+            throw new IllegalStateException("암호화 키 ID는 0~255 범위여야 합니다: " + keyId);
+        }
+    }
 
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
+    public boolean isConfigured() {
+        return activeKey != null;
+    }
 
-            byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+    public String encrypt(String plainText) {
+        if (plainText == null || plainText.isEmpty()) {
+            return plainText;
+        }
 
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encryptedBytes.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(encryptedBytes);
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
+        Cipher cipher = borrowCipher();
+        try {
+            return encrypt(cipher, plainText);
         } catch (Exception e) {
             log.error("암호화 실패", e);
             throw new RuntimeException("암호화 실패: " + e.getMessage(), e);
+        } finally {
+            returnCipher(cipher);
         }
     }
 
@@ -59,37 +117,93 @@ public class EncryptionService {
             return encryptedText;
         }
 
+        Cipher cipher = borrowCipher();
         try {
-            SecretKey secretKey = getSecretKey();
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            return decrypt(cipher, encryptedText);
+        } catch (Exception e) {
+            log.error("복호화 실패", e);
+            throw new RuntimeException("복호화 실패: " + e.getMessage(), e);
+        } finally {
+            returnCipher(cipher);
+        }
+    }
 
-            byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decodedBytes);
+    private String encrypt(Cipher cipher, String plainText) throws GeneralSecurityException {
+        SecretKey secretKey = requireActiveKey();
 
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        SECURE_RANDOM.nextBytes(iv);
 
-            byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv));
+        byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
 
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+        ByteBuffer byteBuffer = ByteBuffer.allocate(HEADER_LENGTH + GCM_IV_LENGTH + cipher.getOutputSize(plainBytes.length));
+        byteBuffer.put(FORMAT_MAGIC);
+        byteBuffer.put((byte) activeKeyId);
+        byteBuffer.put(iv);
+        cipher.doFinal(ByteBuffer.wrap(plainBytes), byteBuffer);
+        return Base64.getEncoder().encodeToString(byteBuffer.array());
+    }
 
-            byte[] decryptedBytes = cipher.doFinal(cipherText);
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            log.error("복호화 실패", e);
-            throw new RuntimeException("복호화 실패: " + e.getMessage(), e);
+    private String decrypt(Cipher cipher, String encryptedText) throws GeneralSecurityException {
+        byte[] decoded = Base64.getDecoder().decode(encryptedText);
+
+        if (hasHeader(decoded)) {
+            SecretKey key = keys.get(decoded[1] & 0xFF);
+            if (key != null) {
+                try {
+                    return decryptPayload(cipher, key, decoded, HEADER_LENGTH);
+                } catch (AEADBadTagException e) {
+                    // 이전 형식의 IV 첫 바이트가 우연히 헤더와 같은 경우 아래에서 다시 시도
+                }
+            }
         }
+
+        // 헤더 없는 이전 형식은 키 교체 여부와 관계없이 고정된 legacy 키로 복호화
+        requireActiveKey();
+        return decryptPayload(cipher, legacyKey, decoded, 0);
     }
 
-    private SecretKey getSecretKey() {
-        if (secretKeyString == null || secretKeyString.isEmpty()) {
+    private String decryptPayload(Cipher cipher, SecretKey key, byte[] data, int offset) throws GeneralSecurityException {
+        GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, data, offset, GCM_IV_LENGTH);
+        cipher.init(Cipher.DECRYPT_MODE, key, parameterSpec);
+        int payloadOffset = offset + GCM_IV_LENGTH;
+        byte[] decryptedBytes = cipher.doFinal(data, payloadOffset, data.length - payloadOffset);
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean hasHeader(byte[] data) {
+        return data.length > HEADER_LENGTH + GCM_IV_LENGTH && data[0] == FORMAT_MAGIC;
+    }
+
+    private Cipher borrowCipher() {
+        Cipher cipher = cipherPool.poll();
+        if (cipher != null) {
+            return cipher;
+        }
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 를 생성할 수 없습니다: " + TRANSFORMATION, e);
+        }
+    }
+
+    private void returnCipher(Cipher cipher) {
+        if (cipherPool.size() < MAX_POOLED_CIPHERS) {
+            cipherPool.offer(cipher);
+        }
+    }
+
+    private SecretKey requireActiveKey() {
+        if (activeKey == null) {
             throw new IllegalStateException("암호화 키가 설정되지 않았습니다. application.yml에 encryption.secret-key를 설정해주세요.");
         }
+        return activeKey;
+    }
 
+    private SecretKey toSecretKey(String base64Key) {
         try {
-            byte[] keyBytes = Base64.getDecoder().decode(secretKeyString);
+            byte[] keyBytes = Base64.getDecoder().decode(base64Key);
             if (keyBytes.length != 32) {
                 throw new IllegalStateException("암호화 키는 32바이트(256비트)여야 합니다. 현재: " + keyBytes.length + "바이트");
             }
@@ -110,4 +224,3 @@ public class EncryptionService {
         }
     }
 }
-
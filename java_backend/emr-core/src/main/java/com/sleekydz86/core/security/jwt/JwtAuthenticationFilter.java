@@ -29,6 +29,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final TokenBlacklistService tokenBlacklistService;
     private final TenantResolver tenantResolver;
 
+    public static final String ACCESS_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".ACCESS_TOKEN";
+
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String ROLE_PREFIX = "ROLE_";
     private static final String ADMIN_ROLE = "ADMIN";
@@ -48,11 +50,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     throw new CustomAuthenticationException("로그아웃된 토큰입니다.");
                 }
 
-                if (jwtUtil.validateToken(token)) {
-                    var authentication = jwtUtil.getAuthentication(token);
+                AccessToken accessToken = jwtUtil.verifyAccessToken(token);
+                if (accessToken != null) {
+                    var authentication = jwtUtil.getAuthentication(accessToken);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    request.setAttribute(ACCESS_TOKEN_ATTRIBUTE, accessToken);
 
-                    AccessToken accessToken = jwtUtil.parseAccessToken(token);
                     String primaryInttCd = accessToken.getInttCd();
                     Long userId = accessToken.getUserId();
 
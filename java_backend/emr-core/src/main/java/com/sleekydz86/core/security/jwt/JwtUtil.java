@@ -30,13 +30,19 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secret;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     private Key key;
+    private JwtParser parser;
 
     @PostConstruct
     public void init() {
         validateSecret();
         byte[] bytes = Base64.getDecoder().decode(secret);
         this.key = Keys.hmacShaKeyFor(bytes);
+        this.parser = Jwts.parser()
+                .setSigningKey(key)
+                .build();
     }
 
     public AccessToken generateAccessToken(Long userId, String role, String inttCd) {
@@ -155,37 +161,23 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
-        if (token == null || token.isBlank()) {
-            throw new CustomAuthenticationException("토큰이 비어있습니다.");
-        }
+        parseClaims(token);
+        return true;
+    }
 
-        try {
-            Jwts.parser()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (UnsupportedJwtException exception) {
-            log.error("지원하지 않는 JWT 형식입니다: {}", token);
-            throw new CustomAuthenticationException("지원하지 않는 JWT 형식입니다.");
-        } catch (MalformedJwtException exception) {
-            log.error("잘못된 JWT 형식입니다: {}", token);
-            throw new CustomAuthenticationException("잘못된 JWT 형식입니다.");
-        } catch (ExpiredJwtException exception) {
-            log.warn("JWT가 만료되었습니다: {}", token);
-            throw new CustomAuthenticationException("JWT가 만료되었습니다.");
-        } catch (IllegalArgumentException exception) {
-            log.error("JWT가 null이거나 비어있습니다.");
-            throw new CustomAuthenticationException("JWT가 비어있거나 잘못되었습니다.");
-        } catch (JwtException exception) {
-            log.error("JWT 검증에 실패했습니다: {}", exception.getMessage());
-            throw new CustomAuthenticationException("JWT 검증에 실패했습니다.");
+    public AccessToken verifyAccessToken(String tokenValue) {
+        AccessToken cached = verifiedTokenCache.get(tokenValue);
+        if (cached != null) {
+            return cached;
         }
+
+        AccessToken accessToken = parseAccessToken(tokenValue);
+        verifiedTokenCache.put(accessToken);
+        return accessToken;
     }
 
     public AccessToken parseAccessToken(String tokenValue) {
-        validateToken(tokenValue);
-        Claims claims = extractClaims(tokenValue);
+        Claims claims = parseClaims(tokenValue);
         Long userId = Long.valueOf(claims.getSubject());
         String role = claims.get("role", String.class);
         String inttCd = claims.get("inttCd", String.class);
@@ -194,8 +186,7 @@ public class JwtUtil {
     }
 
     public RefreshToken parseRefreshToken(String tokenValue) {
-        validateToken(tokenValue);
-        Claims claims = extractClaims(tokenValue);
+        Claims claims = parseClaims(tokenValue);
         Long userId = Long.valueOf(claims.getSubject());
         Date issuedAt = claims.getIssuedAt();
         return RefreshToken.of(tokenValue, userId, issuedAt);
@@ -226,16 +217,36 @@ public class JwtUtil {
     }
 
     public Long getUserIdFromToken(String token) {
-        AccessToken accessToken = parseAccessToken(token);
-        return accessToken.getUserId();
+        return Long.valueOf(parseClaims(token).getSubject());
     }
 
-    private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public void evictVerifiedToken(String token) {
+        verifiedTokenCache.evict(token);
+    }
+
+    private Claims parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new CustomAuthenticationException("토큰이 비어있습니다.");
+        }
+
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (UnsupportedJwtException exception) {
+            log.error("지원하지 않는 JWT 형식입니다: {}", token);
+            throw new CustomAuthenticationException("지원하지 않는 JWT 형식입니다.");
+        } catch (MalformedJwtException exception) {
+            log.error("잘못된 JWT 형식입니다: {}", token);
+            throw new CustomAuthenticationException("잘못된 JWT 형식입니다.");
+        } catch (ExpiredJwtException exception) {
+            log.warn("JWT가 만료되었습니다: {}", token);
+            throw new CustomAuthenticationException("JWT가 만료되었습니다.");
+        } catch (IllegalArgumentException exception) {
+            log.error("JWT가 null이거나 비어있습니다.");
+            throw new CustomAuthenticationException("JWT가 비어있거나 잘못되었습니다.");
+        } catch (JwtException exception) {
+            log.error("JWT 검증에 실패했습니다: {}", exception.getMessage());
+            throw new CustomAuthenticationException("JWT 검증에 실패했습니다.");
+        }
     }
 
     private void validateSecret() {
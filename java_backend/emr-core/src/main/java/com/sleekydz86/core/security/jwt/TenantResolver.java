@@ -4,4 +4,6 @@ import java.util.List;
 
 public interface TenantResolver {
     List<String> findInstitutionCodesByUserId(Long userId);
+
+    void evictInstitutionCodes(Long userId);
 }
@@ -0,0 +1,126 @@
+package com.sleekydz86.core.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Component
+@Slf4j
+public class TokenBlacklistNearCache implements MessageListener {
+
+    static final String CHANNEL = "blacklist:token:events";
+    private static final String CLEAR_MESSAGE = "__clear__";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    private volatile boolean ready;
+
+    public TokenBlacklistNearCache(RedisTemplate<String, String> redisTemplate,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   @Value("${jwt.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+                                   @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = newFilter();
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+    }
+
+    // 로컬 필터가 준비되지 않았다면 항상 Redis 조회로 넘긴다
+    public boolean mightBeBlacklisted(String tokenHash) {
+        return !ready || current.mightContain(decode(tokenHash));
+    }
+
+    public void add(String tokenHash) {
+        addLocal(tokenHash);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenHash);
+        } catch (Exception e) {
+            log.error("Blacklist 동기화 메시지 발행 실패", e);
+        }
+    }
+
+    public void clear() {
+        current = newFilter();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, CLEAR_MESSAGE);
+        } catch (Exception e) {
+            log.error("Blacklist 초기화 메시지 발행 실패", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (CLEAR_MESSAGE.equals(body)) {
+            current = newFilter();
+            return;
+        }
+        addLocal(body);
+    }
+
+    // 만료된 항목은 Bloom 필터에서 제거할 수 없으므로 주기적으로 Redis 기준으로 재구성.
+    // 동기화 메시지가 유실되면 다음 재구성 전까지(기본 30초) 이 노드에서 폐기된 토큰이 통과할 수 있음
+    @Scheduled(fixedDelayString = "${jwt.blacklist.bloom.rebuild-interval:30000}")
+    public void rebuild() {
+        BloomFilter next = newFilter();
+        building = next;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(TokenBlacklistService.BLACKLIST_PREFIX + "*")
+                .count(1000)
+                .build())) {
+            int count = 0;
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                next.put(decode(key.substring(TokenBlacklistService.BLACKLIST_PREFIX.length())));
+                count++;
+            }
+            current = next;
+            ready = true;
+            log.debug("Blacklist Bloom 필터 재구성 완료: {}건", count);
+        } catch (Exception e) {
+            log.error("Blacklist Bloom 필터 재구성 실패", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private void addLocal(String tokenHash) {
+        byte[] digest = decode(tokenHash);
+        current.put(digest);
+        BloomFilter pending = building;
+        if (pending != null) {
+            pending.put(digest);
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private static byte[] decode(String tokenHash) {
+        return Base64.getUrlDecoder().decode(tokenHash);
+    }
+}
@@ -1,8 +1,11 @@
 package com.sleekydz86.core.security.jwt;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -14,8 +17,56 @@ public class TokenBlacklistService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtUtil jwtUtil;
+    private final TokenBlacklistNearCache nearCache;
+
+    // 원본 토큰 대신 SHA-256 해시를 키로 사용
+    static final String BLACKLIST_PREFIX = "blacklist:token-hash:";
+
+    // 이전 버전이 원본 토큰으로 저장한 키. 배포 전에 폐기된 토큰이 다시 유효해지지 않도록 기동 시 해시 키로 옮김
+    private static final String LEGACY_BLACKLIST_PREFIX = "blacklist:token:";
+
+    @PostConstruct
+    public void migrateLegacyKeys() {
+        int migrated = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(LEGACY_BLACKLIST_PREFIX + "*")
+                .count(1000)
+                .build())) {
+            while (cursor.hasNext()) {
+                if (migrateLegacyKey(cursor.next())) {
+                    migrated++;
+                }
+            }
+            if (migrated > 0) {
+                log.info("이전 형식 Blacklist 키 이관 완료: {}건", migrated);
+            }
+        } catch (Exception e) {
+            log.error("이전 형식 Blacklist 키 이관 실패", e);
+        }
+    }
 
-    private static final String BLACKLIST_PREFIX = "blacklist:token:";
+    private boolean migrateLegacyKey(String legacyKey) {
+        String token = legacyKey.substring(LEGACY_BLACKLIST_PREFIX.length());
+        String cleanToken = jwtUtil.resolveToken(token);
+        if (cleanToken == null) {
+            cleanToken = token;
+        }
+        Long ttl = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+        // -2: 이미 만료됨, -1: 만료 시간 없음 (토큰 만료 시각으로 다시 계산)
+        if (ttl == null || ttl == -2) {
+            return false;
+        }
+        if (ttl == -1) {
+            ttl = getTokenExpirationTime(cleanToken) - System.currentTimeMillis();
+        }
+        String tokenHash = TokenHasher.hash(cleanToken);
+        if (ttl > 0) {
+            redisTemplate.opsForValue().setIfAbsent(BLACKLIST_PREFIX + tokenHash, "true", ttl, TimeUnit.MILLISECONDS);
+            nearCache.add(tokenHash);
+        }
+        redisTemplate.delete(legacyKey);
+        return ttl > 0;
+    }
 
     public void blacklistToken(String token) {
         try {
@@ -25,9 +76,12 @@ public class TokenBlacklistService {
             long ttl = expirationTime - currentTime;
 
             if (ttl > 0) {
-                String key = BLACKLIST_PREFIX + token;
-                redisTemplate.opsForValue().set(key, "true", ttl, TimeUnit.MILLISECONDS);
-                log.debug("토큰이 Blacklist에 추가되었습니다: {}", token.substring(0, 20) + "...");
+                String cleanToken = jwtUtil.resolveToken(token);
+                String tokenHash = TokenHasher.hash(cleanToken);
+                redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenHash, "true", ttl, TimeUnit.MILLISECONDS);
+                nearCache.add(tokenHash);
+                jwtUtil.evictVerifiedToken(cleanToken);
+                log.debug("토큰이 Blacklist에 추가되었습니다: {}", tokenHash);
             }
         } catch (Exception e) {
             log.error("토큰 Blacklist 추가 실패", e);
@@ -37,7 +91,12 @@ public class TokenBlacklistService {
 
     public boolean isTokenBlacklisted(String token) {
         try {
-            String key = BLACKLIST_PREFIX + token;
+            String tokenHash = TokenHasher.hash(token);
+            if (!nearCache.mightBeBlacklisted(tokenHash)) {
+                return false;
+            }
+
+            String key = BLACKLIST_PREFIX + tokenHash;
             String value = redisTemplate.opsForValue().get(key);
             return value != null && value.equals("true");
         } catch (Exception e) {
@@ -78,6 +137,7 @@ public class TokenBlacklistService {
             Set<String> keys = redisTemplate.keys(BLACKLIST_PREFIX + "*");
             if (keys != null && !keys.isEmpty()) {
                 redisTemplate.delete(keys);
+                nearCache.clear();
                 log.info("Blacklist가 초기화되었습니다. 삭제된 키 수: {}", keys.size());
             } else {
                 log.info("Blacklist가 비어있습니다.");
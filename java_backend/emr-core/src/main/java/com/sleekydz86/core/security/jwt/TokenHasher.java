@@ -0,0 +1,28 @@
+package com.sleekydz86.core.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public final class TokenHasher {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenHasher() {
+    }
+
+    // 원본 토큰 대신 캐시/Redis 키로 사용할 SHA-256 다이제스트 (Base64 URL, 43자)
+    public static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        byte[] hashed = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sleekydz86.core.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sleekydz86.core.security.jwt.valueobject.AccessToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, AccessToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, AccessToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, AccessToken token, long currentTime) {
+                        return remainingNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, AccessToken token, long currentTime, long currentDuration) {
+                        return remainingNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, AccessToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public AccessToken get(String tokenValue) {
+        AccessToken accessToken = cache.getIfPresent(TokenHasher.hash(tokenValue));
+        if (accessToken == null || accessToken.isExpired()) {
+            return null;
+        }
+        return accessToken;
+    }
+
+    public void put(AccessToken accessToken) {
+        if (accessToken.isValid()) {
+            cache.put(TokenHasher.hash(accessToken.getValue()), accessToken);
+        }
+    }
+
+    public void evict(String tokenValue) {
+        cache.invalidate(TokenHasher.hash(tokenValue));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static long remainingNanos(AccessToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.getExpiresAt());
+        return remaining.isNegative() ? 0L : remaining.toNanos();
+    }
+}
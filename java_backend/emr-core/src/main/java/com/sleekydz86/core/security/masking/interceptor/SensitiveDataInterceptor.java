@@ -34,15 +34,12 @@ public class SensitiveDataInterceptor implements ResponseBodyAdvice<Object> {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         boolean applyMasking = shouldApplyMasking(authentication);
 
-        if (applyMasking) {
-            if (body instanceof Iterable) {
-                ((Iterable<?>) body).forEach(item -> dataMaskingService.maskSensitiveFields(item, true));
-            } else {
-                dataMaskingService.maskSensitiveFields(body, true);
-            }
+        if (!applyMasking) {
+            return body;
         }
 
-        return body;
+        // record 응답은 마스킹된 새 인스턴스로 교체됨
+        return dataMaskingService.mask(body);
     }
 
     private boolean shouldApplyMasking(Authentication authentication) {
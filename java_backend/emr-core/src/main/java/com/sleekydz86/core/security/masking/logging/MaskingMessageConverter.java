@@ -0,0 +1,14 @@
+package com.sleekydz86.core.security.masking.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.sleekydz86.core.security.masking.util.LogMessageMasker;
+
+// %m / %msg / %message 를 대체하는 변환기. 실제로 출력되는 이벤트에 대해서만 호출됨
+public class MaskingMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return LogMessageMasker.mask(event.getFormattedMessage());
+    }
+}
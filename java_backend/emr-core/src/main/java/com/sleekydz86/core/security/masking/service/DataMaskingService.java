@@ -2,38 +2,42 @@ package com.sleekydz86.core.security.masking.service;
 
 import com.sleekydz86.core.security.masking.annotation.Sensitive;
 import com.sleekydz86.core.security.masking.util.DataMaskingUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static com.sleekydz86.core.security.masking.annotation.Sensitive.MaskingType.*;
 
+@Slf4j
 @Service
 public class DataMaskingService {
 
-    public void maskSensitiveFields(Object obj, boolean applyMasking) {
-        if (obj == null || !applyMasking) {
-            return;
-        }
+    private static final int MAX_DEPTH = 32;
 
-        Class<?> clazz = obj.getClass();
-        Field[] fields = clazz.getDeclaredFields();
-
-        for (Field field : fields) {
-            if (field.isAnnotationPresent(Sensitive.class)) {
-                try {
-                    field.setAccessible(true);
-                    Object value = field.get(obj);
-                    if (value != null && value instanceof String) {
-                        Sensitive annotation = field.getAnnotation(Sensitive.class);
-                        String maskedValue = maskValue((String) value, annotation.type());
-                        field.set(obj, maskedValue);
-                    }
-                } catch (IllegalAccessException e) {
-                    // 필드 접근 실패 시 무시기능 설계예정
-                }
-            }
+    // 중첩 객체, 컬렉션, Page, Map 을 따라가며 @Sensitive 필드를 마스킹.
+    // 가변 객체는 제자리에서 바꾸고, record 나 불변 컬렉션은 바뀐 경우에만 새 인스턴스를 만들어 반환
+    public Object mask(Object value) {
+        if (value == null) {
+            return null;
         }
+        Class<?> type = value.getClass();
+        if (!type.isArray() && !MaskingPlan.isContainer(type) && MaskingPlan.of(type).kind == MaskingPlan.Kind.NONE) {
+            return value;
+        }
+        return maskValue(value, new MaskingContext(), 0);
     }
 
     public void maskMapValue(Map<String, Object> map, String key, Sensitive.MaskingType type) {
@@ -46,6 +50,163 @@ public class DataMaskingService {
         }
     }
 
+    private Object maskValue(Object value, MaskingContext context, int depth) {
+        if (value == null || depth > MAX_DEPTH) {
+            return value;
+        }
+        if (value instanceof Slice<?> slice) {
+            return maskSlice(slice, context, depth);
+        }
+        if (value instanceof List<?> list) {
+            return maskList(list, context, depth);
+        }
+        if (value instanceof Collection<?> collection) {
+            return maskCollection(collection, context, depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return maskMap(map, context, depth);
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.map(item -> maskValue(item, context, depth + 1));
+        }
+        if (value instanceof Object[] array) {
+            maskArray(array, context, depth);
+            return value;
+        }
+
+        MaskingPlan plan = MaskingPlan.of(value.getClass());
+        return switch (plan.kind) {
+            case NONE -> value;
+            case BEAN -> maskBean(value, plan, context, depth);
+            case RECORD -> maskRecord(value, plan, context, depth);
+        };
+    }
+
+    private Object maskBean(Object bean, MaskingPlan plan, MaskingContext context, int depth) {
+        if (!context.visit(bean)) {
+            return bean;
+        }
+        for (MaskingPlan.Property property : plan.properties) {
+            try {
+                Object current = property.getter().invokeExact(bean);
+                Object masked = maskProperty(property, current, context, depth);
+                if (masked != current && property.setter() != null && property.fieldType().isInstance(masked)) {
+                    property.setter().invokeExact(bean, masked);
+                }
+            } catch (Throwable e) {
+                rethrowIfError(e);
+                log.debug("민감 필드 마스킹 실패: {}.{}", bean.getClass().getSimpleName(), property.name(), e);
+            }
+        }
+        return bean;
+    }
+
+    private Object maskRecord(Object record, MaskingPlan plan, MaskingContext context, int depth) {
+        MaskingPlan.Property[] properties = plan.properties;
+        Object[] arguments = new Object[properties.length];
+        boolean changed = false;
+        try {
+            for (int i = 0; i < properties.length; i++) {
+                MaskingPlan.Property property = properties[i];
+                Object current = property.getter().invokeExact(record);
+                arguments[i] = current;
+                if (property.isPassThrough()) {
+                    continue;
+                }
+                Object masked = maskProperty(property, current, context, depth);
+                if (masked != current && (masked == null || property.fieldType().isInstance(masked))) {
+                    arguments[i] = masked;
+                    changed = true;
+                }
+            }
+            return changed ? plan.constructor.invokeExact(arguments) : record;
+        } catch (Throwable e) {
+            rethrowIfError(e);
+            log.debug("민감 필드 마스킹 실패: {}", record.getClass().getSimpleName(), e);
+            return record;
+        }
+    }
+
+    private Object maskProperty(MaskingPlan.Property property, Object current, MaskingContext context, int depth) {
+        if (current == null) {
+            return null;
+        }
+        if (property.maskingType() != null) {
+            return current instanceof String text ? maskValue(text, property.maskingType()) : current;
+        }
+        return maskValue(current, context, depth + 1);
+    }
+
+    private Object maskSlice(Slice<?> slice, MaskingContext context, int depth) {
+        List<?> content = slice.getContent();
+        List<Object> masked = maskList(content, context, depth);
+        if (masked == content) {
+            return slice;
+        }
+        if (slice instanceof Page<?> page) {
+            return new PageImpl<>(masked, page.getPageable(), page.getTotalElements());
+        }
+        return new SliceImpl<>(masked, slice.getPageable(), slice.hasNext());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> maskList(List<?> list, MaskingContext context, int depth) {
+        List<Object> copy = null;
+        int size = list.size();
+        int index = 0;
+        for (Object item : list) {
+            Object masked = maskValue(item, context, depth + 1);
+            if (copy == null && masked != item) {
+                copy = new ArrayList<>(size);
+                copy.addAll(list.subList(0, index));
+            }
+            if (copy != null) {
+                copy.add(masked);
+            }
+            index++;
+        }
+        return copy != null ? copy : (List<Object>) list;
+    }
+
+    private Collection<?> maskCollection(Collection<?> collection, MaskingContext context, int depth) {
+        List<Object> masked = new ArrayList<>(collection.size());
+        boolean changed = false;
+        for (Object item : collection) {
+            Object result = maskValue(item, context, depth + 1);
+            changed |= result != item;
+            masked.add(result);
+        }
+        if (!changed) {
+            return collection;
+        }
+        return collection instanceof Set<?> ? new LinkedHashSet<>(masked) : masked;
+    }
+
+    private Map<?, ?> maskMap(Map<?, ?> map, MaskingContext context, int depth) {
+        Map<Object, Object> copy = null;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object masked = maskValue(value, context, depth + 1);
+            if (copy == null && masked != value) {
+                copy = new LinkedHashMap<>(map);
+            }
+            if (copy != null && masked != value) {
+                copy.put(entry.getKey(), masked);
+            }
+        }
+        return copy != null ? copy : map;
+    }
+
+    private void maskArray(Object[] array, MaskingContext context, int depth) {
+        Class<?> componentType = array.getClass().getComponentType();
+        for (int i = 0; i < array.length; i++) {
+            Object masked = maskValue(array[i], context, depth + 1);
+            if (masked != array[i] && componentType.isInstance(masked)) {
+                array[i] = masked;
+            }
+        }
+    }
+
     private String maskValue(String value, Sensitive.MaskingType type) {
         return switch (type) {
             case RRN -> DataMaskingUtil.maskRRN(value);
@@ -57,4 +218,23 @@ public class DataMaskingService {
             default -> DataMaskingUtil.maskDefault(value);
         };
     }
+
+    private static void rethrowIfError(Throwable e) {
+        if (e instanceof Error error) {
+            throw error;
+        }
+    }
+
+    // 같은 가변 객체를 두 번 마스킹하지 않도록 한 응답 안에서 방문한 객체를 기록
+    private static final class MaskingContext {
+
+        private Set<Object> visited;
+
+        boolean visit(Object bean) {
+            if (visited == null) {
+                visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            return visited.add(bean);
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package com.sleekydz86.core.security.masking.service;
+
+import com.sleekydz86.core.security.masking.annotation.Sensitive;
+import org.springframework.data.domain.Slice;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 클래스별 마스킹 실행 계획. @Sensitive 메타데이터와 필드 접근자를 클래스당 한 번만 만들어 재사용
+final class MaskingPlan {
+
+    enum Kind { NONE, BEAN, RECORD }
+
+    static final MaskingPlan NONE = new MaskingPlan(Kind.NONE, new Property[0], null);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<MaskingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected MaskingPlan computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    // 자기 자신을 참조하는 타입의 계획을 만드는 동안 무한 재귀를 막기 위한 표시
+    private static final ThreadLocal<Set<Class<?>>> BUILDING = ThreadLocal.withInitial(HashSet::new);
+
+    final Kind kind;
+    // BEAN: 마스킹/탐색 대상 필드만, RECORD: 모든 컴포넌트(생성자 인자 순서)
+    final Property[] properties;
+    // RECORD 의 정규 생성자 (Object[] -> Object)
+    final MethodHandle constructor;
+
+    private MaskingPlan(Kind kind, Property[] properties, MethodHandle constructor) {
+        this.kind = kind;
+        this.properties = properties;
+        this.constructor = constructor;
+    }
+
+    static MaskingPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    record Property(String name, MethodHandle getter, MethodHandle setter, Class<?> fieldType,
+                    Sensitive.MaskingType maskingType, boolean nested) {
+
+        boolean isPassThrough() {
+            return maskingType == null && !nested;
+        }
+    }
+
+    private static MaskingPlan build(Class<?> type) {
+        if (isLeaf(type) || isContainer(type) || type.isInterface() || type.isArray()) {
+            return NONE;
+        }
+        Set<Class<?>> building = BUILDING.get();
+        building.add(type);
+        try {
+            return type.isRecord() ? buildRecordPlan(type) : buildBeanPlan(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 접근할 수 없는 타입은 마스킹 대상에서 제외
+            return NONE;
+        } finally {
+            building.remove(type);
+        }
+    }
+
+    private static MaskingPlan buildRecordPlan(Class<?> type) throws ReflectiveOperationException {
+        RecordComponent[] components = type.getRecordComponents();
+        Property[] properties = new Property[components.length];
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        boolean anyActive = false;
+
+        for (int i = 0; i < components.length; i++) {
+            Field field = type.getDeclaredField(components[i].getName());
+            Property property = toProperty(field, false, true);
+            properties[i] = property;
+            parameterTypes[i] = components[i].getType();
+            anyActive |= !property.isPassThrough();
+        }
+        if (!anyActive) {
+            return NONE;
+        }
+
+        Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+        canonical.setAccessible(true);
+        MethodHandle constructor = LOOKUP.unreflectConstructor(canonical)
+                .asType(MethodType.methodType(Object.class, parameterTypes))
+                .asSpreader(Object[].class, parameterTypes.length);
+        return new MaskingPlan(Kind.RECORD, properties, constructor);
+    }
+
+    private static MaskingPlan buildBeanPlan(Class<?> type) throws ReflectiveOperationException {
+        List<Property> properties = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (isLeaf(current)) {
+                break;
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                Property property = toProperty(field, true, false);
+                if (!property.isPassThrough()) {
+                    properties.add(property);
+                }
+            }
+        }
+        if (properties.isEmpty()) {
+            return NONE;
+        }
+        return new MaskingPlan(Kind.BEAN, properties.toArray(Property[]::new), null);
+    }
+
+    // record 는 재생성 시 모든 컴포넌트 값이 필요하므로 마스킹 대상이 아니어도 접근자를 만듦
+    private static Property toProperty(Field field, boolean writable, boolean alwaysReadable) throws IllegalAccessException {
+        Sensitive sensitive = field.getAnnotation(Sensitive.class);
+        Sensitive.MaskingType maskingType = sensitive != null && field.getType() == String.class ? sensitive.type() : null;
+        boolean nested = maskingType == null && mayContainSensitive(field.getGenericType());
+        if (maskingType == null && !nested && !alwaysReadable) {
+            return new Property(field.getName(), null, null, field.getType(), null, false);
+        }
+
+        field.setAccessible(true);
+        MethodHandle getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+        MethodHandle setter = null;
+        if (writable) {
+            try {
+                setter = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                // final 필드 등 쓸 수 없는 필드는 하위 객체만 제자리에서 마스킹
+            }
+        }
+        return new Property(field.getName(), getter, setter, field.getType(), maskingType, nested);
+    }
+
+    // 선언 타입만 보고 민감 필드가 포함될 수 있는지 판단. 알 수 없는 타입(Object, 타입 변수 등)은 실행 시점에 판단
+    private static boolean mayContainSensitive(Type type) {
+        if (type instanceof Class<?> raw) {
+            if (raw.isArray()) {
+                return mayContainSensitive(raw.getComponentType());
+            }
+            if (raw == Object.class || isContainer(raw)) {
+                return true;
+            }
+            if (isLeaf(raw)) {
+                return false;
+            }
+            if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers())) {
+                return true;
+            }
+            if (BUILDING.get().contains(raw)) {
+                return true;
+            }
+            return of(raw).kind != Kind.NONE;
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (Map.class.isAssignableFrom(raw) && arguments.length == 2) {
+                return mayContainSensitive(arguments[1]);
+            }
+            if (isContainer(raw) && arguments.length == 1) {
+                return mayContainSensitive(arguments[0]);
+            }
+            return mayContainSensitive(raw);
+        }
+        if (type instanceof GenericArrayType array) {
+            return mayContainSensitive(array.getGenericComponentType());
+        }
+        // 타입 변수, 와일드카드
+        return true;
+    }
+
+    static boolean isContainer(Class<?> type) {
+        return Iterable.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type)
+                || Optional.class == type
+                || Slice.class.isAssignableFrom(type);
+    }
+
+    static boolean isLeaf(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || CharSequence.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type)) {
+            return true;
+        }
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.")
+                || name.startsWith("jdk.") || name.startsWith("org.springframework.") || name.startsWith("org.hibernate.");
+    }
+}
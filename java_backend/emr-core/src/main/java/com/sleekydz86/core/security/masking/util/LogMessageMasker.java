@@ -0,0 +1,152 @@
+package com.sleekydz86.core.security.masking.util;
+
+public class LogMessageMasker {
+
+    private LogMessageMasker() {
+    }
+
+    // 주민등록번호, 휴대전화번호, 이메일을 한 번의 순회로 찾아 마스킹. 일치하는 값이 없으면 원본을 그대로 반환
+    public static String mask(String message) {
+        if (message == null || message.isEmpty()) {
+            return message;
+        }
+
+        StringBuilder masked = null;
+        int copied = 0;
+        int length = message.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = message.charAt(i);
+            int end = -1;
+            int start = i;
+            String replacement = null;
+
+            if (isDigit(c) && (i == 0 || !isDigit(message.charAt(i - 1)))) {
+                end = matchRrn(message, i);
+                if (end > 0) {
+                    replacement = DataMaskingUtil.maskRRN(message.substring(i, end));
+                } else {
+                    end = matchMobilePhone(message, i);
+                    if (end > 0) {
+                        replacement = DataMaskingUtil.maskPhone(message.substring(i, end));
+                    }
+                }
+            } else if (c == '@') {
+                start = emailLocalStart(message, i, copied);
+                if (start < i) {
+                    end = matchEmailDomain(message, i + 1);
+                    if (end > 0) {
+                        replacement = DataMaskingUtil.maskEmail(message.substring(start, end));
+                    }
+                }
+            }
+
+            if (replacement == null) {
+                i++;
+                continue;
+            }
+            if (masked == null) {
+                masked = new StringBuilder(length + 16);
+            }
+            masked.append(message, copied, start).append(replacement);
+            copied = end;
+            i = end;
+        }
+
+        if (masked == null) {
+            return message;
+        }
+        return masked.append(message, copied, length).toString();
+    }
+
+    // \d{6}-\d{7} (앞뒤가 숫자가 아닌 경우만)
+    private static int matchRrn(String s, int from) {
+        int pos = from + 6;
+        if (pos >= s.length() || digitRun(s, from) != 6 || s.charAt(pos) != '-') {
+            return -1;
+        }
+        return digitRun(s, pos + 1) == 7 ? pos + 8 : -1;
+    }
+
+    // 01[016789]-?\d{3,4}-?\d{4} (앞뒤가 숫자가 아닌 경우만)
+    private static int matchMobilePhone(String s, int from) {
+        if (from + 3 > s.length() || s.charAt(from) != '0' || s.charAt(from + 1) != '1') {
+            return -1;
+        }
+        char carrier = s.charAt(from + 2);
+        if (carrier != '0' && carrier != '1' && (carrier < '6' || carrier > '9')) {
+            return -1;
+        }
+
+        int pos = from + 3;
+        boolean hyphenAfterPrefix = pos < s.length() && s.charAt(pos) == '-';
+        if (hyphenAfterPrefix) {
+            pos++;
+        }
+
+        int middle = digitRun(s, pos);
+        int afterMiddle = pos + middle;
+        if ((middle == 3 || middle == 4) && afterMiddle < s.length() && s.charAt(afterMiddle) == '-') {
+            return digitRun(s, afterMiddle + 1) == 4 ? afterMiddle + 5 : -1;
+        }
+        if (hyphenAfterPrefix && middle == 0) {
+            return -1;
+        }
+        // 접두 번호 뒤에 하이픈 없이 이어지는 경우 포함 (예: 01012345678, 010-12345678)
+        return (middle == 7 || middle == 8) ? afterMiddle : -1;
+    }
+
+    private static int emailLocalStart(String s, int at, int lowerBound) {
+        int start = at;
+        while (start > lowerBound && isEmailLocalChar(s.charAt(start - 1))) {
+            start--;
+        }
+        return start;
+    }
+
+    // [a-zA-Z0-9.-]+\.[a-zA-Z]{2,} 의 끝 위치
+    private static int matchEmailDomain(String s, int from) {
+        int runEnd = from;
+        while (runEnd < s.length() && isDomainChar(s.charAt(runEnd))) {
+            runEnd++;
+        }
+        for (int dot = runEnd - 1; dot > from; dot--) {
+            if (s.charAt(dot) != '.') {
+                continue;
+            }
+            int tld = dot + 1;
+            while (tld < runEnd && isAsciiLetter(s.charAt(tld))) {
+                tld++;
+            }
+            if (tld - dot - 1 >= 2) {
+                return tld;
+            }
+        }
+        return -1;
+    }
+
+    private static int digitRun(String s, int from) {
+        int pos = from;
+        while (pos < s.length() && isDigit(s.charAt(pos))) {
+            pos++;
+        }
+        return pos - from;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '-';
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+}
@@ -0,0 +1,48 @@
+package com.sleekydz86.core.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA(Generic Cell Rate Algorithm) 기반 토큰 버킷. 키마다 AtomicLong 하나만 CAS로 갱신한다.
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalRateLimiter(@Value("${rate-limit.local.max-keys:100000}") long maxKeys,
+                            @Value("${rate-limit.local.idle-expiry:600000}") long idleExpiryMillis) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(idleExpiryMillis))
+                .build();
+    }
+
+    @Override
+    public RateLimitResult tryAcquire(String key, RateLimitPolicy policy) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long interval = policy.emissionIntervalNanos();
+        long period = policy.period().toNanos();
+
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long base = (tat == Long.MIN_VALUE || tat - now < 0) ? now : tat;
+            long next = base + interval;
+            long ahead = next - now;
+
+            if (ahead > period) {
+                return RateLimitResult.reject(TimeUnit.NANOSECONDS.toMillis(ahead - period) + 1);
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return RateLimitResult.allow();
+            }
+        }
+    }
+}
@@ -2,38 +2,49 @@ package com.sleekydz86.core.security.ratelimit;
 
 import com.sleekydz86.core.security.jwt.ErrorCode;
 import com.sleekydz86.core.security.jwt.JwtSendErrorService;
+import com.sleekydz86.core.security.ratelimit.annotation.RateLimit;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
-@RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
     private final JwtSendErrorService jwtSendErrorService;
-    private final Map<String, RateLimitInfo> requestCounts = new ConcurrentHashMap<>();
-    private static final int MAX_REQUESTS = 100; // 최대 요청 수
-    private static final long TIME_WINDOW = 60000; // 1분
+    private final RateLimiter rateLimiter;
+    private final RateLimitPolicy defaultPolicy;
+    private final Map<Method, RateLimitPolicy> routePolicies = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(JwtSendErrorService jwtSendErrorService,
+                                RateLimiter rateLimiter,
+                                @Value("${rate-limit.default.capacity:100}") long defaultCapacity, // 최대 요청 수
+                                @Value("${rate-limit.default.period:60000}") long defaultPeriodMillis) { // 1분
+        this.jwtSendErrorService = jwtSendErrorService;
+        this.rateLimiter = rateLimiter;
+        this.defaultPolicy = new RateLimitPolicy("default", defaultCapacity,
+                Duration.ofMillis(defaultPeriodMillis), RateLimitKeyType.IP);
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String clientIp = getClientIp(request);
-        RateLimitInfo rateLimitInfo = requestCounts.computeIfAbsent(clientIp, k -> new RateLimitInfo());
-
-        long currentTime = System.currentTimeMillis();
+        RateLimitPolicy policy = resolvePolicy(handler);
+        String key = policy.name() + ":" + resolveClientKey(request, policy.keyType());
 
-        if (currentTime - rateLimitInfo.getWindowStart() > TIME_WINDOW) {
-            rateLimitInfo.reset(currentTime);
-        }
+        RateLimitResult result = rateLimiter.tryAcquire(key, policy);
+        response.setHeader("X-RateLimit-Limit", String.valueOf(policy.capacity()));
 
-        int currentCount = rateLimitInfo.incrementAndGet();
-
-        if (currentCount > MAX_REQUESTS) {
+        if (!result.allowed()) {
+            response.setHeader("Retry-After", String.valueOf(Math.max(1L, (result.retryAfterMillis() + 999) / 1000)));
             jwtSendErrorService.sendErrorResponseProcess(response, ErrorCode.RATE_LIMIT_EXCEEDED, 429); // HTTP 429 Too Many Requests
             return false;
         }
@@ -41,34 +52,45 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         return true;
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+    private RateLimitPolicy resolvePolicy(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return defaultPolicy;
         }
-        return request.getRemoteAddr();
+        return routePolicies.computeIfAbsent(method.getMethod(), m -> createRoutePolicy(method));
     }
 
-    private static class RateLimitInfo {
-        private final AtomicInteger count = new AtomicInteger(0);
-        private long windowStart;
-
-        public RateLimitInfo() {
-            this.windowStart = System.currentTimeMillis();
+    private RateLimitPolicy createRoutePolicy(HandlerMethod method) {
+        RateLimit rateLimit = method.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            rateLimit = method.getBeanType().getAnnotation(RateLimit.class);
         }
-
-        public void reset(long newWindowStart) {
-            count.set(0);
-            this.windowStart = newWindowStart;
+        if (rateLimit == null) {
+            return defaultPolicy;
         }
 
-        public int incrementAndGet() {
-            return count.incrementAndGet();
+        String name = rateLimit.name().isBlank()
+                ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                : rateLimit.name();
+        return new RateLimitPolicy(name, rateLimit.capacity(),
+                Duration.ofSeconds(rateLimit.periodSeconds()), rateLimit.keyType());
+    }
+
+    private String resolveClientKey(HttpServletRequest request, RateLimitKeyType keyType) {
+        if (keyType == RateLimitKeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
         }
+        return "ip:" + getClientIp(request);
+    }
 
-        public long getWindowStart() {
-            return windowStart;
+    private String getClientIp(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
         }
+        return request.getRemoteAddr();
     }
 }
-
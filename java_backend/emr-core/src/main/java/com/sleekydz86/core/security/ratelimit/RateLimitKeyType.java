@@ -0,0 +1,6 @@
+package com.sleekydz86.core.security.ratelimit;
+
+public enum RateLimitKeyType {
+    IP,
+    USER
+}
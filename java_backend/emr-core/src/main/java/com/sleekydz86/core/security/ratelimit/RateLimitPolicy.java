@@ -0,0 +1,24 @@
+package com.sleekydz86.core.security.ratelimit;
+
+import java.time.Duration;
+
+public record RateLimitPolicy(
+        String name,
+        long capacity,
+        Duration period,
+        RateLimitKeyType keyType
+) {
+    public RateLimitPolicy {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("요청 한도는 1 이상이어야 합니다.");
+        }
+        if (period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("요청 한도 기간은 0보다 커야 합니다.");
+        }
+    }
+
+    // 요청 1건이 소비하는 시간 간격 (GCRA emission interval)
+    public long emissionIntervalNanos() {
+        return Math.max(1L, period.toNanos() / capacity);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sleekydz86.core.security.ratelimit;
+
+public record RateLimitResult(
+        boolean allowed,
+        long retryAfterMillis
+) {
+    public static RateLimitResult allow() {
+        return new RateLimitResult(true, 0L);
+    }
+
+    public static RateLimitResult reject(long retryAfterMillis) {
+        return new RateLimitResult(false, retryAfterMillis);
+    }
+}
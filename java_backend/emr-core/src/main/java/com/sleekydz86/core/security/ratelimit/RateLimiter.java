@@ -0,0 +1,5 @@
+package com.sleekydz86.core.security.ratelimit;
+
+public interface RateLimiter {
+    RateLimitResult tryAcquire(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,17 @@
+package com.sleekydz86.core.security.ratelimit.annotation;
+
+import com.sleekydz86.core.security.ratelimit.RateLimitKeyType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RateLimit {
+    String name() default "";
+    long capacity();
+    long periodSeconds() default 60;
+    RateLimitKeyType keyType() default RateLimitKeyType.USER;
+}
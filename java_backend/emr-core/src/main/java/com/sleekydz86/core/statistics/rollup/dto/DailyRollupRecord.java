@@ -0,0 +1,21 @@
+package com.sleekydz86.core.statistics.rollup.dto;
+
+// 하루 집계의 한 칸. amount 는 금액, 시간 합계 등 지표마다 의미가 다르며 없으면 0
+public record DailyRollupRecord(
+        String tenantId,
+        String dimension,
+        String dimensionValue,
+        Long count,
+        Long amount
+) {
+
+    public static DailyRollupRecord of(String tenantId, String dimension, Object dimensionValue, long count) {
+        return of(tenantId, dimension, dimensionValue, count, 0L);
+    }
+
+    public static DailyRollupRecord of(String tenantId, String dimension, Object dimensionValue,
+                                       long count, long amount) {
+        return new DailyRollupRecord(tenantId != null ? tenantId : "", dimension,
+                String.valueOf(dimensionValue), count, amount);
+    }
+}
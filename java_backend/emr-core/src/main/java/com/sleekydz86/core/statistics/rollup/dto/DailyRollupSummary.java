@@ -0,0 +1,59 @@
+package com.sleekydz86.core.statistics.rollup.dto;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// 기간 내 집계를 차원 값별로 합친 결과 (기관 구분 없이 합산)
+public class DailyRollupSummary {
+
+    public static final String ALL = "ALL";
+
+    private final Map<String, Map<String, long[]>> dimensions = new HashMap<>();
+
+    public static DailyRollupSummary of(Collection<DailyRollupRecord> records) {
+        DailyRollupSummary summary = new DailyRollupSummary();
+        for (DailyRollupRecord record : records) {
+            long[] totals = summary.dimensions
+                    .computeIfAbsent(record.dimension(), key -> new LinkedHashMap<>())
+                    .computeIfAbsent(record.dimensionValue(), key -> new long[2]);
+            totals[0] += record.count() != null ? record.count() : 0L;
+            totals[1] += record.amount() != null ? record.amount() : 0L;
+        }
+        return summary;
+    }
+
+    public long count(String dimension, String value) {
+        long[] totals = dimensions.getOrDefault(dimension, Map.of()).get(value);
+        return totals != null ? totals[0] : 0L;
+    }
+
+    public long amount(String dimension, String value) {
+        long[] totals = dimensions.getOrDefault(dimension, Map.of()).get(value);
+        return totals != null ? totals[1] : 0L;
+    }
+
+    // 한 차원의 값을 모두 더한 건수 (각 차원은 같은 원본을 나눈 것이므로 전체 건수와 같음)
+    public long totalCount(String dimension) {
+        return dimensions.getOrDefault(dimension, Map.of()).values().stream()
+                .mapToLong(totals -> totals[0])
+                .sum();
+    }
+
+    public <K> Map<K, Long> counts(String dimension, Function<String, K> keyMapper) {
+        return collect(dimension, keyMapper, 0);
+    }
+
+    public <K> Map<K, Long> amounts(String dimension, Function<String, K> keyMapper) {
+        return collect(dimension, keyMapper, 1);
+    }
+
+    private <K> Map<K, Long> collect(String dimension, Function<String, K> keyMapper, int index) {
+        Map<K, Long> result = new LinkedHashMap<>();
+        dimensions.getOrDefault(dimension, Map.of())
+                .forEach((value, totals) -> result.merge(keyMapper.apply(value), totals[index], Long::sum));
+        return result;
+    }
+}
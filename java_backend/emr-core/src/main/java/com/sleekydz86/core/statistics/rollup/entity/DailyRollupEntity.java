@@ -0,0 +1,73 @@
+package com.sleekydz86.core.statistics.rollup.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 지표(metric)별 하루, 기관, 차원 값 단위의 집계. 기간 통계는 원본 대신 이 행들을 합산
+@Entity
+@Table(name = "daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_rollup_key",
+                columnNames = {"metric", "statDate", "tenantId", "dimension", "dimensionValue"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String metric;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    // 기관 코드가 없는 데이터는 빈 문자열 (유니크 키에 NULL 이 들어가지 않도록)
+    @Column(nullable = false, length = 10)
+    private String tenantId;
+
+    @Column(nullable = false, length = 40)
+    private String dimension;
+
+    @Column(nullable = false, length = 100)
+    private String dimensionValue;
+
+    @Column(nullable = false)
+    private long itemCount;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(nullable = false)
+    private LocalDateTime aggregatedAt;
+
+    @Builder
+    private DailyRollupEntity(String metric, LocalDate statDate, String tenantId, String dimension,
+                              String dimensionValue, long itemCount, long amount) {
+        this.metric = metric;
+        this.statDate = statDate;
+        this.tenantId = tenantId != null ? tenantId : "";
+        this.dimension = dimension;
+        this.dimensionValue = dimensionValue;
+        this.itemCount = itemCount;
+        this.amount = amount;
+        this.aggregatedAt = LocalDateTime.now();
+    }
+
+    public void updateTotals(long itemCount, long amount) {
+        this.itemCount = itemCount;
+        this.amount = amount;
+        this.aggregatedAt = LocalDateTime.now();
+    }
+
+    public List<String> key() {
+        return List.of(tenantId, dimension, dimensionValue);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sleekydz86.core.statistics.rollup.repository;
+
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import com.sleekydz86.core.statistics.rollup.entity.DailyRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyRollupRepository extends JpaRepository<DailyRollupEntity, Long> {
+
+    @Query("SELECT new com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord(" +
+            "r.tenantId, r.dimension, r.dimensionValue, SUM(r.itemCount), SUM(r.amount)) " +
+            "FROM DailyRollupEntity r " +
+            "WHERE r.metric = :metric AND r.statDate BETWEEN :start AND :end AND r.dimension <> :marker " +
+            "AND (:tenantId IS NULL OR r.tenantId = :tenantId) " +
+            "GROUP BY r.tenantId, r.dimension, r.dimensionValue")
+    List<DailyRollupRecord> sumByDimension(@Param("metric") String metric,
+                                           @Param("tenantId") String tenantId,
+                                           @Param("start") LocalDate start,
+                                           @Param("end") LocalDate end,
+                                           @Param("marker") String marker);
+
+    // 집계가 끝난 날짜 (하루에 표시 행 하나)
+    @Query("SELECT r.statDate FROM DailyRollupEntity r " +
+            "WHERE r.metric = :metric AND r.dimension = :marker AND r.statDate BETWEEN :start AND :end")
+    List<LocalDate> findAggregatedDates(@Param("metric") String metric,
+                                        @Param("start") LocalDate start,
+                                        @Param("end") LocalDate end,
+                                        @Param("marker") String marker);
+
+    List<DailyRollupEntity> findByMetricAndStatDateOrderById(String metric, LocalDate statDate);
+}
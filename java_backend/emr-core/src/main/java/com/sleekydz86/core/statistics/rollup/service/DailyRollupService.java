@@ -0,0 +1,252 @@
+package com.sleekydz86.core.statistics.rollup.service;
+
+import com.sleekydz86.core.common.exception.custom.BusinessException;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.entity.DailyRollupEntity;
+import com.sleekydz86.core.statistics.rollup.repository.DailyRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 마감된 날짜는 daily_rollup 에서 합산하고 오늘은 원본에서 바로 집계.
+// 지난 날짜의 데이터가 바뀌면(이벤트) 그 날짜만 다시 집계하고, 매일 밤 최근 며칠을 다시 맞춤.
+// 집계가 없는 날짜는 조회 시 먼저 집계한 뒤 합산 (조회 기간은 max-range-days 로 제한)
+@Service
+@Slf4j
+public class DailyRollupService {
+
+    // 집계가 끝난 날짜 표시용 차원 (데이터가 없는 날도 다시 집계하지 않도록)
+    private static final String AGGREGATED_MARKER = "*";
+
+    private final DailyRollupRepository dailyRollupRepository;
+    private final ObjectProvider<DailyRollupSource> sourceProvider;
+    private final TransactionTemplate writeTransaction;
+    private final Set<DirtyDay> dirtyDays = ConcurrentHashMap.newKeySet();
+    private final int reconcileDays;
+    private final int backfillDays;
+    private final int maxRangeDays;
+    private volatile Map<String, DailyRollupSource> sources;
+
+    public DailyRollupService(DailyRollupRepository dailyRollupRepository,
+                              ObjectProvider<DailyRollupSource> sourceProvider,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${statistics.rollup.reconcile-days:7}") int reconcileDays,
+                              @Value("${statistics.rollup.backfill-days:366}") int backfillDays,
+                              @Value("${statistics.rollup.max-range-days:366}") int maxRangeDays) {
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.sourceProvider = sourceProvider;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconcileDays = reconcileDays;
+        this.backfillDays = backfillDays;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    public DailyRollupSummary summarize(String metric, LocalDate startDate, LocalDate endDate) {
+        return summarize(metric, null, startDate, endDate);
+    }
+
+    // tenantId 가 null 이면 전체 기관 합산
+    public DailyRollupSummary summarize(String metric, String tenantId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        DailyRollupSource source = source(metric);
+        LocalDate today = LocalDate.now();
+        LocalDate closedEnd = endDate.isBefore(today) ? endDate : today.minusDays(1);
+
+        List<DailyRollupRecord> records = new ArrayList<>();
+        if (!closedEnd.isBefore(startDate)) {
+            aggregateMissingDays(source, startDate, closedEnd);
+            records.addAll(dailyRollupRepository.sumByDimension(metric, tenantId, startDate, closedEnd,
+                    AGGREGATED_MARKER));
+        }
+        if (!today.isBefore(startDate) && !today.isAfter(endDate)) {
+            source.aggregate(today).stream()
+                    .filter(record -> tenantId == null || tenantId.equals(record.tenantId()))
+                    .forEach(records::add);
+        }
+        return DailyRollupSummary.of(records);
+    }
+
+    // 지난 날짜의 원본이 바뀌었을 때 호출. 오늘 데이터는 조회 시 바로 집계하므로 기록하지 않음
+    public void markDirty(String metric, LocalDate date) {
+        if (date != null && date.isBefore(LocalDate.now())) {
+            dirtyDays.add(new DirtyDay(metric, date));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.rollup.flush-interval:60000}")
+    public void flushDirtyDays() {
+        for (DirtyDay dirtyDay : List.copyOf(dirtyDays)) {
+            dirtyDays.remove(dirtyDay);
+            try {
+                aggregateDay(source(dirtyDay.metric()), dirtyDay.date());
+            } catch (Exception e) {
+                log.error("일일 집계 갱신 실패: {} {}", dirtyDay.metric(), dirtyDay.date(), e);
+            }
+        }
+    }
+
+    // 이벤트가 없는 변경(삭제, 퇴근 시간 수정 등)까지 반영하도록 최근 날짜를 원본 기준으로 다시 집계하고
+    // 도입 이전 기간 등 아직 집계되지 않은 날짜를 채움
+    public int reconcile() {
+        LocalDate today = LocalDate.now();
+        int aggregated = 0;
+        for (DailyRollupSource source : sources().values()) {
+            for (int daysAgo = reconcileDays; daysAgo >= 1; daysAgo--) {
+                if (aggregateQuietly(source, today.minusDays(daysAgo))) {
+                    aggregated++;
+                }
+            }
+            LocalDate backfillEnd = today.minusDays(reconcileDays + 1L);
+            for (LocalDate date : findMissingDays(source, today.minusDays(backfillDays), backfillEnd)) {
+                if (aggregateQuietly(source, date)) {
+                    aggregated++;
+                }
+            }
+        }
+        return aggregated;
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new BusinessException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxRangeDays) {
+            throw new BusinessException("조회 기간은 최대 " + maxRangeDays + "일까지 가능합니다.");
+        }
+    }
+
+    // 처음 조회하는 기간(도입 이전 데이터 등)은 빠진 날짜를 먼저 집계해 합산 결과에 누락이 없도록 함.
+    // 집계에 실패하면 일부만 합산한 값을 돌려주지 않고 예외를 그대로 전달
+    private void aggregateMissingDays(DailyRollupSource source, LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> missing = findMissingDays(source, startDate, endDate);
+        if (!missing.isEmpty()) {
+            log.info("일일 집계 누락 날짜 집계: {} {}일", source.metric(), missing.size());
+            missing.forEach(date -> aggregateDay(source, date));
+        }
+    }
+
+    private List<LocalDate> findMissingDays(DailyRollupSource source, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return List.of();
+        }
+        Set<LocalDate> aggregated = new HashSet<>(dailyRollupRepository.findAggregatedDates(
+                source.metric(), startDate, endDate, AGGREGATED_MARKER));
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!aggregated.contains(date)) {
+                missing.add(date);
+            }
+        }
+        return missing;
+    }
+
+    private boolean aggregateQuietly(DailyRollupSource source, LocalDate date) {
+        try {
+            aggregateDay(source, date);
+            return true;
+        } catch (Exception e) {
+            log.error("일일 집계 재계산 실패: {} {}", source.metric(), date, e);
+            return false;
+        }
+    }
+
+    // 기존 행은 값만 갱신하고 새 차원 값만 추가 (날짜 단위 DELETE 후 INSERT 는 동시 집계 시 범위 잠금으로 교착될 수 있음)
+    private void aggregateDay(DailyRollupSource source, LocalDate date) {
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                List<DailyRollupEntity> rows = toEntities(source.metric(), date, source.aggregate(date));
+                Map<List<String>, DailyRollupEntity> existing = new LinkedHashMap<>();
+                dailyRollupRepository.findByMetricAndStatDateOrderById(source.metric(), date)
+                        .forEach(row -> existing.put(row.key(), row));
+
+                List<DailyRollupEntity> inserts = new ArrayList<>();
+                for (DailyRollupEntity row : rows) {
+                    DailyRollupEntity current = existing.remove(row.key());
+                    if (current != null) {
+                        current.updateTotals(row.getItemCount(), row.getAmount());
+                    } else {
+                        inserts.add(row);
+                    }
+                }
+                dailyRollupRepository.saveAll(inserts);
+                // 원본에서 사라진 차원 값
+                if (!existing.isEmpty()) {
+                    dailyRollupRepository.deleteAllInBatch(existing.values());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이나 노드가 같은 날짜를 동시에 집계한 경우. 결과는 같으므로 무시
+            log.debug("일일 집계 동시 갱신: {} {}", source.metric(), date);
+        }
+    }
+
+    private List<DailyRollupEntity> toEntities(String metric, LocalDate date, List<DailyRollupRecord> records) {
+        Map<List<String>, long[]> merged = new LinkedHashMap<>();
+        for (DailyRollupRecord record : records) {
+            long[] totals = merged.computeIfAbsent(
+                    List.of(record.tenantId(), record.dimension(), record.dimensionValue()), key -> new long[2]);
+            totals[0] += record.count() != null ? record.count() : 0L;
+            totals[1] += record.amount() != null ? record.amount() : 0L;
+        }
+
+        List<DailyRollupEntity> rows = new ArrayList<>(merged.size() + 1);
+        merged.forEach((key, totals) -> rows.add(DailyRollupEntity.builder()
+                .metric(metric)
+                .statDate(date)
+                .tenantId(key.get(0))
+                .dimension(key.get(1))
+                .dimensionValue(key.get(2))
+                .itemCount(totals[0])
+                .amount(totals[1])
+                .build()));
+        rows.add(DailyRollupEntity.builder()
+                .metric(metric)
+                .statDate(date)
+                .tenantId("")
+                .dimension(AGGREGATED_MARKER)
+                .dimensionValue("")
+                .build());
+        return rows;
+    }
+
+    private DailyRollupSource source(String metric) {
+        DailyRollupSource source = sources().get(metric);
+        if (source == null) {
+            throw new IllegalArgumentException("등록되지 않은 집계 지표입니다: " + metric);
+        }
+        return source;
+    }
+
+    // 집계 소스가 이 서비스를 주입받아 이벤트를 전달하므로 처음 사용할 때 찾음
+    private Map<String, DailyRollupSource> sources() {
+        Map<String, DailyRollupSource> current = sources;
+        if (current == null) {
+            current = new LinkedHashMap<>();
+            for (DailyRollupSource source : sourceProvider.orderedStream().toList()) {
+                current.put(source.metric(), source);
+            }
+            sources = current;
+        }
+        return current;
+    }
+
+    private record DirtyDay(String metric, LocalDate date) {
+    }
+}
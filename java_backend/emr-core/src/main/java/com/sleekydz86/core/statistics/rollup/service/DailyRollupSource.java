@@ -0,0 +1,13 @@
+package com.sleekydz86.core.statistics.rollup.service;
+
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import java.time.LocalDate;
+import java.util.List;
+
+// 원본 테이블에서 하루치 집계를 계산하는 모듈별 구현. 같은 키의 값이 여러 번 나와도 합산됨
+public interface DailyRollupSource {
+
+    String metric();
+
+    List<DailyRollupRecord> aggregate(LocalDate date);
+}
@@ -0,0 +1,26 @@
+package com.sleekydz86.core.tenant;
+
+import org.springframework.core.task.TaskDecorator;
+import java.util.List;
+
+// 요청 스레드의 테넌트 정보를 @Async 작업 스레드(플랫폼/가상 스레드)로 복사
+public class TenantContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String tenantId = TenantContext.getTenantId();
+        List<String> tenantIds = TenantContext.getTenantIds();
+        boolean admin = TenantContext.isAdmin();
+
+        return () -> {
+            TenantContext.setTenantId(tenantId);
+            TenantContext.setTenantIds(tenantIds);
+            TenantContext.setAdmin(admin);
+            try {
+                runnable.run();
+            } finally {
+                TenantContext.clear();
+            }
+        };
+    }
+}
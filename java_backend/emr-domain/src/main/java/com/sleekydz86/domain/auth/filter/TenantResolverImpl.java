@@ -1,21 +1,97 @@
 package com.sleekydz86.domain.auth.filter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sleekydz86.core.event.domain.UserRoleChangedEvent;
 import com.sleekydz86.core.security.jwt.TenantResolver;
 import com.sleekydz86.domain.user.repository.UserInstitutionRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @Component
-@RequiredArgsConstructor
-public class TenantResolverImpl implements TenantResolver {
+@Slf4j
+public class TenantResolverImpl implements TenantResolver, MessageListener {
+
+    private static final String EVICT_CHANNEL = "tenant:membership:evict";
 
     private final UserInstitutionRepository userInstitutionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, List<String>> institutionCodeCache;
+
+    public TenantResolverImpl(UserInstitutionRepository userInstitutionRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${tenant.cache.max-size:10000}") long maxSize,
+                              @Value("${tenant.cache.ttl:300000}") long ttlMillis) {
+        this.userInstitutionRepository = userInstitutionRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.institutionCodeCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
 
     @Override
     public List<String> findInstitutionCodesByUserId(Long userId) {
-        return userInstitutionRepository.findInstitutionCodesByUserId(userId);
+        return institutionCodeCache.get(userId,
+                id -> List.copyOf(userInstitutionRepository.findInstitutionCodesByUserId(id)));
+    }
+
+    // 트랜잭션 중이면 커밋 이후에 한 번 더 무효화해서 커밋 전 조회로 다시 채워진 값을 제거
+    @Override
+    public void evictInstitutionCodes(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserRoleChanged(UserRoleChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        institutionCodeCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
     }
-}
 
+    private void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        institutionCodeCache.invalidate(userId);
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            log.error("소속 기관 캐시 무효화 메시지 발행 실패: userId={}", userId, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sleekydz86.domain.common.backfill;
+
+import com.sleekydz86.core.common.annotation.AuthRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/blind-index/backfill")
+@RequiredArgsConstructor
+public class BlindIndexBackfillController {
+
+    private final BlindIndexBackfillJob backfillJob;
+
+    @GetMapping
+    @AuthRole(roles = {"ADMIN"})
+    public ResponseEntity<BlindIndexBackfillStatus> getStatus() {
+        return ResponseEntity.ok(backfillJob.getStatus());
+    }
+
+    @PostMapping("/retry")
+    @AuthRole(roles = {"ADMIN"})
+    public ResponseEntity<Void> retry() {
+        backfillJob.resetFailures();
+        return ResponseEntity.noContent().build();
+    }
+}
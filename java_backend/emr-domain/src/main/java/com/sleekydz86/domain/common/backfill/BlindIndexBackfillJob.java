@@ -0,0 +1,119 @@
+package com.sleekydz86.domain.common.backfill;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class BlindIndexBackfillJob {
+
+    private final List<BlindIndexBackfillTarget> targets;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${encryption.blind-index.backfill-batch-size:500}")
+    private int batchSize;
+
+    // 연속으로 이 횟수만큼 실패한 대상은 자동 재시도를 멈추고 관리자 재실행을 기다림
+    @Value("${encryption.blind-index.backfill-max-failures:3}")
+    private int maxFailures;
+
+    private volatile boolean completed;
+    private final Map<String, BlindIndexBackfillStatus.Failure> failures = new ConcurrentHashMap<>();
+
+    public BlindIndexBackfillJob(List<BlindIndexBackfillTarget> targets,
+                                 TransactionTemplate transactionTemplate) {
+        this.targets = targets;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backfill();
+    }
+
+    // 롤링 배포 중 이전 버전 인스턴스가 저장한 행도 채우도록 채울 행이 없을 때까지 주기적으로 다시 확인
+    @Scheduled(fixedDelayString = "${encryption.blind-index.backfill-interval:600000}",
+            initialDelayString = "${encryption.blind-index.backfill-interval:600000}")
+    public synchronized void backfill() {
+        if (completed) {
+            return;
+        }
+
+        boolean remaining = false;
+        for (BlindIndexBackfillTarget target : targets) {
+            remaining |= backfill(target) != 0;
+        }
+        if (!remaining) {
+            completed = true;
+            log.info("블라인드 인덱스 백필 완료");
+        }
+    }
+
+    public BlindIndexBackfillStatus getStatus() {
+        return new BlindIndexBackfillStatus(completed, List.copyOf(failures.values()));
+    }
+
+    // 중복 데이터를 정리한 뒤 호출하면 다음 주기에 중단된 대상까지 다시 백필
+    public void resetFailures() {
+        failures.clear();
+        completed = false;
+    }
+
+    // 채운 행 수를 반환 (실패 또는 중단 상태면 -1)
+    private long backfill(BlindIndexBackfillTarget target) {
+        BlindIndexBackfillStatus.Failure failure = failures.get(target.name());
+        if (failure != null && failure.attempts() >= maxFailures) {
+            return -1;
+        }
+
+        long filled = 0;
+        Long after = 0L;
+        while (true) {
+            Long from = after;
+            List<Long> ids;
+            try {
+                ids = transactionTemplate.execute(status -> target.backfill(from, batchSize));
+            } catch (Exception e) {
+                // 기존 데이터에 중복 값이 있으면 유니크 제약에 걸리므로 다음 주기에 다시 시도하고 나머지 대상은 계속 진행
+                recordFailure(target, from, e);
+                return -1;
+            }
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            filled += ids.size();
+            after = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        failures.remove(target.name());
+        if (filled > 0) {
+            log.info("블라인드 인덱스 백필: {} {}건", target.name(), filled);
+        }
+        return filled;
+    }
+
+    private void recordFailure(BlindIndexBackfillTarget target, Long afterId, Exception e) {
+        BlindIndexBackfillStatus.Failure failure = failures.merge(target.name(),
+                new BlindIndexBackfillStatus.Failure(target.name(), afterId, 1,
+                        e.getClass().getSimpleName() + ": " + e.getMessage(), LocalDateTime.now()),
+                (previous, latest) -> new BlindIndexBackfillStatus.Failure(latest.target(), latest.afterId(),
+                        previous.attempts() + 1, latest.error(), latest.failedAt()));
+        if (failure.attempts() >= maxFailures) {
+            log.error("블라인드 인덱스 백필 중단: {} (ID {} 이후, {}회 연속 실패). 중복 데이터를 정리한 뒤 "
+                    + "/api/admin/blind-index/backfill/retry 로 다시 실행해주세요.", target.name(), afterId, failure.attempts(), e);
+        } else {
+            log.error("블라인드 인덱스 백필 실패: {} (ID {} 이후, {}회)", target.name(), afterId, failure.attempts(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sleekydz86.domain.common.backfill;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BlindIndexBackfillStatus(
+        boolean completed,
+        List<Failure> failures
+) {
+    public record Failure(
+            String target,
+            Long afterId,
+            int attempts,
+            String error,
+            LocalDateTime failedAt
+    ) {
+    }
+}
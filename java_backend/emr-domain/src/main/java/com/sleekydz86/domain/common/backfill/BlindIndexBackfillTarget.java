@@ -0,0 +1,12 @@
+package com.sleekydz86.domain.common.backfill;
+
+import java.util.List;
+
+// 블라인드 인덱스 컬럼 추가 전에 저장되어 인덱스가 비어 있는 행을 채우는 대상 테이블
+public interface BlindIndexBackfillTarget {
+
+    String name();
+
+    // afterId 다음 행부터 최대 batchSize 건의 인덱스를 채우고 처리한 행의 ID 를 순서대로 반환
+    List<Long> backfill(Long afterId, int batchSize);
+}
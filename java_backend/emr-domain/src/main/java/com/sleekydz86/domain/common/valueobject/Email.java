@@ -1,5 +1,6 @@
 package com.sleekydz86.domain.common.valueobject;
 
+import com.sleekydz86.core.security.encryption.BlindIndexService;
 import com.sleekydz86.core.security.encryption.EncryptedStringConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -19,21 +20,49 @@ public class Email {
 
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
             "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final String INDEX_PURPOSE = "email";
 
     @Column(name = "email", length = 500)
     @Convert(converter = EncryptedStringConverter.class)
     private String value;
 
+    // 암호문은 매번 달라지므로 동등 비교와 유니크 제약은 블라인드 인덱스로 처리
+    @Column(name = "email_bidx", length = 64)
+    private String blindIndex;
+
     private Email(String value) {
         validate(value);
         this.value = value;
+        this.blindIndex = BlindIndexService.current().index(INDEX_PURPOSE, value);
     }
 
     public static Email of(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("이메일은 필수입니다.");
         }
-        return new Email(value.trim().toLowerCase());
+        return new Email(normalize(value));
+    }
+
+    public static String blindIndexOf(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return BlindIndexService.current().index(INDEX_PURPOSE, normalize(value));
+    }
+
+    // 블라인드 인덱스 도입 전에 저장된 값은 인덱스가 비어 있으므로 복호화된 값으로 다시 계산 (백필용)
+    public Email withBlindIndex() {
+        if (blindIndex != null || value == null) {
+            return this;
+        }
+        Email filled = new Email();
+        filled.value = value;
+        filled.blindIndex = blindIndexOf(value);
+        return filled;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase();
     }
 
     private void validate(String value) {
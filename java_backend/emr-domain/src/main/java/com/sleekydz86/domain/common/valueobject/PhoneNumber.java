@@ -1,5 +1,6 @@
 package com.sleekydz86.domain.common.valueobject;
 
+import com.sleekydz86.core.security.encryption.BlindIndexService;
 import com.sleekydz86.core.security.encryption.EncryptedStringConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -19,14 +20,20 @@ public class PhoneNumber {
     private static final Pattern PHONE_PATTERN = Pattern.compile(
             "^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$|^0[2-9]-?[0-9]{3,4}-?[0-9]{4}$"
     );
+    private static final String INDEX_PURPOSE = "phone";
 
     @Column(name = "phone_number", length = 500)
     @Convert(converter = EncryptedStringConverter.class)
     private String value;
 
+    // 암호문은 매번 달라지므로 동등 비교와 유니크 제약은 블라인드 인덱스로 처리
+    @Column(name = "phone_number_bidx", length = 64)
+    private String blindIndex;
+
     private PhoneNumber(String value) {
         validate(value);
         this.value = normalize(value);
+        this.blindIndex = BlindIndexService.current().index(INDEX_PURPOSE, this.value);
     }
 
     public static PhoneNumber of(String value) {
@@ -36,6 +43,24 @@ public class PhoneNumber {
         return new PhoneNumber(value);
     }
 
+    public static String blindIndexOf(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return BlindIndexService.current().index(INDEX_PURPOSE, normalize(value));
+    }
+
+    // 블라인드 인덱스 도입 전에 저장된 값은 인덱스가 비어 있으므로 복호화된 값으로 다시 계산 (백필용)
+    public PhoneNumber withBlindIndex() {
+        if (blindIndex != null || value == null) {
+            return this;
+        }
+        PhoneNumber filled = new PhoneNumber();
+        filled.value = value;
+        filled.blindIndex = blindIndexOf(value);
+        return filled;
+    }
+
     private void validate(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("전화번호는 필수입니다.");
@@ -49,7 +74,7 @@ public class PhoneNumber {
         }
     }
 
-    private String normalize(String value) {
+    private static String normalize(String value) {
         return value.replaceAll("[^0-9]", "");
     }
 
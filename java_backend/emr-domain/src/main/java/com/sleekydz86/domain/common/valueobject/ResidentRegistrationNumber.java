@@ -1,5 +1,6 @@
 package com.sleekydz86.domain.common.valueobject;
 
+import com.sleekydz86.core.security.encryption.BlindIndexService;
 import com.sleekydz86.core.security.encryption.EncryptedStringConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -17,14 +18,20 @@ import java.util.regex.Pattern;
 public class ResidentRegistrationNumber {
 
     private static final Pattern RRN_PATTERN = Pattern.compile("^\\d{6}-\\d{7}$");
+    private static final String INDEX_PURPOSE = "rrn";
 
-    @Column(name = "rrn", length = 500, unique = true)
+    @Column(name = "rrn", length = 500)
     @Convert(converter = EncryptedStringConverter.class)
     private String value;
 
+    // 암호문은 매번 달라지므로 동등 비교와 유니크 제약은 블라인드 인덱스로 처리
+    @Column(name = "rrn_bidx", length = 64, unique = true)
+    private String blindIndex;
+
     private ResidentRegistrationNumber(String value) {
         validate(value);
         this.value = normalize(value);
+        this.blindIndex = BlindIndexService.current().index(INDEX_PURPOSE, this.value);
     }
 
     public static ResidentRegistrationNumber of(String value) {
@@ -34,6 +41,24 @@ public class ResidentRegistrationNumber {
         return new ResidentRegistrationNumber(value);
     }
 
+    public static String blindIndexOf(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return BlindIndexService.current().index(INDEX_PURPOSE, normalize(value));
+    }
+
+    // 블라인드 인덱스 도입 전에 저장된 값은 인덱스가 비어 있으므로 복호화된 값으로 다시 계산 (백필용)
+    public ResidentRegistrationNumber withBlindIndex() {
+        if (blindIndex != null || value == null) {
+            return this;
+        }
+        ResidentRegistrationNumber filled = new ResidentRegistrationNumber();
+        filled.value = value;
+        filled.blindIndex = blindIndexOf(value);
+        return filled;
+    }
+
     private void validate(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("주민등록번호는 필수입니다.");
@@ -44,7 +69,7 @@ public class ResidentRegistrationNumber {
         }
     }
 
-    private String normalize(String value) {
+    private static String normalize(String value) {
         return value.replaceAll("[^0-9-]", "").replaceAll("(\\d{6})(\\d{7})", "$1-$2");
     }
 
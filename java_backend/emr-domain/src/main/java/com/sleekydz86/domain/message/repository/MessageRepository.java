@@ -3,7 +3,10 @@ package com.sleekydz86.domain.message.repository;
 import com.sleekydz86.domain.common.repository.BaseRepository;
 import com.sleekydz86.domain.message.entity.MessageEntity;
 import com.sleekydz86.domain.message.type.MessageStatus;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,5 +28,16 @@ public interface MessageRepository extends BaseRepository<MessageEntity, Long> {
     List<MessageEntity> findByReceiver_IdAndStatus(Long receiverId, MessageStatus status);
 
     List<MessageEntity> findBySender_IdOrReceiver_Id(Long userId1, Long userId2);
+
+    // [기관, 보낸 사람, 받는 사람, 상태, 건수]
+    @Query("SELECT m.inttCd, m.sender.id, m.receiver.id, m.status, COUNT(m) FROM Message m " +
+            "WHERE m.sentAt >= :start AND m.sentAt < :end AND m.status <> :excluded " +
+            "GROUP BY m.inttCd, m.sender.id, m.receiver.id, m.status")
+    List<Object[]> countBySenderAndReceiver(@Param("start") LocalDateTime start,
+                                            @Param("end") LocalDateTime end,
+                                            @Param("excluded") MessageStatus excluded);
+
+    @Query("SELECT m.sentAt FROM Message m WHERE m.messageId = :messageId")
+    Optional<LocalDateTime> findSentAtByMessageId(@Param("messageId") Long messageId);
 }
 
@@ -0,0 +1,71 @@
+package com.sleekydz86.domain.message.service;
+
+import com.sleekydz86.core.event.domain.MessageReadEvent;
+import com.sleekydz86.core.event.domain.MessageSentEvent;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupSource;
+import com.sleekydz86.domain.message.repository.MessageRepository;
+import com.sleekydz86.domain.message.type.MessageStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 삭제된 메시지는 제외하고 보낸 날짜 기준으로 집계
+@Component
+@RequiredArgsConstructor
+public class MessageRollupSource implements DailyRollupSource {
+
+    public static final String METRIC = "message";
+    public static final String TOTAL = "total";
+    public static final String READ = "read";
+    public static final String SENDER = "sender";
+    public static final String RECEIVER = "receiver";
+
+    private final MessageRepository messageRepository;
+    private final DailyRollupService dailyRollupService;
+
+    @Override
+    public String metric() {
+        return METRIC;
+    }
+
+    @Override
+    public List<DailyRollupRecord> aggregate(LocalDate date) {
+        List<Object[]> rows = messageRepository.countBySenderAndReceiver(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), MessageStatus.DELETED);
+        List<DailyRollupRecord> records = new ArrayList<>(rows.size() * 4);
+        for (Object[] row : rows) {
+            String tenantId = (String) row[0];
+            long count = (Long) row[4];
+            records.add(DailyRollupRecord.of(tenantId, TOTAL, DailyRollupSummary.ALL, count));
+            records.add(DailyRollupRecord.of(tenantId, SENDER, row[1], count));
+            records.add(DailyRollupRecord.of(tenantId, RECEIVER, row[2], count));
+            if (row[3] == MessageStatus.READ) {
+                records.add(DailyRollupRecord.of(tenantId, READ, DailyRollupSummary.ALL, count));
+            }
+        }
+        return records;
+    }
+
+    @EventListener
+    public void handleMessageSent(MessageSentEvent event) {
+        markDirty(event.sentAt());
+    }
+
+    @EventListener
+    public void handleMessageRead(MessageReadEvent event) {
+        messageRepository.findSentAtByMessageId(event.messageId()).ifPresent(this::markDirty);
+    }
+
+    private void markDirty(LocalDateTime sentAt) {
+        if (sentAt != null) {
+            dailyRollupService.markDirty(METRIC, sentAt.toLocalDate());
+        }
+    }
+}
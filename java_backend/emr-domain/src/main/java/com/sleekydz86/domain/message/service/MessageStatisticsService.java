@@ -1,5 +1,7 @@
 package com.sleekydz86.domain.message.service;
 
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
 import com.sleekydz86.core.tenant.TenantContext;
 import com.sleekydz86.domain.message.dto.MessageStatisticsResponse;
 import com.sleekydz86.domain.message.entity.MessageEntity;
@@ -11,8 +13,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,43 +26,21 @@ public class MessageStatisticsService {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final DailyRollupService dailyRollupService;
 
     public MessageStatisticsResponse getDailyStatistics(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = date.atTime(23, 59, 59);
-
-        List<MessageEntity> messages = messageRepository.findAll().stream()
-                .filter(msg -> !msg.getSentAt().isBefore(start) && !msg.getSentAt().isAfter(end))
-                .filter(msg -> !msg.isDeleted())
-                .collect(Collectors.toList());
-
-        return buildStatisticsResponse(messages, date, null, null, null);
+        return buildStatisticsResponse(tallyOf(date, date), date, null, null, null);
     }
 
     public MessageStatisticsResponse getWeeklyStatistics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
-
-        List<MessageEntity> messages = messageRepository.findAll().stream()
-                .filter(msg -> !msg.getSentAt().isBefore(start) && !msg.getSentAt().isAfter(end))
-                .filter(msg -> !msg.isDeleted())
-                .collect(Collectors.toList());
-
-        return buildStatisticsResponse(messages, null, startDate, endDate, null);
+        return buildStatisticsResponse(tallyOf(startDate, endDate), null, startDate, endDate, null);
     }
 
     public MessageStatisticsResponse getMonthlyStatistics(int year, int month) {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
-
-        List<MessageEntity> messages = messageRepository.findAll().stream()
-                .filter(msg -> !msg.getSentAt().isBefore(start) && !msg.getSentAt().isAfter(end))
-                .filter(msg -> !msg.isDeleted())
-                .collect(Collectors.toList());
 
-        return buildStatisticsResponse(messages, null, startDate, endDate, null);
+        return buildStatisticsResponse(tallyOf(startDate, endDate), null, startDate, endDate, null);
     }
 
     public MessageStatisticsResponse getUserStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
@@ -81,7 +63,7 @@ public class MessageStatisticsService {
         List<MessageEntity> allMessages = new java.util.ArrayList<>(sentMessages);
         allMessages.addAll(receivedMessages);
 
-        return buildStatisticsResponse(allMessages, null,
+        return buildStatisticsResponse(tallyOf(allMessages, userId), null,
                 startDate != null ? startDate : start.toLocalDate(),
                 endDate != null ? endDate : end.toLocalDate(),
                 userId);
@@ -92,25 +74,26 @@ public class MessageStatisticsService {
             throw new IllegalArgumentException("관리자만 전체 통계를 조회할 수 있습니다.");
         }
 
-        LocalDateTime start = startDate != null ? startDate.atStartOfDay() : LocalDateTime.now().minusMonths(1);
-        LocalDateTime end = endDate != null ? endDate.atTime(23, 59, 59) : LocalDateTime.now();
+        LocalDate start = startDate != null ? startDate : LocalDate.now().minusMonths(1);
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
 
-        List<MessageEntity> messages = messageRepository.findAll().stream()
-                .filter(msg -> !msg.getSentAt().isBefore(start) && !msg.getSentAt().isAfter(end))
-                .filter(msg -> !msg.isDeleted())
-                .collect(Collectors.toList());
-
-        return buildStatisticsResponse(messages, null,
-                startDate != null ? startDate : start.toLocalDate(),
-                endDate != null ? endDate : end.toLocalDate(),
-                null);
+        return buildStatisticsResponse(tallyOf(start, end), null, start, end, null);
     }
 
-    private MessageStatisticsResponse buildStatisticsResponse(
-            List<MessageEntity> messages, LocalDate date,
-            LocalDate startDate, LocalDate endDate, Long userId) {
+    // 전체 통계는 일일 집계를 합산
+    private MessageTally tallyOf(LocalDate startDate, LocalDate endDate) {
+        DailyRollupSummary summary = dailyRollupService.summarize(MessageRollupSource.METRIC, startDate, endDate);
+        long totalMessages = summary.count(MessageRollupSource.TOTAL, DailyRollupSummary.ALL);
+        return new MessageTally(
+                totalMessages,
+                totalMessages,
+                totalMessages,
+                summary.count(MessageRollupSource.READ, DailyRollupSummary.ALL),
+                summary.counts(MessageRollupSource.SENDER, Long::valueOf),
+                summary.counts(MessageRollupSource.RECEIVER, Long::valueOf));
+    }
 
-        long totalMessages = messages.size();
+    private MessageTally tallyOf(List<MessageEntity> messages, Long userId) {
         long totalSent = messages.stream()
                 .filter(msg -> userId == null || msg.getSender().getId().equals(userId))
                 .count();
@@ -120,15 +103,6 @@ public class MessageStatisticsService {
         long totalRead = messages.stream()
                 .filter(MessageEntity::isRead)
                 .count();
-        long totalUnread = totalMessages - totalRead;
-
-        long uniqueUsers = messages.stream()
-                .flatMap(msg -> java.util.stream.Stream.of(msg.getSender().getId(), msg.getReceiver().getId()))
-                .distinct()
-                .count();
-        long avgMessagesPerUser = uniqueUsers > 0 ? totalMessages / uniqueUsers : 0;
-
-        long avgReadRate = totalMessages > 0 ? (totalRead * 100) / totalMessages : 0;
 
         Map<Long, Long> senderCounts = messages.stream()
                 .collect(Collectors.groupingBy(
@@ -142,6 +116,26 @@ public class MessageStatisticsService {
                         Collectors.counting()
                 ));
 
+        return new MessageTally(messages.size(), totalSent, totalReceived, totalRead, senderCounts, receiverCounts);
+    }
+
+    private MessageStatisticsResponse buildStatisticsResponse(
+            MessageTally tally, LocalDate date,
+            LocalDate startDate, LocalDate endDate, Long userId) {
+
+        long totalMessages = tally.totalMessages();
+        long totalRead = tally.totalRead();
+        long totalUnread = totalMessages - totalRead;
+
+        Map<Long, Long> senderCounts = tally.senderCounts();
+        Map<Long, Long> receiverCounts = tally.receiverCounts();
+
+        Set<Long> uniqueUsers = new HashSet<>(senderCounts.keySet());
+        uniqueUsers.addAll(receiverCounts.keySet());
+        long avgMessagesPerUser = !uniqueUsers.isEmpty() ? totalMessages / uniqueUsers.size() : 0;
+
+        long avgReadRate = totalMessages > 0 ? (totalRead * 100) / totalMessages : 0;
+
         Long mostActiveSenderId = senderCounts.entrySet().stream()
                 .max(Map.Entry.comparingByValue())
                 .map(Map.Entry::getKey)
@@ -178,8 +172,8 @@ public class MessageStatisticsService {
                 .userId(userId)
                 .userName(userName)
                 .totalMessages(totalMessages)
-                .totalSent(totalSent)
-                .totalReceived(totalReceived)
+                .totalSent(tally.totalSent())
+                .totalReceived(tally.totalReceived())
                 .totalRead(totalRead)
                 .totalUnread(totalUnread)
                 .averageMessagesPerUser(avgMessagesPerUser)
@@ -190,5 +184,14 @@ public class MessageStatisticsService {
                 .mostActiveReceiverName(mostActiveReceiverName)
                 .build();
     }
-}
 
+    private record MessageTally(
+            long totalMessages,
+            long totalSent,
+            long totalReceived,
+            long totalRead,
+            Map<Long, Long> senderCounts,
+            Map<Long, Long> receiverCounts
+    ) {
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.context.annotation.Primary;
 @Configuration
 public class PatientNumberGeneratorConfig {
 
-    @Value("${patient.number.generation.strategy:MAX_VALUE}")
+    @Value("${patient.number.generation.strategy:SEQUENCE}")
     private String strategy;
 
     @Bean
@@ -20,7 +20,7 @@ public class PatientNumberGeneratorConfig {
         return switch (strategy.toUpperCase()) {
             case "SEQUENCE" -> sequenceBasedGenerator;
             case "MAX_VALUE" -> maxValueBasedGenerator;
-            default -> maxValueBasedGenerator;
+            default -> sequenceBasedGenerator;
         };
     }
 }
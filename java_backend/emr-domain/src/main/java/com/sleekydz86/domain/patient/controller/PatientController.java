@@ -3,6 +3,7 @@ package com.sleekydz86.domain.patient.controller;
 import com.sleekydz86.core.common.annotation.AuthRole;
 import com.sleekydz86.domain.patient.dto.*;
 import com.sleekydz86.domain.patient.entity.PatientEntity;
+import com.sleekydz86.domain.patient.service.PatientSearchService;
 import com.sleekydz86.domain.patient.service.PatientService;
 import com.sleekydz86.domain.user.type.RoleType;
 import jakarta.validation.Valid;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class PatientController {
 
     private final PatientService patientService;
+    private final PatientSearchService patientSearchService;
 
     @PostMapping("/register")
     @AuthRole(roles = {"DOCTOR", "NURSE", "ADMIN"})
@@ -41,6 +43,14 @@ public class PatientController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/search/quick")
+    public ResponseEntity<PatientSearchPageResponse> quickSearch(
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(patientSearchService.quickSearch(query, cursor, size));
+    }
+
     @PostMapping("/search/advanced")
     public ResponseEntity<List<PatientSearchResponse>> searchPatients(
             @Valid @RequestBody PatientSearchRequest request) {
@@ -90,8 +100,9 @@ public class PatientController {
 
     @GetMapping("/recent")
     public ResponseEntity<List<PatientListResponse>> getRecentPatients(
-            @RequestParam(defaultValue = "7") int days) {
-        List<PatientEntity> patients = patientService.getRecentPatients(days);
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "100") int size) {
+        List<PatientEntity> patients = patientService.getRecentPatients(days, size);
         List<PatientListResponse> response = patients.stream()
                 .map(PatientListResponse::from)
                 .collect(Collectors.toList());
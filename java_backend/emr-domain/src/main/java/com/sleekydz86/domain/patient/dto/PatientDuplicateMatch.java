@@ -0,0 +1,23 @@
+package com.sleekydz86.domain.patient.dto;
+
+import com.sleekydz86.domain.patient.type.DuplicateReason;
+import java.util.Set;
+
+// patientNo: 이미 등록된 환자와 겹치는 경우, batchIndex: 같은 일괄 등록 요청 안의 앞선 항목과 겹치는 경우
+public record PatientDuplicateMatch(
+        Long patientNo,
+        Integer batchIndex,
+        Set<DuplicateReason> reasons
+) {
+    public static PatientDuplicateMatch registered(Long patientNo, Set<DuplicateReason> reasons) {
+        return new PatientDuplicateMatch(patientNo, null, Set.copyOf(reasons));
+    }
+
+    public static PatientDuplicateMatch inBatch(int batchIndex, Set<DuplicateReason> reasons) {
+        return new PatientDuplicateMatch(null, batchIndex, Set.copyOf(reasons));
+    }
+
+    public boolean hasReason(DuplicateReason reason) {
+        return reasons.contains(reason);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sleekydz86.domain.patient.dto;
+
+import com.sleekydz86.domain.patient.type.DuplicateReason;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+// 환자 식별자 블라인드 인덱스 조회 결과 (엔티티와 암호문을 읽지 않음)
+public record PatientIdentifierIndex(
+        Long patientNo,
+        String rrnIndex,
+        String emailIndex,
+        String telIndex
+) {
+    public boolean isEmpty() {
+        return rrnIndex == null && emailIndex == null && telIndex == null;
+    }
+
+    public Set<DuplicateReason> matchReasons(PatientIdentifierIndex other) {
+        Set<DuplicateReason> reasons = EnumSet.noneOf(DuplicateReason.class);
+        if (rrnIndex != null && Objects.equals(rrnIndex, other.rrnIndex)) {
+            reasons.add(DuplicateReason.RRN);
+        }
+        if (emailIndex != null && Objects.equals(emailIndex, other.emailIndex)) {
+            reasons.add(DuplicateReason.EMAIL);
+        }
+        if (telIndex != null && Objects.equals(telIndex, other.telIndex)) {
+            reasons.add(DuplicateReason.TEL);
+        }
+        return reasons;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sleekydz86.domain.patient.dto;
+
+import com.sleekydz86.domain.common.valueobject.Email;
+import com.sleekydz86.domain.common.valueobject.PhoneNumber;
+import com.sleekydz86.domain.common.valueobject.ResidentRegistrationNumber;
+
+// 중복 검사 대상 식별자. 값은 평문으로 받아 블라인드 인덱스로 변환해 조회
+public record PatientIdentity(
+        String patientRrn,
+        String patientEmail,
+        String patientTel
+) {
+    public static PatientIdentity of(String patientRrn, String patientEmail, String patientTel) {
+        return new PatientIdentity(patientRrn, patientEmail, patientTel);
+    }
+
+    public PatientIdentifierIndex toIndex() {
+        return new PatientIdentifierIndex(
+                null,
+                ResidentRegistrationNumber.blindIndexOf(patientRrn),
+                Email.blindIndexOf(patientEmail),
+                PhoneNumber.blindIndexOf(patientTel)
+        );
+    }
+}
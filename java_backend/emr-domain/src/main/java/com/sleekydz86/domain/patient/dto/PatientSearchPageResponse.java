@@ -0,0 +1,10 @@
+package com.sleekydz86.domain.patient.dto;
+
+import java.util.List;
+
+// nextCursor 가 null 이면 마지막 페이지
+public record PatientSearchPageResponse(
+        List<PatientSearchResponse> content,
+        String nextCursor
+) {
+}
@@ -30,7 +30,10 @@ public class PatientEntity extends BaseEntity {
     private String patientName;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "patient_rrn", nullable = false, unique = true, length = 14))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "patient_rrn", nullable = false, length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "patient_rrn_bidx", length = 64, unique = true))
+    })
     private ResidentRegistrationNumber patientRrn;
 
     @Column(name = "patient_gender", nullable = false)
@@ -46,11 +49,17 @@ public class PatientEntity extends BaseEntity {
     private String patientAddress;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "patient_email", nullable = false, unique = true, length = 100))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "patient_email", nullable = false, length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "patient_email_bidx", length = 64, unique = true))
+    })
     private Email patientEmail;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "patient_tel", nullable = false, unique = true, length = 20))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "patient_tel", nullable = false, length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "patient_tel_bidx", length = 64, unique = true))
+    })
     private PhoneNumber patientTel;
 
     @Column(name = "patient_foreign", nullable = false, length = 1)
@@ -119,6 +128,19 @@ public class PatientEntity extends BaseEntity {
         }
     }
 
+    // 블라인드 인덱스 컬럼 추가 전에 등록된 환자의 인덱스를 채움
+    public void fillBlindIndexes() {
+        if (patientRrn != null) {
+            this.patientRrn = patientRrn.withBlindIndex();
+        }
+        if (patientEmail != null) {
+            this.patientEmail = patientEmail.withBlindIndex();
+        }
+        if (patientTel != null) {
+            this.patientTel = patientTel.withBlindIndex();
+        }
+    }
+
     public void changeEmail(Email newEmail) {
         if (newEmail == null) {
             throw new IllegalArgumentException("이메일은 필수입니다.");
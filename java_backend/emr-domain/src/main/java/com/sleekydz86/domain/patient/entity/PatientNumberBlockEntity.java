@@ -0,0 +1,48 @@
+package com.sleekydz86.domain.patient.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// 노드별로 환자 번호 구간을 예약하기 위한 카운터 행 (hi/lo 방식)
+@Entity
+@Table(name = "patient_number_block")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PatientNumberBlockEntity {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 아직 어떤 노드에도 할당되지 않은 첫 번호
+    @Column(nullable = false)
+    private long nextValue;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static PatientNumberBlockEntity startingAt(String name, long nextValue) {
+        PatientNumberBlockEntity entity = new PatientNumberBlockEntity();
+        entity.name = name;
+        entity.nextValue = nextValue;
+        entity.updatedAt = LocalDateTime.now();
+        return entity;
+    }
+
+    // [시작, 끝) 구간을 예약하고 시작 번호를 반환
+    public long reserve(long size, long maxValue) {
+        long start = nextValue;
+        if (start > maxValue) {
+            throw new IllegalStateException("환자 번호 생성 한도에 도달했습니다.");
+        }
+        nextValue = Math.min(start + size, maxValue + 1);
+        updatedAt = LocalDateTime.now();
+        return start;
+    }
+}
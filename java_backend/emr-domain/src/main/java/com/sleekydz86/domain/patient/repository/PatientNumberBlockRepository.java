@@ -0,0 +1,17 @@
+package com.sleekydz86.domain.patient.repository;
+
+import com.sleekydz86.domain.patient.entity.PatientNumberBlockEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+
+public interface PatientNumberBlockRepository extends JpaRepository<PatientNumberBlockEntity, String> {
+
+    // 구간 예약 시에만 잠시 잠금 (번호 하나마다가 아니라 구간 하나마다 한 번)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM PatientNumberBlockEntity b WHERE b.name = :name")
+    Optional<PatientNumberBlockEntity> findForUpdate(@Param("name") String name);
+}
@@ -1,5 +1,9 @@
 package com.sleekydz86.domain.patient.repository;
 
+import com.sleekydz86.domain.common.valueobject.Email;
+import com.sleekydz86.domain.common.valueobject.PhoneNumber;
+import com.sleekydz86.domain.common.valueobject.ResidentRegistrationNumber;
+import com.sleekydz86.domain.patient.dto.PatientIdentifierIndex;
 import com.sleekydz86.domain.patient.entity.PatientEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,6 +11,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,40 +27,109 @@ public interface PatientRepository extends JpaRepository<PatientEntity, Long> {
 
     Page<PatientEntity> findByPatientNameContaining(String name, Pageable pageable);
 
-    @Query("SELECT p FROM Patient p WHERE p.patientRrn.value = :patientRrn")
-    Optional<PatientEntity> findByPatientRrn(@Param("patientRrn") String patientRrn);
+    // 식별자 컬럼은 랜덤 IV 로 암호화되므로 HMAC 블라인드 인덱스 컬럼으로 조회
+    @Query("SELECT p FROM Patient p WHERE p.patientRrn.blindIndex = :index")
+    Optional<PatientEntity> findByPatientRrnIndex(@Param("index") String index);
 
-    @Query("SELECT COUNT(p) > 0 FROM Patient p WHERE p.patientRrn.value = :patientRrn")
-    boolean existsByPatientRrn(@Param("patientRrn") String patientRrn);
+    @Query("SELECT COUNT(p) > 0 FROM Patient p WHERE p.patientRrn.blindIndex = :index")
+    boolean existsByPatientRrnIndex(@Param("index") String index);
 
-    @Query("SELECT p FROM Patient p WHERE p.patientEmail.value = :email")
-    Optional<PatientEntity> findByPatientEmail(@Param("email") String email);
+    @Query("SELECT p FROM Patient p WHERE p.patientEmail.blindIndex = :index")
+    Optional<PatientEntity> findByPatientEmailIndex(@Param("index") String index);
 
-    @Query("SELECT COUNT(p) > 0 FROM Patient p WHERE p.patientEmail.value = :email")
-    boolean existsByPatientEmail(@Param("email") String email);
+    @Query("SELECT COUNT(p) > 0 FROM Patient p WHERE p.patientEmail.blindIndex = :index")
+    boolean existsByPatientEmailIndex(@Param("index") String index);
 
-    @Query("SELECT p FROM Patient p WHERE p.patientTel.value = :tel")
-    Optional<PatientEntity> findByPatientTel(@Param("tel") String tel);
+    @Query("SELECT p FROM Patient p WHERE p.patientTel.blindIndex = :index")
+    Optional<PatientEntity> findByPatientTelIndex(@Param("index") String index);
 
-    @Query("SELECT COUNT(p) > 0 FROM Patient p WHERE p.patientTel.value = :tel")
-    boolean existsByPatientTel(@Param("tel") String tel);
+    @Query("SELECT COUNT(p) > 0 FROM Patient p WHERE p.patientTel.blindIndex = :index")
+    boolean existsByPatientTelIndex(@Param("index") String index);
 
-    List<PatientEntity> findAllByOrderByPatientLastVisitDesc();
+    // 세 식별자를 한 번에 조회. 값이 없는 식별자는 일치하지 않는 값("")을 넘김
+    @Query("SELECT p FROM Patient p WHERE " +
+            "p.patientRrn.blindIndex = :rrnIndex OR " +
+            "p.patientEmail.blindIndex = :emailIndex OR " +
+            "p.patientTel.blindIndex = :telIndex")
+    List<PatientEntity> findByAnyIdentifierIndex(
+            @Param("rrnIndex") String rrnIndex,
+            @Param("emailIndex") String emailIndex,
+            @Param("telIndex") String telIndex
+    );
+
+    @Query("SELECT new com.sleekydz86.domain.patient.dto.PatientIdentifierIndex(" +
+            "p.patientNo.value, p.patientRrn.blindIndex, p.patientEmail.blindIndex, p.patientTel.blindIndex) " +
+            "FROM Patient p WHERE " +
+            "p.patientRrn.blindIndex IN :rrnIndexes OR " +
+            "p.patientEmail.blindIndex IN :emailIndexes OR " +
+            "p.patientTel.blindIndex IN :telIndexes")
+    List<PatientIdentifierIndex> findIdentifierMatches(
+            @Param("rrnIndexes") Collection<String> rrnIndexes,
+            @Param("emailIndexes") Collection<String> emailIndexes,
+            @Param("telIndexes") Collection<String> telIndexes
+    );
+
+    default Optional<PatientEntity> findByPatientRrn(String patientRrn) {
+        return findByPatientRrnIndex(ResidentRegistrationNumber.blindIndexOf(patientRrn));
+    }
+
+    default boolean existsByPatientRrn(String patientRrn) {
+        return existsByPatientRrnIndex(ResidentRegistrationNumber.blindIndexOf(patientRrn));
+    }
+
+    default Optional<PatientEntity> findByPatientEmail(String email) {
+        return findByPatientEmailIndex(Email.blindIndexOf(email));
+    }
+
+    default boolean existsByPatientEmail(String email) {
+        return existsByPatientEmailIndex(Email.blindIndexOf(email));
+    }
+
+    default Optional<PatientEntity> findByPatientTel(String tel) {
+        return findByPatientTelIndex(PhoneNumber.blindIndexOf(tel));
+    }
+
+    default boolean existsByPatientTel(String tel) {
+        return existsByPatientTelIndex(PhoneNumber.blindIndexOf(tel));
+    }
+
+    List<PatientEntity> findAllByOrderByPatientLastVisitDesc(Pageable pageable);
 
     @Query("SELECT p FROM Patient p WHERE " +
             "(:name IS NULL OR p.patientName LIKE %:name%) AND " +
-            "(:tel IS NULL OR p.patientTel.value LIKE %:tel%) AND " +
-            "(:email IS NULL OR p.patientEmail.value LIKE %:email%)")
-    List<PatientEntity> searchPatients(
+            "(:telIndex IS NULL OR p.patientTel.blindIndex = :telIndex) AND " +
+            "(:emailIndex IS NULL OR p.patientEmail.blindIndex = :emailIndex)")
+    List<PatientEntity> searchPatientsByIndex(
             @Param("name") String name,
-            @Param("tel") String tel,
-            @Param("email") String email
+            @Param("telIndex") String telIndex,
+            @Param("emailIndex") String emailIndex,
+            Pageable pageable
     );
 
-    @Query("SELECT p FROM Patient p WHERE p.patientLastVisit >= :since")
-    List<PatientEntity> findRecentPatients(@Param("since") LocalDate since);
+    // 암호화된 전화번호/이메일은 부분 일치 검색이 불가능하므로 완전 일치로만 검색
+    default List<PatientEntity> searchPatients(String name, String tel, String email, Pageable pageable) {
+        return searchPatientsByIndex(name, PhoneNumber.blindIndexOf(tel), Email.blindIndexOf(email), pageable);
+    }
+
+    @Query("SELECT p FROM Patient p WHERE p.patientLastVisit >= :since ORDER BY p.patientLastVisit DESC")
+    List<PatientEntity> findRecentPatients(@Param("since") LocalDate since, Pageable pageable);
+
+    // 검색 색인 적재용 (환자 번호 키셋)
+    @Query("SELECT p FROM Patient p WHERE p.patientNo.value > :after ORDER BY p.patientNo.value")
+    List<PatientEntity> findIndexBatch(@Param("after") Long after, Pageable pageable);
+
+    List<PatientEntity> findByPatientNameStartingWith(String prefix, Pageable pageable);
+
+    // 블라인드 인덱스 백필 대상 (값은 있으나 인덱스가 비어 있는 행)
+    @Query("SELECT p FROM Patient p WHERE p.patientNo.value > :after AND (" +
+            "(p.patientRrn.value IS NOT NULL AND p.patientRrn.blindIndex IS NULL) OR " +
+            "(p.patientEmail.value IS NOT NULL AND p.patientEmail.blindIndex IS NULL) OR " +
+            "(p.patientTel.value IS NOT NULL AND p.patientTel.blindIndex IS NULL)) " +
+            "ORDER BY p.patientNo.value")
+    List<PatientEntity> findBlindIndexMissing(@Param("after") Long after, Pageable pageable);
 
-    @Query("SELECT p FROM Patient p ORDER BY p.patientNo.value DESC")
-    Optional<PatientEntity> findTopByOrderByPatientNoDesc();
+    // 인덱스(PK)만 읽는 집계 쿼리
+    @Query("SELECT MAX(p.patientNo.value) FROM Patient p")
+    Long findMaxPatientNoValue();
 }
 
@@ -0,0 +1,305 @@
+package com.sleekydz86.domain.patient.search;
+
+import com.sleekydz86.domain.patient.dto.PatientSearchPageResponse;
+import com.sleekydz86.domain.patient.dto.PatientSearchResponse;
+import com.sleekydz86.domain.patient.entity.PatientEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 환자 이름(자모/초성), 전화번호, 이메일의 n-gram 역색인. 암호화된 컬럼 대신 메모리에서 부분 일치 검색
+@Component
+public class PatientSearchIndex {
+
+    private static final int NAME_GRAM = 2;
+    private static final int EMAIL_GRAM = 3;
+    private static final int TEL_GRAM = 4;
+
+    private static final int SCORE_EXACT = 3;
+    private static final int SCORE_PREFIX = 2;
+    private static final int SCORE_PARTIAL = 1;
+
+    // 점수 높은 순, 최근 방문 순, 환자 번호 역순 (키셋 커서도 같은 순서를 사용)
+    private static final Comparator<Hit> ORDER = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(Hit::lastVisitKey, Comparator.reverseOrder())
+            .thenComparing(hit -> hit.patient().patientNo(), Comparator.reverseOrder());
+
+    private final Map<Long, IndexedPatient> patients = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        return patients.size();
+    }
+
+    // 쓰기는 드물기 때문에 직렬화하고, 검색은 잠금 없이 수행
+    public synchronized void put(PatientEntity entity) {
+        IndexedPatient patient = IndexedPatient.from(entity);
+        IndexedPatient previous = patients.put(patient.patientNo(), patient);
+        if (previous != null) {
+            unlink(previous);
+        }
+        link(patient);
+    }
+
+    synchronized void putIfAbsent(PatientEntity entity) {
+        if (patients.containsKey(entity.getPatientNoValue())) {
+            return;
+        }
+        IndexedPatient patient = IndexedPatient.from(entity);
+        patients.put(patient.patientNo(), patient);
+        link(patient);
+    }
+
+    public synchronized void remove(Long patientNo) {
+        IndexedPatient previous = patients.remove(patientNo);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    public PatientSearchPageResponse search(String query, String cursor, int size) {
+        Query parsed = Query.parse(query);
+        if (parsed == null) {
+            return new PatientSearchPageResponse(List.of(), null);
+        }
+
+        Cursor after = Cursor.decode(cursor);
+        PriorityQueue<Hit> top = new PriorityQueue<>(size + 1, ORDER.reversed());
+        for (Long patientNo : candidates(parsed.grams())) {
+            IndexedPatient patient = patients.get(patientNo);
+            if (patient == null) {
+                continue;
+            }
+            int score = parsed.score(patient);
+            if (score == 0) {
+                continue;
+            }
+            Hit hit = new Hit(patient, score);
+            if (after != null && ORDER.compare(hit, after.toHit()) <= 0) {
+                continue;
+            }
+            top.offer(hit);
+            if (top.size() > size + 1) {
+                top.poll();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(ORDER);
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+        List<PatientSearchResponse> content = hits.stream()
+                .map(hit -> hit.patient().toResponse())
+                .toList();
+        String nextCursor = hasNext ? Cursor.of(hits.get(hits.size() - 1)).encode() : null;
+        return new PatientSearchPageResponse(content, nextCursor);
+    }
+
+    // 가장 짧은 포스팅 목록부터 교집합
+    private Set<Long> candidates(List<String> grams) {
+        List<Set<Long>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new LinkedHashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void link(IndexedPatient patient) {
+        for (String gram : patient.grams()) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(patient.patientNo());
+        }
+    }
+
+    private void unlink(IndexedPatient patient) {
+        for (String gram : patient.grams()) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(patient.patientNo());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Set<String> grams(String prefix, String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.isEmpty()) {
+            return grams;
+        }
+        // 한 글자 검색어용 첫 글자 키
+        grams.add(prefix + "^" + text.charAt(0));
+        if (text.length() < n) {
+            grams.add(prefix + text);
+            return grams;
+        }
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(prefix + text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private static String digitsOf(String text) {
+        return text == null ? "" : text.replaceAll("[^0-9]", "");
+    }
+
+    private record IndexedPatient(
+            Long patientNo,
+            String patientName,
+            String patientTel,
+            String patientEmail,
+            LocalDate patientLastVisit,
+            String nameKey,
+            String initialsKey,
+            String telKey,
+            String emailKey,
+            Set<String> grams
+    ) {
+        static IndexedPatient from(PatientEntity entity) {
+            String nameKey = HangulNormalizer.decompose(entity.getPatientName());
+            String initialsKey = HangulNormalizer.initials(entity.getPatientName());
+            String telKey = digitsOf(entity.getPatientTelValue());
+            String emailKey = entity.getPatientEmailValue() == null ? "" : entity.getPatientEmailValue().toLowerCase();
+
+            Set<String> grams = new LinkedHashSet<>();
+            grams.addAll(PatientSearchIndex.grams("n:", nameKey, NAME_GRAM));
+            grams.addAll(PatientSearchIndex.grams("c:", initialsKey, NAME_GRAM));
+            grams.addAll(PatientSearchIndex.grams("t:", telKey, TEL_GRAM));
+            grams.addAll(PatientSearchIndex.grams("e:", emailKey, EMAIL_GRAM));
+
+            return new IndexedPatient(entity.getPatientNoValue(), entity.getPatientName(),
+                    entity.getPatientTelValue(), entity.getPatientEmailValue(), entity.getPatientLastVisit(),
+                    nameKey, initialsKey, telKey, emailKey, Set.copyOf(grams));
+        }
+
+        PatientSearchResponse toResponse() {
+            return PatientSearchResponse.builder()
+                    .patientNo(patientNo)
+                    .patientName(patientName)
+                    .patientTel(patientTel)
+                    .patientEmail(patientEmail)
+                    .patientLastVisit(patientLastVisit)
+                    .build();
+        }
+    }
+
+    private enum Field { NAME, INITIALS, TEL, EMAIL }
+
+    private record Query(Field field, String key, List<String> grams) {
+
+        static Query parse(String raw) {
+            if (raw == null || raw.isBlank()) {
+                return null;
+            }
+            String text = raw.strip();
+            if (text.indexOf('@') >= 0) {
+                return of(Field.EMAIL, "e:", text.toLowerCase(), EMAIL_GRAM);
+            }
+            if (text.matches("[0-9\\-\\s]+")) {
+                String digits = digitsOf(text);
+                // 짧은 숫자는 후보가 너무 많아 색인을 쓰는 의미가 없으므로 4자리부터 검색
+                return digits.length() < TEL_GRAM ? null : of(Field.TEL, "t:", digits, TEL_GRAM);
+            }
+            if (HangulNormalizer.isInitialsOnly(text)) {
+                return of(Field.INITIALS, "c:", HangulNormalizer.initials(text), NAME_GRAM);
+            }
+            return of(Field.NAME, "n:", HangulNormalizer.decompose(text), NAME_GRAM);
+        }
+
+        private static Query of(Field field, String prefix, String key, int n) {
+            if (key.isEmpty()) {
+                return null;
+            }
+            // 색인된 n-gram 중 검색어에서 만들 수 있는 것만 사용 (첫 글자 키는 한 글자 검색어에만 사용)
+            List<String> grams = key.length() == 1
+                    ? List.of(prefix + "^" + key)
+                    : PatientSearchIndex.grams(prefix, key, n).stream()
+                    .filter(gram -> gram.charAt(prefix.length()) != '^')
+                    .toList();
+            return new Query(field, key, grams);
+        }
+
+        int score(IndexedPatient patient) {
+            String target = switch (field) {
+                case NAME -> patient.nameKey();
+                case INITIALS -> patient.initialsKey();
+                case TEL -> patient.telKey();
+                case EMAIL -> patient.emailKey();
+            };
+            if (target.equals(key)) {
+                return SCORE_EXACT;
+            }
+            // 전화번호는 뒷자리로 찾는 경우가 많아 접미 일치를 접두 일치와 같게 취급
+            if (target.startsWith(key) || (field == Field.TEL && target.endsWith(key))) {
+                return SCORE_PREFIX;
+            }
+            return target.contains(key) ? SCORE_PARTIAL : 0;
+        }
+    }
+
+    private record Hit(IndexedPatient patient, int score) {
+
+        long lastVisitKey() {
+            return patient.patientLastVisit() == null ? Long.MIN_VALUE : patient.patientLastVisit().toEpochDay();
+        }
+    }
+
+    // 마지막으로 반환한 결과의 (점수, 최근 방문일, 환자 번호)
+    private record Cursor(int score, long lastVisitKey, long patientNo) {
+
+        static Cursor of(Hit hit) {
+            return new Cursor(hit.score(), hit.lastVisitKey(), hit.patient().patientNo());
+        }
+
+        static Cursor decode(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(":");
+                return new Cursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("검색 커서 형식이 올바르지 않습니다.");
+            }
+        }
+
+        String encode() {
+            String raw = score + ":" + lastVisitKey + ":" + patientNo;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Hit toHit() {
+            LocalDate lastVisit = lastVisitKey == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(lastVisitKey);
+            IndexedPatient marker = new IndexedPatient(patientNo, null, null, null, lastVisit,
+                    "", "", "", "", Set.of());
+            return new Hit(marker, score);
+        }
+    }
+}
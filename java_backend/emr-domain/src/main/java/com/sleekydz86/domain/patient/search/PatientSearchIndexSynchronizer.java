@@ -0,0 +1,159 @@
+package com.sleekydz86.domain.patient.search;
+
+import com.sleekydz86.core.event.domain.PatientDeletedEvent;
+import com.sleekydz86.core.event.domain.PatientRegisteredEvent;
+import com.sleekydz86.core.event.domain.PatientUpdatedEvent;
+import com.sleekydz86.domain.patient.entity.PatientEntity;
+import com.sleekydz86.domain.patient.repository.PatientRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+// 기동 시 전체 환자로 색인을 만들고, 이후에는 환자 이벤트와 Redis 메시지로 노드 간 색인을 맞춤
+@Component
+@Slf4j
+public class PatientSearchIndexSynchronizer implements MessageListener {
+
+    private static final String REINDEX_CHANNEL = "patient:search:reindex";
+    private static final String REMOVE_MARK = "-";
+
+    private final PatientSearchIndex patientSearchIndex;
+    private final PatientRepository patientRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final int batchSize;
+
+    public PatientSearchIndexSynchronizer(PatientSearchIndex patientSearchIndex,
+                                          PatientRepository patientRepository,
+                                          RedisTemplate<String, String> redisTemplate,
+                                          RedisMessageListenerContainer listenerContainer,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${patient.search.index.enabled:true}") boolean enabled,
+                                          @Value("${patient.search.index.batch-size:1000}") int batchSize) {
+        this.patientSearchIndex = patientSearchIndex;
+        this.patientRepository = patientRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(REINDEX_CHANNEL));
+        }
+    }
+
+    // 기동을 막지 않도록 별도 스레드에서 환자 번호 순으로 나눠 적재. 적재 전에는 검색이 DB 조회로 대체됨
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofPlatform().name("patient-search-index").daemon(true).start(() -> {
+            long started = System.currentTimeMillis();
+            try {
+                Long after = 0L;
+                while (after != null) {
+                    after = loadBatch(after);
+                }
+                patientSearchIndex.markReady();
+                log.info("환자 검색 색인 적재 완료: {}명, {}ms",
+                        patientSearchIndex.size(), System.currentTimeMillis() - started);
+            } catch (Exception e) {
+                log.error("환자 검색 색인 적재 실패", e);
+            }
+        });
+    }
+
+    private Long loadBatch(Long after) {
+        return readOnlyTransaction.execute(status -> {
+            List<PatientEntity> batch = patientRepository.findIndexBatch(after, PageRequest.of(0, batchSize));
+            // 적재 중에 이벤트로 먼저 반영된 환자는 더 최신 값이므로 덮어쓰지 않음
+            batch.forEach(patientSearchIndex::putIfAbsent);
+            return batch.size() < batchSize ? null : batch.get(batch.size() - 1).getPatientNoValue();
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePatientRegistered(PatientRegisteredEvent event) {
+        refresh(event.getPatientNo());
+        broadcast(event.getPatientNo().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePatientUpdated(PatientUpdatedEvent event) {
+        refresh(event.getPatientNo());
+        broadcast(event.getPatientNo().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePatientDeleted(PatientDeletedEvent event) {
+        patientSearchIndex.remove(event.getPatientNo());
+        broadcast(REMOVE_MARK + event.getPatientNo());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+        if (parts.length != 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            if (parts[1].startsWith(REMOVE_MARK)) {
+                patientSearchIndex.remove(Long.valueOf(parts[1].substring(REMOVE_MARK.length())));
+            } else {
+                refresh(Long.valueOf(parts[1]));
+            }
+        } catch (Exception e) {
+            log.error("환자 검색 색인 동기화 실패: {}", parts[1], e);
+        }
+    }
+
+    private void refresh(Long patientNo) {
+        if (!enabled || patientNo == null) {
+            return;
+        }
+        PatientEntity patient = readOnlyTransaction.execute(status ->
+                patientRepository.findByPatientNo(patientNo).orElse(null));
+        if (patient == null) {
+            patientSearchIndex.remove(patientNo);
+        } else {
+            patientSearchIndex.put(patient);
+        }
+    }
+
+    private void broadcast(String payload) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(REINDEX_CHANNEL, nodeId + ":" + payload);
+        } catch (Exception e) {
+            log.error("환자 검색 색인 동기화 메시지 발행 실패: {}", payload, e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sleekydz86.domain.patient.service;
+
+import com.sleekydz86.domain.common.backfill.BlindIndexBackfillTarget;
+import com.sleekydz86.domain.patient.dto.PatientIdentifierIndex;
+import com.sleekydz86.domain.patient.dto.PatientIdentity;
+import com.sleekydz86.domain.patient.entity.PatientEntity;
+import com.sleekydz86.domain.patient.repository.PatientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PatientBlindIndexBackfill implements BlindIndexBackfillTarget {
+
+    private final PatientRepository patientRepository;
+
+    @Value("${encryption.blind-index.backfill-batch-size:500}")
+    private int scanBatchSize;
+
+    // 백필이 실패해 인덱스 없는 행이 많이 남아 있어도 등록/수정 요청마다 복호화하는 행 수 상한
+    @Value("${encryption.blind-index.fallback-scan-limit:1000}")
+    private int fallbackScanLimit;
+
+    // 백필이 끝나기 전까지는 인덱스가 비어 있는 환자를 중복 검사에서 놓치지 않도록 복호화한 값으로 비교
+    private volatile boolean pending = true;
+
+    @Override
+    public String name() {
+        return "patient";
+    }
+
+    @Override
+    public List<Long> backfill(Long afterId, int batchSize) {
+        List<PatientEntity> batch = patientRepository.findBlindIndexMissing(afterId, PageRequest.of(0, batchSize));
+        if (batch.isEmpty() && afterId == 0L) {
+            pending = false;
+        }
+        batch.forEach(PatientEntity::fillBlindIndexes);
+        return batch.stream()
+                .map(patient -> patient.getPatientNo().getValue())
+                .toList();
+    }
+
+    public List<PatientIdentifierIndex> findPendingMatches(PatientIdentifierIndex index) {
+        return findPendingMatches(nullableSet(index.rrnIndex()), nullableSet(index.emailIndex()), nullableSet(index.telIndex()));
+    }
+
+    // 인덱스가 비어 있는 환자 중 주어진 블라인드 인덱스와 겹치는 환자 (백필 완료 후에는 조회하지 않음)
+    public List<PatientIdentifierIndex> findPendingMatches(Collection<String> rrnIndexes,
+                                                          Collection<String> emailIndexes,
+                                                          Collection<String> telIndexes) {
+        if (!hasPending()) {
+            return List.of();
+        }
+
+        List<PatientIdentifierIndex> matches = new ArrayList<>();
+        Long after = 0L;
+        int scanned = 0;
+        while (scanned < fallbackScanLimit) {
+            int size = Math.min(scanBatchSize, fallbackScanLimit - scanned);
+            List<PatientEntity> batch = patientRepository.findBlindIndexMissing(after, PageRequest.of(0, size));
+            scanned += batch.size();
+            for (PatientEntity patient : batch) {
+                PatientIdentifierIndex row = indexOf(patient);
+                if (contains(rrnIndexes, row.rrnIndex())
+                        || contains(emailIndexes, row.emailIndex())
+                        || contains(telIndexes, row.telIndex())) {
+                    matches.add(row);
+                }
+            }
+            if (batch.size() < size) {
+                return matches;
+            }
+            after = batch.get(batch.size() - 1).getPatientNo().getValue();
+        }
+        log.warn("블라인드 인덱스가 없는 환자가 많아 중복 검사는 {}건까지만 확인했습니다. 백필 상태를 확인해주세요.",
+                fallbackScanLimit);
+        return matches;
+    }
+
+    // 인덱스 없는 행이 하나라도 남았는지 한 건만 조회해 확인하고, 없으면 이후 조회를 생략
+    private boolean hasPending() {
+        if (!pending) {
+            return false;
+        }
+        if (patientRepository.findBlindIndexMissing(0L, PageRequest.of(0, 1)).isEmpty()) {
+            pending = false;
+        }
+        return pending;
+    }
+
+    private PatientIdentifierIndex indexOf(PatientEntity patient) {
+        PatientIdentifierIndex index = PatientIdentity.of(
+                patient.getPatientRrn() != null ? patient.getPatientRrn().getValue() : null,
+                patient.getPatientEmail() != null ? patient.getPatientEmail().getValue() : null,
+                patient.getPatientTel() != null ? patient.getPatientTel().getValue() : null
+        ).toIndex();
+        return new PatientIdentifierIndex(patient.getPatientNo().getValue(),
+                index.rrnIndex(), index.emailIndex(), index.telIndex());
+    }
+
+    private boolean contains(Collection<String> indexes, String index) {
+        return index != null && indexes.contains(index);
+    }
+
+    private Set<String> nullableSet(String index) {
+        return index != null ? Set.of(index) : Set.of();
+    }
+}
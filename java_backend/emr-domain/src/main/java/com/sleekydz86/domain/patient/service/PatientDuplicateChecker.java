@@ -1,50 +1,240 @@
 package com.sleekydz86.domain.patient.service;
 
+import com.sleekydz86.domain.patient.dto.PatientDuplicateMatch;
+import com.sleekydz86.domain.patient.dto.PatientIdentifierIndex;
+import com.sleekydz86.domain.patient.dto.PatientIdentity;
 import com.sleekydz86.domain.patient.entity.PatientEntity;
 import com.sleekydz86.domain.patient.repository.PatientRepository;
+import com.sleekydz86.domain.patient.type.DuplicateReason;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PatientDuplicateChecker {
 
+    // 블라인드 인덱스는 빈 문자열이 될 수 없으므로 "조건 없음" 자리에 사용
+    private static final String NO_MATCH = "";
+    private static final int BATCH_CHUNK_SIZE = 500;
+
     private final PatientRepository patientRepository;
+    private final PatientBlindIndexBackfill blindIndexBackfill;
 
     public List<PatientEntity> checkDuplicateByRrn(String patientRrn) {
         return patientRepository.findByPatientRrn(patientRrn)
                 .map(List::of)
-                .orElse(List.of());
+                .orElseGet(() -> findPending(PatientIdentity.of(patientRrn, null, null)));
     }
 
     public List<PatientEntity> checkDuplicateByEmail(String email) {
         return patientRepository.findByPatientEmail(email)
                 .map(List::of)
-                .orElse(List.of());
+                .orElseGet(() -> findPending(PatientIdentity.of(null, email, null)));
     }
 
     public List<PatientEntity> checkDuplicateByTel(String tel) {
         return patientRepository.findByPatientTel(tel)
                 .map(List::of)
-                .orElse(List.of());
+                .orElseGet(() -> findPending(PatientIdentity.of(null, null, tel)));
     }
 
+    // 한 번의 조회로 가져온 뒤 주민등록번호 > 이메일 > 전화번호 순으로 먼저 일치한 환자를 반환
     public List<PatientEntity> checkDuplicate(String patientRrn, String email, String tel) {
+        PatientIdentifierIndex index = PatientIdentity.of(patientRrn, email, tel).toIndex();
+        if (index.isEmpty()) {
+            return List.of();
+        }
+
+        List<PatientEntity> candidates = patientRepository.findByAnyIdentifierIndex(
+                orNoMatch(index.rrnIndex()), orNoMatch(index.emailIndex()), orNoMatch(index.telIndex()));
+        List<PatientIdentifierIndex> pending = blindIndexBackfill.findPendingMatches(index);
 
-        if (patientRrn != null && patientRepository.existsByPatientRrn(patientRrn)) {
-            return checkDuplicateByRrn(patientRrn);
+        List<PatientEntity> byRrn = withPending(
+                filterByIndex(candidates, index.rrnIndex(), p -> p.getPatientRrn().getBlindIndex()),
+                pending, index, DuplicateReason.RRN);
+        if (!byRrn.isEmpty()) {
+            return byRrn;
         }
-        if (email != null && patientRepository.existsByPatientEmail(email)) {
-            return checkDuplicateByEmail(email);
+        List<PatientEntity> byEmail = withPending(
+                filterByIndex(candidates, index.emailIndex(), p -> p.getPatientEmail().getBlindIndex()),
+                pending, index, DuplicateReason.EMAIL);
+        if (!byEmail.isEmpty()) {
+            return byEmail;
         }
-        if (tel != null && patientRepository.existsByPatientTel(tel)) {
-            return checkDuplicateByTel(tel);
+        return withPending(
+                filterByIndex(candidates, index.telIndex(), p -> p.getPatientTel().getBlindIndex()),
+                pending, index, DuplicateReason.TEL);
+    }
+
+    // 이미 등록된 환자 중 식별자가 겹치는 환자와 겹친 항목
+    public List<PatientDuplicateMatch> findMatches(PatientIdentity identity) {
+        PatientIdentifierIndex index = identity.toIndex();
+        if (index.isEmpty()) {
+            return List.of();
+        }
+
+        // 백필 전 환자는 인덱스 일부가 비어 있으므로 복호화한 값으로 계산한 행으로 대체
+        Map<Long, PatientIdentifierIndex> rows = new LinkedHashMap<>();
+        patientRepository.findIdentifierMatches(
+                List.of(orNoMatch(index.rrnIndex())),
+                List.of(orNoMatch(index.emailIndex())),
+                List.of(orNoMatch(index.telIndex()))
+        ).forEach(row -> rows.put(row.patientNo(), row));
+        blindIndexBackfill.findPendingMatches(index).forEach(row -> rows.put(row.patientNo(), row));
+
+        List<PatientDuplicateMatch> matches = new ArrayList<>(rows.size());
+        for (PatientIdentifierIndex row : rows.values()) {
+            Set<DuplicateReason> reasons = index.matchReasons(row);
+            if (!reasons.isEmpty()) {
+                matches.add(PatientDuplicateMatch.registered(row.patientNo(), reasons));
+            }
+        }
+        return matches;
+    }
+
+    // 일괄 등록용. 요청 안의 앞선 항목과 겹치는 경우와 등록된 환자와 겹치는 경우를 함께 찾음
+    // 결과 키는 identities 의 인덱스이며 중복이 없는 항목은 포함하지 않음
+    public Map<Integer, List<PatientDuplicateMatch>> findMatches(List<PatientIdentity> identities) {
+        List<PatientIdentifierIndex> indexes = identities.stream()
+                .map(PatientIdentity::toIndex)
+                .toList();
+
+        Map<String, List<Integer>> byRrn = new HashMap<>();
+        Map<String, List<Integer>> byEmail = new HashMap<>();
+        Map<String, List<Integer>> byTel = new HashMap<>();
+        Map<Integer, Map<Object, Set<DuplicateReason>>> found = new TreeMap<>();
+
+        for (int i = 0; i < indexes.size(); i++) {
+            PatientIdentifierIndex index = indexes.get(i);
+            Set<Integer> earlier = new LinkedHashSet<>();
+            collect(byRrn, index.rrnIndex(), i, earlier);
+            collect(byEmail, index.emailIndex(), i, earlier);
+            collect(byTel, index.telIndex(), i, earlier);
+            for (Integer j : earlier) {
+                addReasons(found, i, j, index.matchReasons(indexes.get(j)));
+            }
+        }
+
+        List<String> rrnKeys = new ArrayList<>(byRrn.keySet());
+        List<String> emailKeys = new ArrayList<>(byEmail.keySet());
+        List<String> telKeys = new ArrayList<>(byTel.keySet());
+        int total = Math.max(rrnKeys.size(), Math.max(emailKeys.size(), telKeys.size()));
+
+        for (int from = 0; from < total; from += BATCH_CHUNK_SIZE) {
+            List<PatientIdentifierIndex> rows = patientRepository.findIdentifierMatches(
+                    chunk(rrnKeys, from), chunk(emailKeys, from), chunk(telKeys, from));
+            addRegisteredMatches(found, rows, indexes, byRrn, byEmail, byTel);
+        }
+        addRegisteredMatches(found, blindIndexBackfill.findPendingMatches(rrnKeys, emailKeys, telKeys),
+                indexes, byRrn, byEmail, byTel);
+
+        Map<Integer, List<PatientDuplicateMatch>> result = new LinkedHashMap<>();
+        found.forEach((i, byTarget) -> result.put(i, byTarget.entrySet().stream()
+                .map(entry -> entry.getKey() instanceof Long patientNo
+                        ? PatientDuplicateMatch.registered(patientNo, entry.getValue())
+                        : PatientDuplicateMatch.inBatch((Integer) entry.getKey(), entry.getValue()))
+                .toList()));
+        return result;
+    }
+
+    private void addRegisteredMatches(Map<Integer, Map<Object, Set<DuplicateReason>>> found,
+                                      List<PatientIdentifierIndex> rows,
+                                      List<PatientIdentifierIndex> indexes,
+                                      Map<String, List<Integer>> byRrn,
+                                      Map<String, List<Integer>> byEmail,
+                                      Map<String, List<Integer>> byTel) {
+        for (PatientIdentifierIndex row : rows) {
+            Set<Integer> candidates = new LinkedHashSet<>();
+            candidates.addAll(byRrn.getOrDefault(row.rrnIndex(), List.of()));
+            candidates.addAll(byEmail.getOrDefault(row.emailIndex(), List.of()));
+            candidates.addAll(byTel.getOrDefault(row.telIndex(), List.of()));
+            for (Integer i : candidates) {
+                addReasons(found, i, row.patientNo(), indexes.get(i).matchReasons(row));
+            }
         }
-        return List.of();
     }
-}
 
+    // 블라인드 인덱스 백필 전 환자 중 같은 항목이 일치하는 환자를 함께 반환
+    private List<PatientEntity> withPending(List<PatientEntity> matched, List<PatientIdentifierIndex> pending,
+                                            PatientIdentifierIndex index, DuplicateReason reason) {
+        if (pending.isEmpty()) {
+            return matched;
+        }
+        List<PatientEntity> result = new ArrayList<>(matched);
+        for (PatientIdentifierIndex row : pending) {
+            if (index.matchReasons(row).contains(reason)) {
+                patientRepository.findByPatientNo(row.patientNo())
+                        .filter(patient -> !result.contains(patient))
+                        .ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+
+    private List<PatientEntity> findPending(PatientIdentity identity) {
+        PatientIdentifierIndex index = identity.toIndex();
+        if (index.isEmpty()) {
+            return List.of();
+        }
+        return blindIndexBackfill.findPendingMatches(index).stream()
+                .map(row -> patientRepository.findByPatientNo(row.patientNo()))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private void collect(Map<String, List<Integer>> byIndex, String index, int position, Set<Integer> earlier) {
+        if (index == null) {
+            return;
+        }
+        List<Integer> positions = byIndex.computeIfAbsent(index, key -> new ArrayList<>(1));
+        earlier.addAll(positions);
+        positions.add(position);
+    }
+
+    // target: 등록된 환자 번호(Long) 또는 요청 안의 앞선 항목 위치(Integer)
+    private void addReasons(Map<Integer, Map<Object, Set<DuplicateReason>>> found, int position,
+                            Object target, Set<DuplicateReason> reasons) {
+        if (reasons.isEmpty()) {
+            return;
+        }
+        found.computeIfAbsent(position, key -> new LinkedHashMap<>())
+                .computeIfAbsent(target, key -> EnumSet.noneOf(DuplicateReason.class))
+                .addAll(reasons);
+    }
+
+    private List<String> chunk(List<String> keys, int from) {
+        if (from >= keys.size()) {
+            return List.of(NO_MATCH);
+        }
+        return keys.subList(from, Math.min(from + BATCH_CHUNK_SIZE, keys.size()));
+    }
+
+    private List<PatientEntity> filterByIndex(List<PatientEntity> candidates, String index,
+                                              Function<PatientEntity, String> extractor) {
+        if (index == null) {
+            return List.of();
+        }
+        return candidates.stream()
+                .filter(patient -> Objects.equals(index, extractor.apply(patient)))
+                .toList();
+    }
+
+    private String orNoMatch(String index) {
+        return index != null ? index : NO_MATCH;
+    }
+}
@@ -0,0 +1,41 @@
+package com.sleekydz86.domain.patient.service;
+
+import com.sleekydz86.domain.patient.dto.PatientSearchPageResponse;
+import com.sleekydz86.domain.patient.dto.PatientSearchResponse;
+import com.sleekydz86.domain.patient.repository.PatientRepository;
+import com.sleekydz86.domain.patient.search.PatientSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PatientSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PatientSearchIndex patientSearchIndex;
+    private final PatientRepository patientRepository;
+
+    // 이름(자모 단위 접두/부분 일치, 초성), 전화번호(4자리 이상), 이메일 부분 일치 검색
+    public PatientSearchPageResponse quickSearch(String query, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        if (patientSearchIndex.isReady()) {
+            return patientSearchIndex.search(query, cursor, pageSize);
+        }
+        // 색인 적재 전에는 이름 접두 일치만 DB 에서 제한된 건수로 조회
+        if (query == null || query.isBlank() || cursor != null) {
+            return new PatientSearchPageResponse(List.of(), null);
+        }
+        List<PatientSearchResponse> content = patientRepository
+                .findByPatientNameStartingWith(query.strip(), PageRequest.of(0, pageSize))
+                .stream()
+                .map(PatientSearchResponse::from)
+                .toList();
+        return new PatientSearchPageResponse(content, null);
+    }
+}
@@ -1,19 +1,25 @@
 package com.sleekydz86.domain.patient.service;
 
 import com.sleekydz86.core.common.exception.custom.NotFoundException;
+import com.sleekydz86.core.event.domain.PatientDeletedEvent;
 import com.sleekydz86.core.event.publisher.EventPublisher;
 import com.sleekydz86.domain.common.service.BaseService;
 import com.sleekydz86.domain.common.valueobject.Email;
 import com.sleekydz86.domain.common.valueobject.PatientNumber;
 import com.sleekydz86.domain.common.valueobject.PhoneNumber;
+import com.sleekydz86.domain.patient.dto.PatientDuplicateMatch;
+import com.sleekydz86.domain.patient.dto.PatientIdentity;
 import com.sleekydz86.domain.patient.dto.PatientRegisterRequest;
 import com.sleekydz86.domain.patient.dto.PatientSearchRequest;
 import com.sleekydz86.domain.patient.dto.PatientUpdateRequest;
 import com.sleekydz86.domain.patient.entity.PatientEntity;
 import com.sleekydz86.domain.patient.repository.PatientRepository;
 import com.sleekydz86.domain.patient.service.generators.PatientNumberGenerator;
+import com.sleekydz86.domain.patient.type.DuplicateReason;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,8 +33,12 @@ public class PatientService implements BaseService<PatientEntity, Long> {
 
     private final PatientRepository patientRepository;
     private final PatientNumberGenerator patientNumberGenerator;
+    private final PatientDuplicateChecker patientDuplicateChecker;
     private final EventPublisher eventPublisher;
 
+    @Value("${patient.search.max-results:200}")
+    private int maxSearchResults;
+
     public PatientEntity getPatientByNo(Long patientNo) {
         return patientRepository.findByPatientNo(patientNo)
                 .orElseThrow(() -> new NotFoundException("환자를 찾을 수 없습니다. PatientNo: " + patientNo));
@@ -45,7 +55,8 @@ public class PatientService implements BaseService<PatientEntity, Long> {
         return patientRepository.searchPatients(
                 request.getName(),
                 request.getTel(),
-                request.getEmail()
+                request.getEmail(),
+                PageRequest.of(0, maxSearchResults)
         );
     }
 
@@ -53,9 +64,9 @@ public class PatientService implements BaseService<PatientEntity, Long> {
         return patientRepository.findAll(pageable);
     }
 
-    public List<PatientEntity> getRecentPatients(int days) {
+    public List<PatientEntity> getRecentPatients(int days, int size) {
         LocalDate since = LocalDate.now().minusDays(days);
-        return patientRepository.findRecentPatients(since);
+        return patientRepository.findRecentPatients(since, PageRequest.of(0, Math.clamp(size, 1, maxSearchResults)));
     }
 
     public String findPatientRrnByPatientNo(Long patientNo) {
@@ -67,11 +78,13 @@ public class PatientService implements BaseService<PatientEntity, Long> {
     @Transactional
     public PatientEntity registerPatient(PatientRegisterRequest request) {
 
-        validateNotDuplicate(patientRepository.existsByPatientRrn(request.getPatientRrn()),
+        List<PatientDuplicateMatch> duplicates = patientDuplicateChecker.findMatches(PatientIdentity.of(
+                request.getPatientRrn(), request.getPatientEmail(), request.getPatientTel()));
+        validateNotDuplicate(hasDuplicate(duplicates, DuplicateReason.RRN),
                 "이미 등록된 주민등록번호입니다.");
-        validateNotDuplicate(patientRepository.existsByPatientEmail(request.getPatientEmail()),
+        validateNotDuplicate(hasDuplicate(duplicates, DuplicateReason.EMAIL),
                 "이미 사용 중인 이메일입니다.");
-        validateNotDuplicate(patientRepository.existsByPatientTel(request.getPatientTel()),
+        validateNotDuplicate(hasDuplicate(duplicates, DuplicateReason.TEL),
                 "이미 사용 중인 전화번호입니다.");
 
         Long patientNoValue = patientNumberGenerator.generate();
@@ -84,8 +97,7 @@ public class PatientService implements BaseService<PatientEntity, Long> {
 
         eventPublisher.publish(new com.sleekydz86.core.event.domain.PatientRegisteredEvent(
                 savedPatient.getPatientNoValue(),
-                savedPatient.getPatientName(),
-                savedPatient.getPatientRrnValue()
+                savedPatient.getPatientName()
         ));
 
         return savedPatient;
@@ -105,7 +117,7 @@ public class PatientService implements BaseService<PatientEntity, Long> {
         if (request.getPatientEmail() != null) {
             Email newEmail = request.getEmailValueObject();
             validateNotDuplicate(
-                    patientRepository.existsByPatientEmail(newEmail.getValue()) &&
+                    !patientDuplicateChecker.checkDuplicateByEmail(newEmail.getValue()).isEmpty() &&
                             (patient.getPatientEmail() == null || !patient.getPatientEmail().equals(newEmail)),
                     "이미 사용 중인 이메일입니다.");
             patient.changeEmail(newEmail);
@@ -114,7 +126,7 @@ public class PatientService implements BaseService<PatientEntity, Long> {
         if (request.getPatientTel() != null) {
             PhoneNumber newPhoneNumber = request.getTelValueObject();
             validateNotDuplicate(
-                    patientRepository.existsByPatientTel(newPhoneNumber.getValue()) &&
+                    !patientDuplicateChecker.checkDuplicateByTel(newPhoneNumber.getValue()).isEmpty() &&
                             (patient.getPatientTel() == null || !patient.getPatientTel().equals(newPhoneNumber)),
                     "이미 사용 중인 전화번호입니다.");
             patient.changePhoneNumber(newPhoneNumber);
@@ -142,6 +154,12 @@ public class PatientService implements BaseService<PatientEntity, Long> {
     public void deletePatient(Long patientNo) {
         PatientEntity patient = getPatientByNo(patientNo);
         patientRepository.delete(patient);
+
+        eventPublisher.publish(new PatientDeletedEvent(patient.getPatientNoValue()));
+    }
+
+    private boolean hasDuplicate(List<PatientDuplicateMatch> duplicates, DuplicateReason reason) {
+        return duplicates.stream().anyMatch(match -> match.hasReason(reason));
     }
 }
 
@@ -1,43 +1,31 @@
 package com.sleekydz86.domain.patient.service.generators;
 
-import com.sleekydz86.domain.patient.entity.PatientEntity;
 import com.sleekydz86.domain.patient.repository.PatientRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+// 단일 노드용. 동시 등록 시 같은 번호가 나올 수 있으므로 여러 노드에서는 SEQUENCE 전략 사용
 @Component
 @RequiredArgsConstructor
 public class MaxValueBasedGenerator implements PatientNumberGenerator {
 
     private final PatientRepository patientRepository;
-    private static final String PREFIX = "N";
     private static final int MAX_NUMBER = 9999999;
 
     @Override
     @Transactional
     public Long generate() {
 
-        Long maxNumber = patientRepository.findTopByOrderByPatientNoDesc()
-                .map(PatientEntity::getPatientNoValue)
-                .map(no -> {
-                    if (no == null) {
-                        return 0L;
-                    }
-                    String noStr = String.valueOf(no);
-                    if (noStr.startsWith(PREFIX)) {
-                        return Long.parseLong(noStr.substring(1));
-                    }
-                    return no;
-                })
-                .orElse(0L);
+        Long maxNumber = patientRepository.findMaxPatientNoValue();
+        if (maxNumber == null) {
+            maxNumber = 0L;
+        }
 
         if (maxNumber >= MAX_NUMBER) {
             throw new IllegalStateException("환자 번호 생성 한도에 도달했습니다.");
         }
 
-        Long nextNumber = maxNumber + 1;
-
-        return Long.parseLong(PREFIX + String.format("%07d", nextNumber));
+        return maxNumber + 1;
     }
 }
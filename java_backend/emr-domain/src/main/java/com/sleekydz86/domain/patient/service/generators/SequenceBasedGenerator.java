@@ -1,44 +1,112 @@
 package com.sleekydz86.domain.patient.service.generators;
 
-import com.sleekydz86.domain.patient.entity.PatientEntity;
+import com.sleekydz86.domain.patient.entity.PatientNumberBlockEntity;
+import com.sleekydz86.domain.patient.repository.PatientNumberBlockRepository;
 import com.sleekydz86.domain.patient.repository.PatientRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
+// hi/lo 방식: DB 카운터 행에서 구간을 예약하고, 구간 안의 번호는 메모리에서 잠금 없이 발급
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class SequenceBasedGenerator implements PatientNumberGenerator {
 
-    private final PatientRepository patientRepository;
-    private static final String PREFIX = "N";
+    private static final String BLOCK_NAME = "patient";
     private static final int MAX_NUMBER = 9999999;
 
+    private final PatientRepository patientRepository;
+    private final PatientNumberBlockRepository patientNumberBlockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<Block> current = new AtomicReference<>(Block.EXHAUSTED);
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    // 노드 종료 시 남은 구간 번호는 사용되지 않으므로 구간이 클수록 번호 사이 공백이 커짐
+    @Value("${patient.number.block-size:50}")
+    private int blockSize;
+
+    public SequenceBasedGenerator(PatientRepository patientRepository,
+                                  PatientNumberBlockRepository patientNumberBlockRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.patientRepository = patientRepository;
+        this.patientNumberBlockRepository = patientNumberBlockRepository;
+        // 호출자 트랜잭션이 롤백되어도 예약한 구간은 유지되어야 다른 노드와 겹치지 않음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     @Override
-    @Transactional
     public Long generate() {
+        while (true) {
+            Block block = current.get();
+            long next = block.next().getAndIncrement();
+            if (next < block.limit()) {
+                return next;
+            }
+            refill(block);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            // 기다리는 동안 다른 스레드가 이미 새 구간을 받아 온 경우
+            if (current.get() != exhausted) {
+                return;
+            }
+            current.set(reserveBlock());
+        } finally {
+            refillLock.unlock();
+        }
+    }
 
-        Long maxNumber = patientRepository.findTopByOrderByPatientNoDesc()
-                .map(PatientEntity::getPatientNoValue)
-                .map(no -> {
-                    if (no == null) {
-                        return 0L;
-                    }
-                    String noStr = String.valueOf(no);
-                    if (noStr.startsWith(PREFIX)) {
-                        return Long.parseLong(noStr.substring(1));
-                    }
-                    return no;
+    private Block reserveBlock() {
+        Block block = tryReserve();
+        if (block == null) {
+            initializeCounter();
+            block = tryReserve();
+        }
+        if (block == null) {
+            throw new IllegalStateException("환자 번호 구간을 예약하지 못했습니다.");
+        }
+        log.debug("환자 번호 구간 예약: {} ~ {}", block.next().get(), block.limit() - 1);
+        return block;
+    }
+
+    private Block tryReserve() {
+        return transactionTemplate.execute(status -> patientNumberBlockRepository.findForUpdate(BLOCK_NAME)
+                .map(counter -> {
+                    long start = counter.reserve(Math.max(1, blockSize), MAX_NUMBER);
+                    return new Block(new AtomicLong(start), counter.getNextValue());
                 })
-                .orElse(0L);
+                .orElse(null));
+    }
 
-        if (maxNumber >= MAX_NUMBER) {
-            throw new IllegalStateException("환자 번호 생성 한도에 도달했습니다.");
+    // 카운터 행이 없으면 기존 환자 번호의 최대값 다음부터 시작
+    private void initializeCounter() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (patientNumberBlockRepository.existsById(BLOCK_NAME)) {
+                    return;
+                }
+                Long max = patientRepository.findMaxPatientNoValue();
+                long start = max == null ? 1L : max + 1;
+                patientNumberBlockRepository.saveAndFlush(PatientNumberBlockEntity.startingAt(BLOCK_NAME, start));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 카운터 행을 만든 경우
         }
+    }
 
-        Long nextNumber = maxNumber + 1;
+    private record Block(AtomicLong next, long limit) {
 
-        return Long.parseLong(PREFIX + String.format("%07d", nextNumber));
+        static final Block EXHAUSTED = new Block(new AtomicLong(), 0);
     }
 }
-
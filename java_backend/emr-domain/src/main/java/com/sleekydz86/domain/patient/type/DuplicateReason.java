@@ -0,0 +1,7 @@
+package com.sleekydz86.domain.patient.type;
+
+public enum DuplicateReason {
+    RRN,    // 주민등록번호 일치
+    EMAIL,  // 이메일 일치
+    TEL     // 전화번호 일치
+}
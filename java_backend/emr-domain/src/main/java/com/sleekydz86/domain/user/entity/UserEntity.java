@@ -60,11 +60,17 @@ public class UserEntity extends BaseEntity {
     private String address;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "email", length = 100))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "email", length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "email_bidx", length = 64))
+    })
     private Email email;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "tel_num", length = 20))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "tel_num", length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "tel_num_bidx", length = 64))
+    })
     private PhoneNumber telNum;
 
     private LocalDateTime birth;
@@ -139,6 +145,16 @@ public class UserEntity extends BaseEntity {
         this.role = newRole;
     }
 
+    // 블라인드 인덱스 컬럼 추가 전에 등록된 사용자의 인덱스를 채움
+    public void fillBlindIndexes() {
+        if (email != null) {
+            this.email = email.withBlindIndex();
+        }
+        if (telNum != null) {
+            this.telNum = telNum.withBlindIndex();
+        }
+    }
+
     public void changeEmail(Email newEmail) {
         if (newEmail == null) {
             throw new IllegalArgumentException("이메일은 필수입니다.");
@@ -1,5 +1,6 @@
 package com.sleekydz86.domain.user.repository;
 
+import com.sleekydz86.domain.common.valueobject.Email;
 import com.sleekydz86.domain.user.entity.UserEntity;
 import com.sleekydz86.domain.user.type.RoleType;
 import org.springframework.data.domain.Page;
@@ -19,11 +20,19 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.loginId.value = :loginId")
     boolean existsByLoginId(@Param("loginId") String loginId);
 
-    @Query("SELECT u FROM User u WHERE u.email.value = :email")
-    Optional<UserEntity> findByEmail(@Param("email") String email);
+    @Query("SELECT u FROM User u WHERE u.email.blindIndex = :index")
+    Optional<UserEntity> findByEmailIndex(@Param("index") String index);
 
-    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.email.value = :email")
-    boolean existsByEmail(@Param("email") String email);
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.email.blindIndex = :index")
+    boolean existsByEmailIndex(@Param("index") String index);
+
+    default Optional<UserEntity> findByEmail(String email) {
+        return findByEmailIndex(Email.blindIndexOf(email));
+    }
+
+    default boolean existsByEmail(String email) {
+        return existsByEmailIndex(Email.blindIndexOf(email));
+    }
 
     List<UserEntity> findAllByRole(RoleType role);
 
@@ -40,5 +49,12 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.department.id = :departmentId")
     Long countByDepartmentId(@Param("departmentId") Long departmentId);
+
+    // 블라인드 인덱스 백필 대상 (값은 있으나 인덱스가 비어 있는 행)
+    @Query("SELECT u FROM User u WHERE u.id > :after AND (" +
+            "(u.email.value IS NOT NULL AND u.email.blindIndex IS NULL) OR " +
+            "(u.telNum.value IS NOT NULL AND u.telNum.blindIndex IS NULL)) " +
+            "ORDER BY u.id")
+    List<UserEntity> findBlindIndexMissing(@Param("after") Long after, Pageable pageable);
 }
 
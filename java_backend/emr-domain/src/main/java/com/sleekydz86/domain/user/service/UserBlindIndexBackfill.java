@@ -0,0 +1,30 @@
+package com.sleekydz86.domain.user.service;
+
+import com.sleekydz86.domain.common.backfill.BlindIndexBackfillTarget;
+import com.sleekydz86.domain.user.entity.UserEntity;
+import com.sleekydz86.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class UserBlindIndexBackfill implements BlindIndexBackfillTarget {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public String name() {
+        return "user";
+    }
+
+    @Override
+    public List<Long> backfill(Long afterId, int batchSize) {
+        List<UserEntity> batch = userRepository.findBlindIndexMissing(afterId, PageRequest.of(0, batchSize));
+        batch.forEach(UserEntity::fillBlindIndexes);
+        return batch.stream()
+                .map(UserEntity::getId)
+                .toList();
+    }
+}
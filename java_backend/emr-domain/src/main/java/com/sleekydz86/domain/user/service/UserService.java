@@ -2,6 +2,7 @@ package com.sleekydz86.domain.user.service;
 
 import com.sleekydz86.core.common.exception.custom.NotFoundException;
 import com.sleekydz86.core.event.publisher.EventPublisher;
+import com.sleekydz86.core.security.jwt.TenantResolver;
 import com.sleekydz86.domain.common.service.BaseService;
 import com.sleekydz86.domain.common.valueobject.Email;
 import com.sleekydz86.domain.common.valueobject.Password;
@@ -40,6 +41,7 @@ public class UserService implements BaseService<UserEntity, Long> {
     private final InstitutionService institutionService;
     private final PasswordEncoder passwordEncoder;
     private final EventPublisher eventPublisher;
+    private final TenantResolver tenantResolver;
 
     public UserEntity getUserById(Long userId) {
         return validateExists(userRepository, userId, "사용자를 찾을 수 없습니다. ID: " + userId);
@@ -227,6 +229,8 @@ public class UserService implements BaseService<UserEntity, Long> {
 
                 userInstitutionRepository.save(userInstitution);
             }
+
+            tenantResolver.evictInstitutionCodes(user.getId());
         }
 
         userRepository.save(user);
@@ -35,7 +35,10 @@ public class ContractEntity extends BaseEntity {
     private String contractRelationship;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "contract_telephone", length = 20))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "contract_telephone", length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "contract_telephone_bidx", length = 64))
+    })
     private PhoneNumber contractTelephone;
 
     @Column(name = "contract_discount")
@@ -57,11 +60,17 @@ public class ContractEntity extends BaseEntity {
     private String contractManager;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "contract_manager_tel", length = 20))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "contract_manager_tel", length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "contract_manager_tel_bidx", length = 64))
+    })
     private PhoneNumber contractManagerTel;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "contract_manager_email", length = 100))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "contract_manager_email", length = 500)),
+            @AttributeOverride(name = "blindIndex", column = @Column(name = "contract_manager_email_bidx", length = 64))
+    })
     private Email contractManagerEmail;
 
     @Builder
@@ -107,6 +116,19 @@ public class ContractEntity extends BaseEntity {
         }
     }
 
+    // 블라인드 인덱스 컬럼 추가 전에 등록된 계약처의 인덱스를 채움
+    public void fillBlindIndexes() {
+        if (contractTelephone != null) {
+            this.contractTelephone = contractTelephone.withBlindIndex();
+        }
+        if (contractManagerTel != null) {
+            this.contractManagerTel = contractManagerTel.withBlindIndex();
+        }
+        if (contractManagerEmail != null) {
+            this.contractManagerEmail = contractManagerEmail.withBlindIndex();
+        }
+    }
+
     public void activate() {
         this.contractStatus = ContractStatus.ACTIVE;
     }
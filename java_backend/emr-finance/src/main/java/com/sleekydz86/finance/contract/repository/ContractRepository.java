@@ -35,4 +35,12 @@ public interface ContractRepository extends BaseRepository<ContractEntity, Long>
             "(c.contractName LIKE %:keyword% OR c.contractRelationship LIKE %:keyword%)")
     List<ContractEntity> searchContracts(@Param("keyword") String keyword,
                                          @Param("status") ContractStatus status);
+
+    // 블라인드 인덱스 백필 대상 (값은 있으나 인덱스가 비어 있는 행)
+    @Query("SELECT c FROM Contract c WHERE c.contractCode > :after AND (" +
+            "(c.contractTelephone.value IS NOT NULL AND c.contractTelephone.blindIndex IS NULL) OR " +
+            "(c.contractManagerTel.value IS NOT NULL AND c.contractManagerTel.blindIndex IS NULL) OR " +
+            "(c.contractManagerEmail.value IS NOT NULL AND c.contractManagerEmail.blindIndex IS NULL)) " +
+            "ORDER BY c.contractCode")
+    List<ContractEntity> findBlindIndexMissing(@Param("after") Long after, Pageable pageable);
 }
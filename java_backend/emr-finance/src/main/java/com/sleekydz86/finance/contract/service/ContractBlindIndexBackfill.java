@@ -0,0 +1,30 @@
+package com.sleekydz86.finance.contract.service;
+
+import com.sleekydz86.domain.common.backfill.BlindIndexBackfillTarget;
+import com.sleekydz86.finance.contract.entity.ContractEntity;
+import com.sleekydz86.finance.contract.repository.ContractRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ContractBlindIndexBackfill implements BlindIndexBackfillTarget {
+
+    private final ContractRepository contractRepository;
+
+    @Override
+    public String name() {
+        return "contract";
+    }
+
+    @Override
+    public List<Long> backfill(Long afterId, int batchSize) {
+        List<ContractEntity> batch = contractRepository.findBlindIndexMissing(afterId, PageRequest.of(0, batchSize));
+        batch.forEach(ContractEntity::fillBlindIndexes);
+        return batch.stream()
+                .map(ContractEntity::getContractCode)
+                .toList();
+    }
+}
@@ -2,11 +2,9 @@ package com.sleekydz86.finance.payment.controller;
 
 import com.sleekydz86.core.common.annotation.AuthRole;
 import com.sleekydz86.core.common.annotation.AuthUser;
-import com.sleekydz86.core.file.excel.export.ExcelExportService;
 import com.sleekydz86.finance.payment.dto.*;
-import com.sleekydz86.finance.payment.entity.PaymentEntity;
-import com.sleekydz86.finance.payment.repository.PaymentRepository;
 import com.sleekydz86.finance.payment.service.PaymentCalculationService;
+import com.sleekydz86.finance.payment.service.PaymentExportService;
 import com.sleekydz86.finance.payment.service.PaymentService;
 import com.sleekydz86.finance.payment.service.PaymentStatisticsService;
 import com.sleekydz86.finance.type.PaymentStatus;
@@ -21,10 +19,6 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,8 +30,7 @@ public class PaymentController {
     private final PaymentService paymentService;
     private final PaymentCalculationService paymentCalculationService;
     private final PaymentStatisticsService paymentStatisticsService;
-    private final ExcelExportService excelExportService;
-    private final PaymentRepository paymentRepository;
+    private final PaymentExportService paymentExportService;
 
     @PostMapping("/register")
     @AuthRole({ "STAFF", "ADMIN" })
@@ -236,49 +229,6 @@ public class PaymentController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) PaymentStatus status,
             HttpServletResponse response) throws IOException {
-
-
-        List<PaymentEntity> payments;
-        if (startDate != null && endDate != null) {
-            LocalDateTime start = startDate.atStartOfDay();
-            LocalDateTime end = endDate.atTime(LocalTime.MAX);
-            payments = paymentRepository.findByPaymentDateBetween(start, end);
-            if (status != null) {
-                payments = payments.stream()
-                        .filter(p -> p.getPaymentStatus() == status)
-                        .toList();
-            }
-        } else if (status != null) {
-            payments = paymentRepository.findByPaymentStatus(status);
-        } else {
-            payments = paymentRepository.findAll();
-        }
-
-        List<String> headers = List.of(
-                "결제ID", "환자번호", "환자명", "진료ID", "결제상태", "총금액",
-                "본인부담금", "보험금", "현재수납액", "남은수납액", "결제수단", "결제일시"
-        );
-
-        List<Map<String, Object>> data = new ArrayList<>();
-        for (PaymentEntity payment : payments) {
-            Map<String, Object> row = new HashMap<>();
-            row.put("결제ID", payment.getPaymentId());
-            row.put("환자번호", payment.getPatientEntity() != null ? payment.getPatientEntity().getPatientNo() : "");
-            row.put("환자명", payment.getPatientEntity() != null ? payment.getPatientEntity().getPatientName() : "");
-            row.put("진료ID", payment.getTreatmentEntity() != null ? payment.getTreatmentEntity().getTreatmentId() : "");
-            row.put("결제상태", payment.getPaymentStatus() != null ? payment.getPaymentStatus().name() : "");
-            row.put("총금액", payment.getPaymentTotalAmount() != null ? payment.getPaymentTotalAmount() : 0);
-            row.put("본인부담금", payment.getPaymentSelfPay() != null ? payment.getPaymentSelfPay() : 0);
-            row.put("보험금", payment.getPaymentInsuranceMoney() != null ? payment.getPaymentInsuranceMoney() : 0);
-            row.put("현재수납액", payment.getPaymentCurrentMoney() != null ? payment.getPaymentCurrentMoney() : 0);
-            row.put("남은수납액", payment.getPaymentRemainMoney() != null ? payment.getPaymentRemainMoney() : 0);
-            row.put("결제수단", payment.getPaymentMethod() != null ? payment.getPaymentMethod().name() : "");
-            row.put("결제일시", payment.getPaymentDate() != null ? payment.getPaymentDate().toString() : "");
-            data.add(row);
-        }
-
-        String filename = "결제목록_" + java.time.LocalDate.now() + ".xlsx";
-
-        excelExportService.exportToExcel(headers, data, filename, response);
+        paymentExportService.exportPayments(startDate, endDate, status, response);
     }
 }
@@ -0,0 +1,14 @@
+package com.sleekydz86.finance.payment.dto;
+
+import com.sleekydz86.finance.type.PaymentMethod;
+import com.sleekydz86.finance.type.PaymentStatus;
+
+public record PaymentStatisticsRow(
+        String tenantId,
+        PaymentMethod method,
+        PaymentStatus status,
+        Long count,
+        Long totalAmount,
+        Long paidAmount
+) {
+}
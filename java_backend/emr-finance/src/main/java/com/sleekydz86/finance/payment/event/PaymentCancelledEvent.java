@@ -41,5 +41,9 @@ public class PaymentCancelledEvent implements DomainEvent {
     public String getReason() {
         return reason;
     }
-}
 
+    @Override
+    public String getAggregateKey() {
+        return "Payment:" + paymentId;
+    }
+}
@@ -41,5 +41,9 @@ public class PaymentCompletedEvent implements DomainEvent {
     public Long getPatientNo() {
         return patientNo;
     }
-}
 
+    @Override
+    public String getAggregateKey() {
+        return "Payment:" + paymentId;
+    }
+}
@@ -41,5 +41,9 @@ public class PaymentRefundedEvent implements DomainEvent {
     public Long getRefundAmount() {
         return refundAmount;
     }
-}
 
+    @Override
+    public String getAggregateKey() {
+        return "Payment:" + paymentId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sleekydz86.finance.payment.listener;
 
+import com.sleekydz86.core.common.exception.custom.DuplicateException;
 import com.sleekydz86.core.event.domain.TreatmentCompletedEvent;
 import com.sleekydz86.finance.payment.dto.PaymentRegisterRequest;
 import com.sleekydz86.finance.payment.service.PaymentService;
@@ -7,7 +8,6 @@ import com.sleekydz86.finance.type.PaymentMethod;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,21 +17,21 @@ public class TreatmentCompletedEventListener {
 
     private final PaymentService paymentService;
 
+    // 아웃박스 릴레이 스레드에서 실행되며, 예외를 던지면 릴레이가 재시도한다
     @EventListener
-    @Async
     public void handleTreatmentCompleted(TreatmentCompletedEvent event) {
-        try {
-            log.info("진료 완료 이벤트 수신: TreatmentId={}", event.treatmentId());
+        log.info("진료 완료 이벤트 수신: TreatmentId={}", event.treatmentId());
 
-            PaymentRegisterRequest request = new PaymentRegisterRequest();
-            request.setTreatmentId(event.treatmentId());
-            request.setPaymentMethod(PaymentMethod.CASH);
+        PaymentRegisterRequest request = new PaymentRegisterRequest();
+        request.setTreatmentId(event.treatmentId());
+        request.setPaymentMethod(PaymentMethod.CASH);
 
+        try {
             paymentService.registerPayment(request);
-
             log.info("결제 정보 자동 생성 완료: TreatmentId={}", event.treatmentId());
-        } catch (Exception e) {
-            log.error("결제 정보 자동 생성 실패: TreatmentId={}", event.treatmentId(), e);
+        } catch (DuplicateException e) {
+            // 재전달된 이벤트는 이미 처리된 것으로 간주
+            log.info("결제 정보가 이미 존재합니다: TreatmentId={}", event.treatmentId());
         }
     }
 }
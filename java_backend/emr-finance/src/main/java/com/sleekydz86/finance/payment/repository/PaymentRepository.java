@@ -1,18 +1,22 @@
 package com.sleekydz86.finance.payment.repository;
 
 import com.sleekydz86.domain.common.repository.BaseRepository;
+import com.sleekydz86.finance.payment.dto.PaymentStatisticsRow;
 import com.sleekydz86.finance.payment.entity.PaymentEntity;
 import com.sleekydz86.finance.type.PaymentMethod;
 import com.sleekydz86.finance.type.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface PaymentRepository extends BaseRepository<PaymentEntity, Long> {
@@ -42,6 +46,22 @@ public interface PaymentRepository extends BaseRepository<PaymentEntity, Long> {
 
     List<PaymentEntity> findAllByOrderByPaymentDateDesc();
 
+    // 엑셀 내보내기용 커서 조회 (환자/진료를 함께 가져와 행마다 추가 쿼리가 나가지 않도록 함)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT p FROM Payment p " +
+            "LEFT JOIN FETCH p.patientEntity " +
+            "LEFT JOIN FETCH p.treatmentEntity " +
+            "WHERE (:start IS NULL OR p.paymentDate >= :start) " +
+            "AND (:end IS NULL OR p.paymentDate <= :end) " +
+            "AND (:status IS NULL OR p.paymentStatus = :status) " +
+            "ORDER BY p.paymentId")
+    Stream<PaymentEntity> streamForExport(@Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end,
+                                          @Param("status") PaymentStatus status);
+
     @Query("SELECT p FROM Payment p WHERE DATE(p.paymentDate) = CURRENT_DATE")
     List<PaymentEntity> findTodayPayments();
 
@@ -49,6 +69,22 @@ public interface PaymentRepository extends BaseRepository<PaymentEntity, Long> {
             "FROM Payment p WHERE p.paymentDate BETWEEN :start AND :end")
     Object[] getPaymentStatisticsByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    @Query("SELECT new com.sleekydz86.finance.payment.dto.PaymentStatisticsRow(" +
+            "p.inttCd, p.paymentMethod, p.paymentStatus, COUNT(p), " +
+            "SUM(p.paymentTotalAmount.value), SUM(p.paymentCurrentMoney.value)) " +
+            "FROM Payment p WHERE p.paymentDate >= :start AND p.paymentDate < :end " +
+            "GROUP BY p.inttCd, p.paymentMethod, p.paymentStatus")
+    List<PaymentStatisticsRow> sumByMethodAndStatus(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT pt.patientNo.value, SUM(p.paymentCurrentMoney.value) " +
+            "FROM Payment p JOIN p.patientEntity pt " +
+            "WHERE p.paymentDate >= :start AND p.paymentDate < :end " +
+            "GROUP BY pt.patientNo.value")
+    List<Object[]> sumPaidAmountByPatient(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT p.paymentDate FROM Payment p WHERE p.paymentId = :paymentId")
+    Optional<LocalDateTime> findPaymentDateById(@Param("paymentId") Long paymentId);
+
     @Query("SELECT SUM(p.paymentRemainMoney) FROM Payment p " +
             "WHERE p.patientEntity.patientNo = :patientNo AND p.paymentStatus IN :statuses")
     Long getUnpaidAmountByPatientNo(@Param("patientNo") Long patientNo,
@@ -1,5 +1,6 @@
 package com.sleekydz86.finance.payment.service;
 
+import com.sleekydz86.core.concurrency.BulkheadRegistry;
 import com.sleekydz86.domain.patient.entity.PatientEntity;
 import com.sleekydz86.emrclinical.treatment.entity.TreatmentEntity;
 import com.sleekydz86.finance.contract.entity.ContractEntity;
@@ -25,13 +26,15 @@ public class PaymentCalculationService {
     private final MedicalFeeRepository medicalFeeRepository;
     private final QualificationService qualificationService;
     private final ContractRelayRepository contractRelayRepository;
+    private final BulkheadRegistry bulkheadRegistry;
 
     public PaymentCalculationResult calculatePaymentAmount(TreatmentEntity treatment, PatientEntity patient) {
 
         Long totalMedicalFee = calculateTotalMedicalFee(treatment.getTreatmentId());
 
-        AllQualificationsResponse qualifications = qualificationService.getAllQualifications(patient.getPatientNoValue())
-                .block();
+        // 외부 자격 조회 호출만 external-api 한도를 적용 (DB 조회는 한도 밖)
+        AllQualificationsResponse qualifications = bulkheadRegistry.execute("external-api", () ->
+                qualificationService.getAllQualifications(patient.getPatientNoValue()).block());
 
         double selfPayRate = calculateSelfPayRate(qualifications);
 
@@ -0,0 +1,68 @@
+package com.sleekydz86.finance.payment.service;
+
+import com.sleekydz86.core.file.excel.export.ExcelColumn;
+import com.sleekydz86.core.file.excel.export.ExcelExportService;
+import com.sleekydz86.finance.payment.entity.PaymentEntity;
+import com.sleekydz86.finance.payment.repository.PaymentRepository;
+import com.sleekydz86.finance.type.PaymentStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentExportService {
+
+    // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 주기적으로 비움
+    private static final int CLEAR_INTERVAL = 500;
+
+    private static final List<ExcelColumn<PaymentEntity>> COLUMNS = List.of(
+            ExcelColumn.of("결제ID", PaymentEntity::getPaymentId),
+            ExcelColumn.of("환자번호", p -> p.getPatientEntity() != null ? p.getPatientEntity().getPatientNo() : ""),
+            ExcelColumn.of("환자명", p -> p.getPatientEntity() != null ? p.getPatientEntity().getPatientName() : ""),
+            ExcelColumn.of("진료ID", p -> p.getTreatmentEntity() != null ? p.getTreatmentEntity().getTreatmentId() : ""),
+            ExcelColumn.of("결제상태", p -> p.getPaymentStatus() != null ? p.getPaymentStatus().name() : ""),
+            ExcelColumn.of("총금액", p -> p.getPaymentTotalAmount() != null ? p.getPaymentTotalAmount() : 0),
+            ExcelColumn.of("본인부담금", p -> p.getPaymentSelfPay() != null ? p.getPaymentSelfPay() : 0),
+            ExcelColumn.of("보험금", p -> p.getPaymentInsuranceMoney() != null ? p.getPaymentInsuranceMoney() : 0),
+            ExcelColumn.of("현재수납액", p -> p.getPaymentCurrentMoney() != null ? p.getPaymentCurrentMoney() : 0),
+            ExcelColumn.of("남은수납액", p -> p.getPaymentRemainMoney() != null ? p.getPaymentRemainMoney() : 0),
+            ExcelColumn.of("결제수단", p -> p.getPaymentMethod() != null ? p.getPaymentMethod().name() : ""),
+            ExcelColumn.of("결제일시", p -> p.getPaymentDate() != null ? p.getPaymentDate().toString() : "")
+    );
+
+    private final PaymentRepository paymentRepository;
+    private final ExcelExportService excelExportService;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void exportPayments(LocalDate startDate, LocalDate endDate, PaymentStatus status,
+                               HttpServletResponse response) throws IOException {
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        if (startDate != null && endDate != null) {
+            start = startDate.atStartOfDay();
+            end = endDate.atTime(LocalTime.MAX);
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        Stream<PaymentEntity> payments = paymentRepository.streamForExport(start, end, status)
+                .peek(payment -> {
+                    if (count.incrementAndGet() % CLEAR_INTERVAL == 0) {
+                        entityManager.clear();
+                    }
+                });
+
+        String filename = "결제목록_" + LocalDate.now() + ".xlsx";
+        excelExportService.exportStream(COLUMNS, payments, filename, response);
+    }
+}
@@ -6,12 +6,17 @@ import com.sleekydz86.finance.payment.entity.PaymentEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import java.text.DecimalFormat;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentNotificationService {
 
+    private static final ThreadLocal<DecimalFormat> AMOUNT_FORMAT = ThreadLocal.withInitial(() -> new DecimalFormat("#,##0"));
+
     private final NotificationService notificationService;
 
     public void sendPaymentCompletedNotification(PaymentEntity payment) {
@@ -24,22 +29,13 @@ public class PaymentNotificationService {
 
             String patientEmail = patient.getPatientEmailValue();
             if (patientEmail != null && !patientEmail.isEmpty()) {
-                String subject = "결제 완료 안내";
-                String message = String.format(
-                        "안녕하세요 %s님,\n\n" +
-                                "결제가 완료되었습니다.\n\n" +
-                                "결제 정보:\n" +
-                                "- 결제 금액: %,d원\n" +
-                                "- 결제 수단: %s\n" +
-                                "- 결제 일시: %s\n\n" +
-                                "감사합니다.",
-                        patient.getPatientName(),
-                        payment.getPaymentCurrentMoneyValue() != null ? payment.getPaymentCurrentMoneyValue() : 0L,
-                        payment.getPaymentMethod() != null ? payment.getPaymentMethod().name() : "",
-                        payment.getPaymentDate() != null ? payment.getPaymentDate().toString() : ""
-                );
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("patientName", patient.getPatientName());
+                variables.put("paidAmount", formatAmount(payment.getPaymentCurrentMoneyValue()));
+                variables.put("paymentMethod", payment.getPaymentMethod() != null ? payment.getPaymentMethod().name() : "");
+                variables.put("paymentDate", payment.getPaymentDate() != null ? payment.getPaymentDate().toString() : "");
 
-                notificationService.send(patientEmail, subject, message);
+                notificationService.sendWithTemplate(patientEmail, "payment-completed", variables);
                 log.info("결제 완료 알림 발송 성공: PaymentId={}, PatientEmail={}",
                         payment.getPaymentId(), patientEmail);
             } else {
@@ -60,23 +56,13 @@ public class PaymentNotificationService {
 
             String patientEmail = patient.getPatientEmailValue();
             if (patientEmail != null && !patientEmail.isEmpty()) {
-                String subject = "미납 안내";
-                String message = String.format(
-                        "안녕하세요 %s님,\n\n" +
-                                "미납 금액이 있습니다.\n\n" +
-                                "미납 정보:\n" +
-                                "- 총 금액: %,d원\n" +
-                                "- 미납 금액: %,d원\n" +
-                                "- 결제 일시: %s\n\n" +
-                                "빠른 시일 내에 결제 부탁드립니다.\n\n" +
-                                "감사합니다.",
-                        patient.getPatientName(),
-                        payment.getPaymentTotalAmountValue() != null ? payment.getPaymentTotalAmountValue() : 0L,
-                        payment.getPaymentRemainMoneyValue() != null ? payment.getPaymentRemainMoneyValue() : 0L,
-                        payment.getPaymentDate() != null ? payment.getPaymentDate().toString() : ""
-                );
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("patientName", patient.getPatientName());
+                variables.put("totalAmount", formatAmount(payment.getPaymentTotalAmountValue()));
+                variables.put("remainAmount", formatAmount(payment.getPaymentRemainMoneyValue()));
+                variables.put("paymentDate", payment.getPaymentDate() != null ? payment.getPaymentDate().toString() : "");
 
-                notificationService.send(patientEmail, subject, message);
+                notificationService.sendWithTemplate(patientEmail, "payment-unpaid", variables);
                 log.info("미납 알림 발송 성공: PaymentId={}, PatientEmail={}",
                         payment.getPaymentId(), patientEmail);
             } else {
@@ -86,5 +72,9 @@ public class PaymentNotificationService {
             log.error("미납 알림 발송 실패: PaymentId={}", payment.getPaymentId(), e);
         }
     }
+
+    private String formatAmount(Long amount) {
+        return AMOUNT_FORMAT.get().format(amount != null ? amount : 0L);
+    }
 }
 
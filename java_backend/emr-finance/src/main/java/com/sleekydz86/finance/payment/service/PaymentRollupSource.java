@@ -0,0 +1,87 @@
+package com.sleekydz86.finance.payment.service;
+
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupSource;
+import com.sleekydz86.finance.payment.dto.PaymentStatisticsRow;
+import com.sleekydz86.finance.payment.event.PaymentCancelledEvent;
+import com.sleekydz86.finance.payment.event.PaymentCompletedEvent;
+import com.sleekydz86.finance.payment.event.PaymentCreatedEvent;
+import com.sleekydz86.finance.payment.event.PaymentRefundedEvent;
+import com.sleekydz86.finance.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentRollupSource implements DailyRollupSource {
+
+    public static final String METRIC = "payment";
+    // 건수와 총 진료비 합계
+    public static final String TOTAL = "total";
+    // 건수와 실제 수납액 합계
+    public static final String PAID = "paid";
+    // 결제 수단별 수납액 합계
+    public static final String METHOD = "method";
+    public static final String STATUS = "status";
+
+    private final PaymentRepository paymentRepository;
+    private final DailyRollupService dailyRollupService;
+
+    @Override
+    public String metric() {
+        return METRIC;
+    }
+
+    @Override
+    public List<DailyRollupRecord> aggregate(LocalDate date) {
+        List<PaymentStatisticsRow> rows = paymentRepository.sumByMethodAndStatus(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        List<DailyRollupRecord> records = new ArrayList<>(rows.size() * 4);
+        for (PaymentStatisticsRow row : rows) {
+            long totalAmount = row.totalAmount() != null ? row.totalAmount() : 0L;
+            long paidAmount = row.paidAmount() != null ? row.paidAmount() : 0L;
+            records.add(DailyRollupRecord.of(row.tenantId(), TOTAL, DailyRollupSummary.ALL, row.count(), totalAmount));
+            records.add(DailyRollupRecord.of(row.tenantId(), PAID, DailyRollupSummary.ALL, row.count(), paidAmount));
+            if (row.method() != null) {
+                records.add(DailyRollupRecord.of(row.tenantId(), METHOD, row.method(), row.count(), paidAmount));
+            }
+            if (row.status() != null) {
+                records.add(DailyRollupRecord.of(row.tenantId(), STATUS, row.status(), row.count()));
+            }
+        }
+        return records;
+    }
+
+    @EventListener
+    public void handlePaymentCreated(PaymentCreatedEvent event) {
+        markDirty(event.getPaymentId());
+    }
+
+    @EventListener
+    public void handlePaymentCompleted(PaymentCompletedEvent event) {
+        markDirty(event.getPaymentId());
+    }
+
+    @EventListener
+    public void handlePaymentCancelled(PaymentCancelledEvent event) {
+        markDirty(event.getPaymentId());
+    }
+
+    @EventListener
+    public void handlePaymentRefunded(PaymentRefundedEvent event) {
+        markDirty(event.getPaymentId());
+    }
+
+    private void markDirty(Long paymentId) {
+        paymentRepository.findPaymentDateById(paymentId)
+                .map(LocalDateTime::toLocalDate)
+                .ifPresent(date -> dailyRollupService.markDirty(METRIC, date));
+    }
+}
@@ -1,5 +1,7 @@
 package com.sleekydz86.finance.payment.service;
 
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
 import com.sleekydz86.finance.payment.dto.DailyPaymentStatistics;
 import com.sleekydz86.finance.payment.dto.PeriodPaymentStatistics;
 import com.sleekydz86.finance.payment.dto.UnpaidPaymentStatistics;
@@ -12,8 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,92 +26,39 @@ import java.util.stream.Collectors;
 public class PaymentStatisticsService {
 
     private final PaymentRepository paymentRepository;
+    private final DailyRollupService dailyRollupService;
 
     public DailyPaymentStatistics getDailyStatistics(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = date.atTime(LocalTime.MAX);
-
-        List<PaymentEntity> payments =
-                paymentRepository.findByPaymentDateBetween(start, end);
-
-        long count = payments.size();
-        long totalAmount = payments.stream()
-                .mapToLong(p -> p.getPaymentTotalAmountValue() != null ? p.getPaymentTotalAmountValue() : 0L)
-                .sum();
-        long paidAmount = payments.stream()
-                .mapToLong(p -> p.getPaymentCurrentMoneyValue() != null ? p.getPaymentCurrentMoneyValue() : 0L)
-                .sum();
-
-        Map<PaymentMethod, Long> methodStatistics = payments.stream()
-                .filter(p -> p.getPaymentMethod() != null)
-                .collect(Collectors.groupingBy(
-                        PaymentEntity::getPaymentMethod,
-                        Collectors.summingLong(p -> p.getPaymentCurrentMoneyValue() != null ? p.getPaymentCurrentMoneyValue() : 0L)
-                ));
-
-        Map<PaymentStatus, Long> statusStatistics = payments.stream()
-                .filter(p -> p.getPaymentStatus() != null)
-                .collect(Collectors.groupingBy(
-                        PaymentEntity::getPaymentStatus,
-                        Collectors.counting()
-                ));
+        DailyRollupSummary summary = dailyRollupService.summarize(PaymentRollupSource.METRIC, date, date);
 
         return DailyPaymentStatistics.builder()
                 .date(date)
-                .count(count)
-                .totalAmount(totalAmount)
-                .paidAmount(paidAmount)
-                .methodStatistics(methodStatistics)
-                .statusStatistics(statusStatistics)
+                .count(summary.count(PaymentRollupSource.TOTAL, DailyRollupSummary.ALL))
+                .totalAmount(summary.amount(PaymentRollupSource.TOTAL, DailyRollupSummary.ALL))
+                .paidAmount(summary.amount(PaymentRollupSource.PAID, DailyRollupSummary.ALL))
+                .methodStatistics(summary.amounts(PaymentRollupSource.METHOD, PaymentMethod::valueOf))
+                .statusStatistics(summary.counts(PaymentRollupSource.STATUS, PaymentStatus::valueOf))
                 .build();
     }
 
     public PeriodPaymentStatistics getPeriodStatistics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(LocalTime.MAX);
-
-        List<PaymentEntity> payments =
-                paymentRepository.findByPaymentDateBetween(start, end);
-
-        long count = payments.size();
-        long totalAmount = payments.stream()
-                .mapToLong(p -> p.getPaymentTotalAmountValue() != null ? p.getPaymentTotalAmountValue() : 0L)
-                .sum();
-        long paidAmount = payments.stream()
-                .mapToLong(p -> p.getPaymentCurrentMoneyValue() != null ? p.getPaymentCurrentMoneyValue() : 0L)
-                .sum();
-
-        Map<PaymentMethod, Long> methodStatistics = payments.stream()
-                .filter(p -> p.getPaymentMethod() != null)
-                .collect(Collectors.groupingBy(
-                        PaymentEntity::getPaymentMethod,
-                        Collectors.summingLong(p -> p.getPaymentCurrentMoneyValue() != null ? p.getPaymentCurrentMoneyValue() : 0L)
-                ));
-
-
-        Map<PaymentStatus, Long> statusStatistics = payments.stream()
-                .filter(p -> p.getPaymentStatus() != null)
-                .collect(Collectors.groupingBy(
-                        PaymentEntity::getPaymentStatus,
-                        Collectors.counting()
-                ));
+        DailyRollupSummary summary = dailyRollupService.summarize(PaymentRollupSource.METRIC, startDate, endDate);
 
-
-        Map<Long, Long> patientStatistics = payments.stream()
-                .filter(p -> p.getPatientEntity() != null)
-                .collect(Collectors.groupingBy(
-                        p -> p.getPatientEntity().getPatientNoValue(),
-                        Collectors.summingLong(p -> p.getPaymentCurrentMoneyValue() != null ? p.getPaymentCurrentMoneyValue() : 0L)
-                ));
+        // 환자별 합계는 일일 집계에 없으므로 기간 내 GROUP BY 로 조회
+        Map<Long, Long> patientStatistics = new HashMap<>();
+        for (Object[] row : paymentRepository.sumPaidAmountByPatient(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())) {
+            patientStatistics.put((Long) row[0], row[1] != null ? (Long) row[1] : 0L);
+        }
 
         return PeriodPaymentStatistics.builder()
                 .startDate(startDate)
                 .endDate(endDate)
-                .count(count)
-                .totalAmount(totalAmount)
-                .paidAmount(paidAmount)
-                .methodStatistics(methodStatistics)
-                .statusStatistics(statusStatistics)
+                .count(summary.count(PaymentRollupSource.TOTAL, DailyRollupSummary.ALL))
+                .totalAmount(summary.amount(PaymentRollupSource.TOTAL, DailyRollupSummary.ALL))
+                .paidAmount(summary.amount(PaymentRollupSource.PAID, DailyRollupSummary.ALL))
+                .methodStatistics(summary.amounts(PaymentRollupSource.METHOD, PaymentMethod::valueOf))
+                .statusStatistics(summary.counts(PaymentRollupSource.STATUS, PaymentStatus::valueOf))
                 .patientStatistics(patientStatistics)
                 .build();
     }
@@ -0,0 +1,85 @@
+package com.sleekydz86.support.attendance.service;
+
+import com.sleekydz86.core.event.domain.AttendanceRegisteredEvent;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupRecord;
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupSource;
+import com.sleekydz86.support.attendance.entity.AttendanceEntity;
+import com.sleekydz86.support.attendance.repository.AttendanceRepository;
+import com.sleekydz86.support.attendance.type.AttendanceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 근태는 하루 건수가 적어 하루치를 읽어 집계
+@Component
+@RequiredArgsConstructor
+public class AttendanceRollupSource implements DailyRollupSource {
+
+    public static final String METRIC = "attendance";
+    // 유형별 건수와 등록 시각(초 단위, 자정 기준) 합계. 평균 출퇴근 시각 계산용
+    public static final String TYPE = "type";
+    // 출근 기록의 근무 시간(분) 합계
+    public static final String WORKING = "working";
+
+    private final AttendanceRepository attendanceRepository;
+    private final DailyRollupService dailyRollupService;
+
+    @Override
+    public String metric() {
+        return METRIC;
+    }
+
+    @Override
+    public List<DailyRollupRecord> aggregate(LocalDate date) {
+        Map<String, List<AttendanceEntity>> byTenant = attendanceRepository
+                .findByAttendanceTime_ValueBetween(date.atStartOfDay(), date.atTime(LocalTime.MAX)).stream()
+                .collect(Collectors.groupingBy(a -> Objects.requireNonNullElse(a.getInttCd(), "")));
+
+        List<DailyRollupRecord> records = new ArrayList<>();
+        byTenant.forEach((tenantId, attendances) -> {
+            for (AttendanceEntity attendance : attendances) {
+                records.add(DailyRollupRecord.of(tenantId, TYPE, attendance.getAttendanceType(), 1,
+                        attendance.getAttendanceTime().getValue().toLocalTime().toSecondOfDay()));
+            }
+            records.add(DailyRollupRecord.of(tenantId, WORKING, DailyRollupSummary.ALL, 0,
+                    workingMinutes(attendances)));
+        });
+        return records;
+    }
+
+    // 퇴근 기록 수만큼의 출근 기록에 대해 출근 ~ 종료 시각을 합산
+    private long workingMinutes(List<AttendanceEntity> attendances) {
+        List<AttendanceEntity> checkIns = attendances.stream()
+                .filter(a -> a.getAttendanceType() == AttendanceType.CHECK_IN)
+                .toList();
+        long checkOuts = attendances.stream()
+                .filter(a -> a.getAttendanceType() == AttendanceType.CHECK_OUT)
+                .count();
+
+        long minutes = 0;
+        for (int i = 0; i < Math.min(checkIns.size(), checkOuts); i++) {
+            AttendanceEntity checkIn = checkIns.get(i);
+            if (checkIn.getEndTime() != null) {
+                minutes += Duration.between(checkIn.getAttendanceTime().getValue(), checkIn.getEndTime()).toMinutes();
+            }
+        }
+        return minutes;
+    }
+
+    @EventListener
+    public void handleAttendanceRegistered(AttendanceRegisteredEvent event) {
+        if (event.attendanceTime() != null) {
+            dailyRollupService.markDirty(METRIC, event.attendanceTime().toLocalDate());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.sleekydz86.support.attendance.service;
 
+import com.sleekydz86.core.statistics.rollup.dto.DailyRollupSummary;
+import com.sleekydz86.core.statistics.rollup.service.DailyRollupService;
 import com.sleekydz86.core.tenant.TenantContext;
 import com.sleekydz86.domain.user.entity.UserEntity;
 import com.sleekydz86.domain.user.repository.UserRepository;
@@ -27,37 +29,21 @@ public class AttendanceStatisticsService {
     private final AttendanceRepository attendanceRepository;
     private final LeaveRepository leaveRepository;
     private final UserRepository userRepository;
+    private final DailyRollupService dailyRollupService;
 
     public AttendanceStatisticsResponse getDailyStatistics(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end = date.atTime(23, 59, 59);
-
-        List<AttendanceEntity> attendances = attendanceRepository
-                .findByAttendanceTime_ValueBetween(start, end);
-
-        return buildStatisticsResponse(attendances, date, null, null, null);
+        return buildStatisticsResponse(tallyOf(date, date), date, null, null, null);
     }
 
     public AttendanceStatisticsResponse getWeeklyStatistics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
-
-        List<AttendanceEntity> attendances = attendanceRepository
-                .findByAttendanceTime_ValueBetween(start, end);
-
-        return buildStatisticsResponse(attendances, null, startDate, endDate, null);
+        return buildStatisticsResponse(tallyOf(startDate, endDate), null, startDate, endDate, null);
     }
 
     public AttendanceStatisticsResponse getMonthlyStatistics(int year, int month) {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
-
-        List<AttendanceEntity> attendances = attendanceRepository
-                .findByAttendanceTime_ValueBetween(start, end);
 
-        return buildStatisticsResponse(attendances, null, startDate, endDate, null);
+        return buildStatisticsResponse(tallyOf(startDate, endDate), null, startDate, endDate, null);
     }
 
     public AttendanceStatisticsResponse getUserStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
@@ -70,7 +56,7 @@ public class AttendanceStatisticsService {
         List<AttendanceEntity> attendances = attendanceRepository
                 .findByUserEntity_IdAndAttendanceTime_ValueBetween(userId, start, end);
 
-        return buildStatisticsResponse(attendances, null,
+        return buildStatisticsResponse(tallyOf(attendances), null,
                 startDate != null ? startDate : start.toLocalDate(),
                 endDate != null ? endDate : end.toLocalDate(),
                 userId);
@@ -81,30 +67,23 @@ public class AttendanceStatisticsService {
             throw new IllegalArgumentException("관리자만 전체 통계를 조회할 수 있습니다.");
         }
 
-        LocalDateTime start = startDate != null ? startDate.atStartOfDay() : LocalDateTime.now().minusMonths(1);
-        LocalDateTime end = endDate != null ? endDate.atTime(23, 59, 59) : LocalDateTime.now();
-
-        List<AttendanceEntity> attendances = attendanceRepository
-                .findByAttendanceTime_ValueBetween(start, end);
+        LocalDate start = startDate != null ? startDate : LocalDate.now().minusMonths(1);
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
 
-        return buildStatisticsResponse(attendances, null,
-                startDate != null ? startDate : start.toLocalDate(),
-                endDate != null ? endDate : end.toLocalDate(),
-                null);
+        return buildStatisticsResponse(tallyOf(start, end), null, start, end, null);
     }
 
-    private AttendanceStatisticsResponse buildStatisticsResponse(
-            List<AttendanceEntity> attendances, LocalDate date, 
-            LocalDate startDate, LocalDate endDate, Long userId) {
-
-        long totalAttendances = attendances.size();
-        long totalCheckIns = attendances.stream()
-                .filter(a -> a.getAttendanceType() == AttendanceType.CHECK_IN)
-                .count();
-        long totalCheckOuts = attendances.stream()
-                .filter(a -> a.getAttendanceType() == AttendanceType.CHECK_OUT)
-                .count();
+    // 전체 통계는 일일 집계를 합산
+    private AttendanceTally tallyOf(LocalDate startDate, LocalDate endDate) {
+        DailyRollupSummary summary = dailyRollupService.summarize(AttendanceRollupSource.METRIC, startDate, endDate);
+        return new AttendanceTally(
+                summary.counts(AttendanceRollupSource.TYPE, AttendanceType::valueOf),
+                summary.amount(AttendanceRollupSource.TYPE, AttendanceType.CHECK_IN.name()),
+                summary.amount(AttendanceRollupSource.TYPE, AttendanceType.CHECK_OUT.name()),
+                summary.amount(AttendanceRollupSource.WORKING, DailyRollupSummary.ALL));
+    }
 
+    private AttendanceTally tallyOf(List<AttendanceEntity> attendances) {
         List<AttendanceEntity> checkIns = attendances.stream()
                 .filter(a -> a.getAttendanceType() == AttendanceType.CHECK_IN)
                 .collect(Collectors.toList());
@@ -128,20 +107,34 @@ public class AttendanceStatisticsService {
         Map<AttendanceType, Long> typeStats = attendances.stream()
                 .collect(Collectors.groupingBy(AttendanceEntity::getAttendanceType, Collectors.counting()));
 
+        long checkInSeconds = checkIns.stream()
+                .mapToLong(a -> a.getAttendanceTime().getValue().toLocalTime().toSecondOfDay())
+                .sum();
+        long checkOutSeconds = checkOuts.stream()
+                .mapToLong(a -> a.getAttendanceTime().getValue().toLocalTime().toSecondOfDay())
+                .sum();
+
+        return new AttendanceTally(typeStats, checkInSeconds, checkOutSeconds, totalWorkingMinutes);
+    }
+
+    private AttendanceStatisticsResponse buildStatisticsResponse(
+            AttendanceTally tally, LocalDate date,
+            LocalDate startDate, LocalDate endDate, Long userId) {
+
+        Map<AttendanceType, Long> typeStats = tally.typeStats();
+        long totalAttendances = typeStats.values().stream().mapToLong(Long::longValue).sum();
+        long totalCheckIns = typeStats.getOrDefault(AttendanceType.CHECK_IN, 0L);
+        long totalCheckOuts = typeStats.getOrDefault(AttendanceType.CHECK_OUT, 0L);
+        long totalWorkingMinutes = tally.totalWorkingMinutes();
+
         LocalTime avgCheckInTime = null;
-        if (!checkIns.isEmpty()) {
-            long totalSeconds = checkIns.stream()
-                    .mapToLong(a -> a.getAttendanceTime().getValue().toLocalTime().toSecondOfDay())
-                    .sum();
-            avgCheckInTime = LocalTime.ofSecondOfDay(totalSeconds / checkIns.size());
+        if (totalCheckIns > 0) {
+            avgCheckInTime = LocalTime.ofSecondOfDay(tally.checkInSeconds() / totalCheckIns);
         }
 
         LocalTime avgCheckOutTime = null;
-        if (!checkOuts.isEmpty()) {
-            long totalSeconds = checkOuts.stream()
-                    .mapToLong(a -> a.getAttendanceTime().getValue().toLocalTime().toSecondOfDay())
-                    .sum();
-            avgCheckOutTime = LocalTime.ofSecondOfDay(totalSeconds / checkOuts.size());
+        if (totalCheckOuts > 0) {
+            avgCheckOutTime = LocalTime.ofSecondOfDay(tally.checkOutSeconds() / totalCheckOuts);
         }
 
         long avgWorkingMinutes = totalCheckIns > 0 ? totalWorkingMinutes / totalCheckIns : 0;
@@ -190,5 +183,12 @@ public class AttendanceStatisticsService {
                 .rejectedLeaves(rejectedLeaves)
                 .build();
     }
-}
 
+    private record AttendanceTally(
+            Map<AttendanceType, Long> typeStats,
+            long checkInSeconds,
+            long checkOutSeconds,
+            long totalWorkingMinutes
+    ) {
+    }
+}
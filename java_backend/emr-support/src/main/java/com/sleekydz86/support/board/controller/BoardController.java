@@ -2,6 +2,7 @@ package com.sleekydz86.support.board.controller;
 
 import com.sleekydz86.core.common.annotation.AuthRole;
 import com.sleekydz86.core.common.annotation.AuthUser;
+import com.sleekydz86.core.file.download.FileDownloadService;
 import com.sleekydz86.support.board.dto.request.BoardCreateRequest;
 import com.sleekydz86.support.board.dto.request.BoardUpdateRequest;
 import com.sleekydz86.support.board.dto.response.BoardDetailResponse;
@@ -9,17 +10,16 @@ import com.sleekydz86.support.board.dto.response.BoardFileResponse;
 import com.sleekydz86.support.board.dto.response.BoardListResponse;
 import com.sleekydz86.support.board.dto.response.BoardResponse;
 import com.sleekydz86.support.board.dto.response.BoardViewerResponse;
+import com.sleekydz86.support.board.entity.BoardFileEntity;
 import com.sleekydz86.support.board.service.BoardService;
 import com.sleekydz86.support.board.type.BoardType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,6 +33,7 @@ import java.util.Map;
 public class BoardController {
 
     private final BoardService boardService;
+    private final FileDownloadService fileDownloadService;
 
     @PostMapping
     @AuthRole
@@ -207,22 +208,16 @@ public class BoardController {
 
     @GetMapping("/files/{fileId}/download")
     @AuthRole
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId) {
+    public void downloadFile(@PathVariable Long fileId, HttpServletRequest request, HttpServletResponse response) throws IOException {
         try {
-            com.sleekydz86.support.board.entity.BoardFileEntity boardFile = 
-                    boardService.getBoardFile(fileId);
-            byte[] fileData = boardService.downloadFile(fileId);
-            
-            ByteArrayResource resource = new ByteArrayResource(fileData);
-            
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                            "attachment; filename=\"" + boardFile.getOriginalFilename() + "\"")
-                    .contentType(MediaType.parseMediaType(boardFile.getContentType() != null ? 
-                            boardFile.getContentType() : "application/octet-stream"))
-                    .body(resource);
+            BoardFileEntity boardFile = boardService.getDownloadableFile(fileId);
+            fileDownloadService.downloadFile(boardFile.getFilePath(), boardFile.getOriginalFilename(),
+                    boardFile.getContentType(), request, response);
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+            }
         }
     }
 
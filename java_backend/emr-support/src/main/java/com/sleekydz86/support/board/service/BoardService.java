@@ -369,7 +369,7 @@ public class BoardService implements BaseService<BoardEntity, Long> {
         boardFileRepository.save(boardFile);
     }
 
-    public byte[] downloadFile(Long fileId) throws IOException {
+    public BoardFileEntity getDownloadableFile(Long fileId) {
         BoardFileEntity boardFile = boardFileRepository.findByFileId(fileId)
                 .orElseThrow(() -> new NotFoundException("파일을 찾을 수 없습니다."));
 
@@ -377,7 +377,7 @@ public class BoardService implements BaseService<BoardEntity, Long> {
             throw new NotFoundException("삭제된 파일입니다.");
         }
 
-        return fileStorageService.readFile(boardFile.getFilePath());
+        return boardFile;
     }
 
     public BoardFileEntity getBoardFile(Long fileId) {
@@ -3,7 +3,11 @@ package com.sleekydz86.support.recess.repository;
 import com.sleekydz86.domain.common.repository.BaseRepository;
 import com.sleekydz86.domain.user.type.RoleType;
 import com.sleekydz86.support.recess.entity.RecessEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -11,5 +15,11 @@ import java.util.List;
 public interface RecessRepository extends BaseRepository<RecessEntity, Long> {
 
     List<RecessEntity> findByUserEntity_Role(RoleType roleType);
+
+    @Query("SELECT r FROM DoctorRecessEntity r WHERE r.userEntity.id IN :userIds " +
+            "AND r.recessStart < :end AND r.recessEnd > :start")
+    List<RecessEntity> findOverlapping(@Param("userIds") Collection<Long> userIds,
+                                       @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end);
 }
 
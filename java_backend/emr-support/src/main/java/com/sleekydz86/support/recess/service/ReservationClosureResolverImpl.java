@@ -0,0 +1,51 @@
+package com.sleekydz86.support.recess.service;
+
+import com.sleekydz86.emrclinical.reservation.dto.ReservationClosedPeriod;
+import com.sleekydz86.emrclinical.reservation.service.ReservationClosureResolver;
+import com.sleekydz86.support.holiday.entity.HolidayEntity;
+import com.sleekydz86.support.holiday.repository.HolidayRepository;
+import com.sleekydz86.support.recess.entity.RecessEntity;
+import com.sleekydz86.support.recess.repository.RecessRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 예약 칸 계산에 쓰는 휴일(병원 전체)과 의사별 휴진 구간
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReservationClosureResolverImpl implements ReservationClosureResolver {
+
+    private final HolidayRepository holidayRepository;
+    private final RecessRepository recessRepository;
+
+    @Override
+    public Set<LocalDate> findClosedDates(LocalDate startDate, LocalDate endDate) {
+        return holidayRepository.findAllByHolidayDateBetween(startDate, endDate).stream()
+                .map(HolidayEntity::getHolidayDate)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<Long, List<ReservationClosedPeriod>> findDoctorRecesses(Collection<Long> doctorIds,
+                                                                      LocalDateTime start, LocalDateTime end) {
+        if (doctorIds.isEmpty()) {
+            return Map.of();
+        }
+        return recessRepository.findOverlapping(doctorIds, start, end).stream()
+                .collect(Collectors.groupingBy(
+                        recess -> recess.getUserEntity().getId(),
+                        Collectors.mapping(this::toPeriod, Collectors.toList())));
+    }
+
+    private ReservationClosedPeriod toPeriod(RecessEntity recess) {
+        return new ReservationClosedPeriod(recess.getRecessStart(), recess.getRecessEnd());
+    }
+}